@@ -1,16 +1,37 @@
 package com.example.demo;
 
+import com.example.demo.assetmanager.CollisionMask;
+import com.example.demo.assetmanager.ImageCache;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Bounds;
 import javafx.scene.image.*;
-
-import java.util.Objects;
+import javafx.scene.transform.Translate;
 
 /**
  * Abstract class representing an active actor in the game.
  * Provides basic structure and behavior for all active actors.
+ * <p>
+ * Actors keep their simulated bounds in world space as primitive fields, whether they move with their layout or
+ * their translation. The fields are recomputed only after the actor has moved or changed size, so collision and
+ * spawning code can read them every tick without building {@link Bounds} objects.
+ * World space is the coordinate space of the level's layers, which all sit at the origin of the scene;
+ * the render offset is left out, as it only changes where the actor is drawn.
  */
 public abstract class ActiveActor extends ImageView {
 
-    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+    // Visual-only offset used to draw the actor between two simulation steps
+    private final Translate renderOffset = new Translate();
+    private double previousX;
+    private double previousY;
+    private CollisionMask collisionMask;
+    private Image collisionMaskImage;
+
+    // Simulated bounds in world space, valid until the actor moves or changes size
+    private double worldMinX;
+    private double worldMinY;
+    private double worldWidth;
+    private double worldHeight;
+    private boolean worldBoundsValid;
 
     /**
      * Constructor for ActiveActor.
@@ -21,12 +42,164 @@ public abstract class ActiveActor extends ImageView {
      * @param initialYPos the initial Y position of the actor
      */
     public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-        // Set the image for the actor using the provided image name
-        this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_LOCATION + imageName)).toExternalForm()));
+        // Share the decoded image with every other actor using the same sprite
+        this.setImage(ImageCache.getInstance().getImage(imageName, imageHeight));
         this.setLayoutX(initialXPos);
         this.setLayoutY(initialYPos);
         this.setFitHeight(imageHeight);
         this.setPreserveRatio(true);
+        this.getTransforms().add(renderOffset);
+        InvalidationListener invalidateWorldBounds = observable -> worldBoundsValid = false;
+        layoutXProperty().addListener(invalidateWorldBounds);
+        layoutYProperty().addListener(invalidateWorldBounds);
+        translateXProperty().addListener(invalidateWorldBounds);
+        translateYProperty().addListener(invalidateWorldBounds);
+        boundsInLocalProperty().addListener(invalidateWorldBounds);
+        capturePreviousPosition();
+    }
+
+    /**
+     * Recomputes the world-space bounds if the actor moved or changed size since they were last read.
+     * Reading the properties here makes them valid again, so the next change invalidates the bounds once more.
+     */
+    private void validateWorldBounds() {
+        if (worldBoundsValid) {
+            return;
+        }
+        Bounds local = getBoundsInLocal();
+        worldMinX = getLayoutX() + getTranslateX() + local.getMinX();
+        worldMinY = getLayoutY() + getTranslateY() + local.getMinY();
+        worldWidth = local.getWidth();
+        worldHeight = local.getHeight();
+        worldBoundsValid = true;
+    }
+
+    /**
+     * Gets the left edge of the actor's simulated bounds in world space.
+     *
+     * @return the minimum X
+     */
+    public double getWorldMinX() {
+        validateWorldBounds();
+        return worldMinX;
+    }
+
+    /**
+     * Gets the top edge of the actor's simulated bounds in world space.
+     *
+     * @return the minimum Y
+     */
+    public double getWorldMinY() {
+        validateWorldBounds();
+        return worldMinY;
+    }
+
+    /**
+     * Gets the right edge of the actor's simulated bounds in world space.
+     *
+     * @return the maximum X
+     */
+    public double getWorldMaxX() {
+        validateWorldBounds();
+        return worldMinX + worldWidth;
+    }
+
+    /**
+     * Gets the bottom edge of the actor's simulated bounds in world space.
+     *
+     * @return the maximum Y
+     */
+    public double getWorldMaxY() {
+        validateWorldBounds();
+        return worldMinY + worldHeight;
+    }
+
+    /**
+     * Gets the width of the actor's bounds.
+     *
+     * @return the width
+     */
+    public double getWorldWidth() {
+        validateWorldBounds();
+        return worldWidth;
+    }
+
+    /**
+     * Gets the height of the actor's bounds.
+     *
+     * @return the height
+     */
+    public double getWorldHeight() {
+        validateWorldBounds();
+        return worldHeight;
+    }
+
+    /**
+     * Records the current simulated position as the start of the next interpolation
+     * and clears the render offset, so the next simulation step sees the true position.
+     */
+    public void capturePreviousPosition() {
+        renderOffset.setX(0);
+        renderOffset.setY(0);
+        previousX = getLayoutX() + getTranslateX();
+        previousY = getLayoutY() + getTranslateY();
+    }
+
+    /**
+     * Draws the actor part-way between its previous and current simulated positions.
+     * Only the render offset changes; the simulated position is left untouched.
+     *
+     * @param alpha how far the display is between the previous step (0) and the current step (1)
+     */
+    public void interpolate(double alpha) {
+        double currentX = getLayoutX() + getTranslateX();
+        double currentY = getLayoutY() + getTranslateY();
+        renderOffset.setX((previousX - currentX) * (1 - alpha));
+        renderOffset.setY((previousY - currentY) * (1 - alpha));
+    }
+
+    /**
+     * Gets how far the actor has moved horizontally since its previous position was captured,
+     * i.e. over the current simulation step.
+     *
+     * @return the horizontal displacement
+     */
+    public double getDisplacementX() {
+        return getLayoutX() + getTranslateX() - previousX;
+    }
+
+    /**
+     * Gets how far the actor has moved vertically since its previous position was captured,
+     * i.e. over the current simulation step.
+     *
+     * @return the vertical displacement
+     */
+    public double getDisplacementY() {
+        return getLayoutY() + getTranslateY() - previousY;
+    }
+
+    /**
+     * Gets the pixel-accurate collision shape of the actor's sprite.
+     * The mask is looked up once the image has finished loading and kept until the image changes.
+     *
+     * @return the collision mask, or null if none is available yet
+     */
+    public CollisionMask getCollisionMask() {
+        Image image = getImage();
+        if (collisionMask == null || collisionMaskImage != image) {
+            collisionMask = ImageCache.getInstance().getCollisionMask(image);
+            collisionMaskImage = image;
+        }
+        return collisionMask;
+    }
+
+    /**
+     * Gets the render offset applied to the actor, so attached nodes such as shields can follow it.
+     *
+     * @return the render offset transform
+     */
+    protected Translate getRenderOffset() {
+        return renderOffset;
     }
 
     /**
@@ -76,6 +76,15 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
         this.isDestroyed = true;
     }
 
+    /**
+     * Brings a destroyed actor back to life so it can be reused.
+     * Clears both the destroyed flag and the cause of destruction.
+     */
+    protected void revive() {
+        this.isDestroyed = false;
+        this.destroyedBy = DestroyedBy.NONE;
+    }
+
     /**
      * Checks if the actor is destroyed.
      *
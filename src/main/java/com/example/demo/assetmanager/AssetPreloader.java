@@ -0,0 +1,197 @@
+package com.example.demo.assetmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads images, fonts and audio ahead of time on background threads.
+ * Assets are registered first and then all loaded at once; every loaded image goes into the {@link ImageCache},
+ * so pages and levels built afterwards are served from memory instead of decoding on the FX thread.
+ * Progress is reported after each asset, which lets a splash screen show how far loading has got.
+ * An asset that fails to load is reported and counted, but does not stop the others.
+ */
+public class AssetPreloader {
+
+    private static final int MAX_THREADS = 4;
+
+    /**
+     * Receives the loading progress. It is called on the loader threads, once per asset.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called when an asset has finished loading, successfully or not.
+         *
+         * @param completed the number of assets finished so far
+         * @param total     the number of assets to load
+         * @param assetName the name of the asset that just finished
+         */
+        void onProgress(int completed, int total, String assetName);
+    }
+
+    /**
+     * One asset to load.
+     */
+    private static final class Asset {
+        private final String name;
+        private final Runnable loader;
+
+        private Asset(String name, Runnable loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+    }
+
+    private final List<Asset> assets = new ArrayList<>();
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+
+    /**
+     * Registers an image to decode at a fixed height with its aspect ratio preserved.
+     *
+     * @param imageName    the file name of the image inside the images folder, or an absolute resource path
+     * @param targetHeight the height the image is displayed at
+     * @return this preloader
+     */
+    public AssetPreloader addImage(String imageName, int targetHeight) {
+        return addImage(imageName, 0, targetHeight, true);
+    }
+
+    /**
+     * Registers an image to decode at the size it is displayed at.
+     *
+     * @param imageName     the file name of the image inside the images folder, or an absolute resource path
+     * @param targetWidth   the width the image is displayed at
+     * @param targetHeight  the height the image is displayed at
+     * @param preserveRatio whether the aspect ratio is preserved when fitting the target size
+     * @return this preloader
+     */
+    public AssetPreloader addImage(String imageName, int targetWidth, int targetHeight, boolean preserveRatio) {
+        return addImage(imageName, targetWidth, targetHeight, preserveRatio, false);
+    }
+
+    /**
+     * Registers an actor sprite to decode at a fixed height with its aspect ratio preserved,
+     * and to build its collision mask once decoded.
+     *
+     * @param imageName    the file name of the sprite inside the images folder, or an absolute resource path
+     * @param targetHeight the height the sprite is displayed at
+     * @return this preloader
+     */
+    public AssetPreloader addSprite(String imageName, int targetHeight) {
+        return addImage(imageName, 0, targetHeight, true, true);
+    }
+
+    /**
+     * Registers an image to decode at the size it is displayed at.
+     *
+     * @param imageName     the file name of the image inside the images folder, or an absolute resource path
+     * @param targetWidth   the width the image is displayed at
+     * @param targetHeight  the height the image is displayed at
+     * @param preserveRatio whether the aspect ratio is preserved when fitting the target size
+     * @param withMask      true to also build the collision mask of the image, for sprites that collide
+     * @return this preloader
+     */
+    public AssetPreloader addImage(String imageName, int targetWidth, int targetHeight, boolean preserveRatio,
+                                   boolean withMask) {
+        return addTask(imageName, () -> {
+            if (ImageCache.getInstance().load(imageName, targetWidth, targetHeight, preserveRatio, withMask).isError()) {
+                throw new IllegalStateException("Image could not be decoded: " + imageName);
+            }
+        });
+    }
+
+    /**
+     * Registers any other loading work, such as fonts or audio.
+     *
+     * @param name   the name shown while the asset loads
+     * @param loader the work that loads the asset
+     * @return this preloader
+     */
+    public AssetPreloader addTask(String name, Runnable loader) {
+        assets.add(new Asset(name, loader));
+        return this;
+    }
+
+    /**
+     * Loads every registered asset on a pool of daemon threads that is shut down once loading is done.
+     *
+     * @param listener receives the progress, on the loader threads
+     * @return a future completed when every asset has finished loading
+     */
+    public CompletableFuture<Void> start(ProgressListener listener) {
+        int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preloader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return start(executor, listener).whenComplete((ignored, error) -> executor.shutdown());
+    }
+
+    /**
+     * Loads every registered asset on the given executor.
+     *
+     * @param executor the executor the assets are loaded on
+     * @param listener receives the progress, on the executor's threads
+     * @return a future completed when every asset has finished loading
+     */
+    public CompletableFuture<Void> start(Executor executor, ProgressListener listener) {
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[assets.size()];
+        for (int i = 0; i < loads.length; i++) {
+            Asset asset = assets.get(i);
+            loads[i] = CompletableFuture.runAsync(() -> load(asset, listener), executor);
+        }
+        return CompletableFuture.allOf(loads);
+    }
+
+    /**
+     * Loads one asset and reports the progress.
+     *
+     * @param asset    the asset
+     * @param listener receives the progress
+     */
+    private void load(Asset asset, ProgressListener listener) {
+        try {
+            asset.loader.run();
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            System.err.println("Failed to preload asset: " + asset.name);
+            e.printStackTrace();
+        }
+        listener.onProgress(completedCount.incrementAndGet(), assets.size(), asset.name);
+    }
+
+    /**
+     * Gets the number of registered assets.
+     *
+     * @return the asset count
+     */
+    public int getAssetCount() {
+        return assets.size();
+    }
+
+    /**
+     * Gets the number of assets that have finished loading, successfully or not.
+     *
+     * @return the completed count
+     */
+    public int getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * Gets the number of assets that failed to load.
+     *
+     * @return the failed count
+     */
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+}
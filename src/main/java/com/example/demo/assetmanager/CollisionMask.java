@@ -0,0 +1,227 @@
+package com.example.demo.assetmanager;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+
+/**
+ * Pixel-accurate collision shape of a sprite at the resolution it is displayed at.
+ * Opaque pixels are packed into one bitset per row, 64 pixels per long, so two masks can be tested
+ * against each other a word at a time. The mask also records the tight box around its opaque pixels,
+ * which replaces the full image rectangle in the collision broadphase.
+ * Masks are immutable and shared by every actor showing the same decoded image.
+ */
+public final class CollisionMask {
+
+    /**
+     * Pixels with at least this alpha (out of 255) are solid.
+     */
+    public static final int ALPHA_THRESHOLD = 128;
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+    private int tightMinX;
+    private int tightMinY;
+    private int tightMaxX;
+    private int tightMaxY;
+
+    /**
+     * Builds a mask from ARGB pixels.
+     *
+     * @param width  the width of the pixel data
+     * @param height the height of the pixel data
+     * @param argb   the pixels, row by row
+     */
+    private CollisionMask(int width, int height, int[] argb) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + BITS_PER_WORD - 1) / BITS_PER_WORD;
+        this.bits = new long[wordsPerRow * height];
+        tightMinX = width;
+        tightMinY = height;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (argb[y * width + x] >>> 24 >= ALPHA_THRESHOLD) {
+                    bits[y * wordsPerRow + x / BITS_PER_WORD] |= 1L << (x % BITS_PER_WORD);
+                    tightMinX = Math.min(tightMinX, x);
+                    tightMinY = Math.min(tightMinY, y);
+                    tightMaxX = Math.max(tightMaxX, x + 1);
+                    tightMaxY = Math.max(tightMaxY, y + 1);
+                }
+            }
+        }
+        if (tightMinX > tightMaxX) {
+            tightMinX = 0;
+            tightMinY = 0;
+        }
+    }
+
+    /**
+     * Builds a mask from ARGB pixels.
+     *
+     * @param width  the width of the pixel data
+     * @param height the height of the pixel data
+     * @param argb   the pixels, row by row
+     * @return the mask
+     */
+    public static CollisionMask fromArgb(int width, int height, int[] argb) {
+        if (argb.length < width * height) {
+            throw new IllegalArgumentException("Expected " + width * height + " pixels but got " + argb.length);
+        }
+        return new CollisionMask(width, height, argb);
+    }
+
+    /**
+     * Builds the mask of a fully loaded image.
+     *
+     * @param image the decoded image
+     * @return the mask, or null if the image's pixels cannot be read
+     */
+    public static CollisionMask fromImage(Image image) {
+        PixelReader reader = image.getPixelReader();
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        if (reader == null || width <= 0 || height <= 0) {
+            return null;
+        }
+        int[] argb = new int[width * height];
+        reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+        return new CollisionMask(width, height, argb);
+    }
+
+    /**
+     * Checks whether a pixel is solid.
+     *
+     * @param x the column of the pixel
+     * @param y the row of the pixel
+     * @return true if the pixel is inside the mask and opaque
+     */
+    public boolean isSolid(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return (bits[y * wordsPerRow + x / BITS_PER_WORD] & (1L << (x % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * Checks whether any solid pixel of this mask lies on a solid pixel of another mask.
+     * Only the overlap of the two tight boxes is visited, 64 pixels at a time.
+     *
+     * @param other   the other mask
+     * @param offsetX the column of this mask where the other mask's left edge lies
+     * @param offsetY the row of this mask where the other mask's top edge lies
+     * @return true if the masks overlap
+     */
+    public boolean overlaps(CollisionMask other, int offsetX, int offsetY) {
+        int startX = Math.max(tightMinX, other.tightMinX + offsetX);
+        int endX = Math.min(tightMaxX, other.tightMaxX + offsetX);
+        int startY = Math.max(tightMinY, other.tightMinY + offsetY);
+        int endY = Math.min(tightMaxY, other.tightMaxY + offsetY);
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x += BITS_PER_WORD) {
+                int count = Math.min(BITS_PER_WORD, endX - x);
+                if ((readBits(y, x, count) & other.readBits(y - offsetY, x - offsetX, count)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads a run of up to 64 pixels of a row, the first pixel in the lowest bit.
+     *
+     * @param row   the row to read
+     * @param start the first column to read
+     * @param count the number of pixels to read
+     * @return the pixels as bits
+     */
+    private long readBits(int row, int start, int count) {
+        int base = row * wordsPerRow;
+        int word = start / BITS_PER_WORD;
+        int shift = start % BITS_PER_WORD;
+        long value = bits[base + word] >>> shift;
+        if (shift != 0 && word + 1 < wordsPerRow) {
+            value |= bits[base + word + 1] << (BITS_PER_WORD - shift);
+        }
+        return count == BITS_PER_WORD ? value : value & ((1L << count) - 1);
+    }
+
+    /**
+     * Checks whether the mask was built at the size a sprite is being displayed at.
+     *
+     * @param displayWidth  the displayed width of the sprite
+     * @param displayHeight the displayed height of the sprite
+     * @return true if the sizes match to within half a pixel
+     */
+    public boolean matchesSize(double displayWidth, double displayHeight) {
+        return Math.abs(displayWidth - width) <= 0.5 && Math.abs(displayHeight - height) <= 0.5;
+    }
+
+    /**
+     * Gets the width of the mask.
+     *
+     * @return the width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the mask.
+     *
+     * @return the height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the first column holding a solid pixel.
+     *
+     * @return the left edge of the tight box
+     */
+    public int getTightMinX() {
+        return tightMinX;
+    }
+
+    /**
+     * Gets the first row holding a solid pixel.
+     *
+     * @return the top edge of the tight box
+     */
+    public int getTightMinY() {
+        return tightMinY;
+    }
+
+    /**
+     * Gets the column just right of the last solid pixel.
+     *
+     * @return the right edge of the tight box
+     */
+    public int getTightMaxX() {
+        return tightMaxX;
+    }
+
+    /**
+     * Gets the row just below the last solid pixel.
+     *
+     * @return the bottom edge of the tight box
+     */
+    public int getTightMaxY() {
+        return tightMaxY;
+    }
+
+    /**
+     * Checks whether the mask has no solid pixel at all.
+     *
+     * @return true if every pixel is transparent
+     */
+    public boolean isEmpty() {
+        return tightMaxX == 0;
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.demo.assetmanager;
+
+import javafx.scene.image.Image;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide cache of decoded sprite images.
+ * Every actor showing the same sprite at the same size shares one already-decoded Image,
+ * so spawning enemies and firing projectiles no longer decode images from the classpath.
+ * Images are decoded at the size they are displayed at rather than at their source resolution,
+ * which keeps both the heap and the uploaded textures small.
+ * Actor sprites loaded by the splash screen have their collision mask built along with the image,
+ * so no mask is built in the middle of a game; backgrounds, buttons and other images that never collide
+ * do not pay for one.
+ * Implements a singleton pattern to ensure a single instance.
+ */
+public class ImageCache {
+
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static ImageCache instance;
+
+    private final Map<String, Image> images = new ConcurrentHashMap<>();
+    private final Set<Image> cachedImages = ConcurrentHashMap.newKeySet();
+    private final Map<Image, CollisionMask> collisionMasks = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong byteSize = new AtomicLong();
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private ImageCache() {
+    }
+
+    /**
+     * Provides access to the singleton instance.
+     *
+     * @return the singleton instance of ImageCache
+     */
+    public static synchronized ImageCache getInstance() {
+        if (instance == null) {
+            instance = new ImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the shared image for a sprite displayed at a fixed height with its aspect ratio preserved.
+     * The image is decoded on the first request only.
+     *
+     * @param imageName    the file name of the sprite inside the images folder, or an absolute resource path
+     * @param targetHeight the height the sprite is displayed at
+     * @return the shared decoded image
+     */
+    public Image getImage(String imageName, int targetHeight) {
+        return getImage(imageName, 0, targetHeight, true);
+    }
+
+    /**
+     * Returns the shared image decoded at the size it is displayed at.
+     * The image is decoded on the first request only, before this method returns;
+     * use {@link #preload(String, int, int, boolean)} to decode it ahead of time instead.
+     * A target width or height of 0 (or less) keeps the source size along that axis.
+     *
+     * @param imageName     the file name of the image inside the images folder, or an absolute resource path
+     * @param targetWidth   the width the image is displayed at
+     * @param targetHeight  the height the image is displayed at
+     * @param preserveRatio whether the aspect ratio is preserved when fitting the target size
+     * @return the shared decoded image
+     */
+    public Image getImage(String imageName, int targetWidth, int targetHeight, boolean preserveRatio) {
+        String key = createKey(imageName, targetWidth, targetHeight, preserveRatio);
+        Image image = images.get(key);
+        if (image != null) {
+            hitCount.incrementAndGet();
+            return image;
+        }
+        return images.computeIfAbsent(key, k -> decode(imageName, targetWidth, targetHeight, preserveRatio, false));
+    }
+
+    /**
+     * Decodes a sprite ahead of time so that the first actor using it does not stall the FX thread.
+     *
+     * @param imageName    the file name of the sprite inside the images folder, or an absolute resource path
+     * @param targetHeight the height the sprite is displayed at
+     */
+    public void preload(String imageName, int targetHeight) {
+        preload(imageName, 0, targetHeight, true);
+    }
+
+    /**
+     * Decodes an image ahead of time at the size it is displayed at.
+     *
+     * @param imageName     the file name of the image inside the images folder, or an absolute resource path
+     * @param targetWidth   the width the image is displayed at
+     * @param targetHeight  the height the image is displayed at
+     * @param preserveRatio whether the aspect ratio is preserved when fitting the target size
+     */
+    public void preload(String imageName, int targetWidth, int targetHeight, boolean preserveRatio) {
+        images.computeIfAbsent(createKey(imageName, targetWidth, targetHeight, preserveRatio),
+                k -> decode(imageName, targetWidth, targetHeight, preserveRatio, true));
+    }
+
+    /**
+     * Decodes an image on the calling thread and caches it at the size it is displayed at.
+     * Unlike {@link #preload(String, int, int, boolean)}, the image is fully decoded when this method returns,
+     * so it is meant to be called from a loader thread rather than the FX thread.
+     *
+     * @param imageName     the file name of the image inside the images folder, or an absolute resource path
+     * @param targetWidth   the width the image is displayed at
+     * @param targetHeight  the height the image is displayed at
+     * @param preserveRatio whether the aspect ratio is preserved when fitting the target size
+     * @return the shared decoded image
+     */
+    public Image load(String imageName, int targetWidth, int targetHeight, boolean preserveRatio) {
+        return load(imageName, targetWidth, targetHeight, preserveRatio, false);
+    }
+
+    /**
+     * Decodes an image on the calling thread and caches it, optionally building its collision mask as well.
+     * Meant for actor sprites, so their masks are ready before any game asks for them.
+     *
+     * @param imageName     the file name of the image inside the images folder, or an absolute resource path
+     * @param targetWidth   the width the image is displayed at
+     * @param targetHeight  the height the image is displayed at
+     * @param preserveRatio whether the aspect ratio is preserved when fitting the target size
+     * @param withMask      true to build the collision mask of the decoded image
+     * @return the shared decoded image
+     */
+    public Image load(String imageName, int targetWidth, int targetHeight, boolean preserveRatio, boolean withMask) {
+        Image image = images.computeIfAbsent(createKey(imageName, targetWidth, targetHeight, preserveRatio),
+                k -> decode(imageName, targetWidth, targetHeight, preserveRatio, false));
+        if (withMask) {
+            getCollisionMask(image);
+        }
+        return image;
+    }
+
+    /**
+     * Formats how much decoded texture memory the cache holds now compared to before a level warmed it.
+     *
+     * @param label       the name of the level or screen that warmed the cache
+     * @param bytesBefore the decoded size in bytes before warming
+     * @return the report line
+     */
+    public String formatTextureMemory(String label, long bytesBefore) {
+        long bytesAfter = byteSize.get();
+        return String.format("textures (%s): %d KB -> %d KB (+%d KB, %d images)%n",
+                label, bytesBefore / 1024, bytesAfter / 1024, (bytesAfter - bytesBefore) / 1024, images.size());
+    }
+
+    /**
+     * Decodes an image from the classpath at the requested size and updates the miss and byte-size counters.
+     *
+     * @param imageName     the file name of the image inside the images folder, or an absolute resource path
+     * @param targetWidth   the width to decode at, or 0 to keep the source width
+     * @param targetHeight  the height to decode at, or 0 to keep the source height
+     * @param preserveRatio whether the aspect ratio is preserved when fitting the target size
+     * @param background    true to decode on the JavaFX loader threads, false to decode before returning
+     * @return the decoded image
+     */
+    private Image decode(String imageName, int targetWidth, int targetHeight, boolean preserveRatio, boolean background) {
+        missCount.incrementAndGet();
+        String path = resolvePath(imageName);
+        String url = Objects.requireNonNull(getClass().getResource(path), "Image resource not found: " + path).toExternalForm();
+        Image image = new Image(url, Math.max(targetWidth, 0), Math.max(targetHeight, 0), preserveRatio, background);
+        cachedImages.add(image);
+        // The size of a background load is only known once it finishes
+        AtomicBoolean loaded = new AtomicBoolean();
+        Runnable onLoaded = () -> {
+            if (loaded.compareAndSet(false, true)) {
+                onImageLoaded(image);
+            }
+        };
+        // Listen before checking, so a load finishing in between is not missed
+        image.progressProperty().addListener((observable, oldProgress, newProgress) -> {
+            if (newProgress.doubleValue() >= 1) {
+                onLoaded.run();
+            }
+        });
+        if (image.getProgress() >= 1) {
+            onLoaded.run();
+        }
+        return image;
+    }
+
+    /**
+     * Counts the decoded size of an image that has finished loading.
+     *
+     * @param image the loaded image
+     */
+    private void onImageLoaded(Image image) {
+        if (!image.isError()) {
+            byteSize.addAndGet((long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL);
+        }
+    }
+
+    /**
+     * Returns the collision mask of an image returned by this cache.
+     * Sprites loaded with a mask already have one; any other image has its mask built on the first request,
+     * which only happens for sprites that skipped the splash screen, such as in headless simulations.
+     *
+     * @param image the image
+     * @return the mask, or null if the image is still loading, failed to load or did not come from this cache
+     */
+    public CollisionMask getCollisionMask(Image image) {
+        if (image == null || image.getProgress() < 1 || image.isError() || !cachedImages.contains(image)) {
+            return null;
+        }
+        return collisionMasks.computeIfAbsent(image, CollisionMask::fromImage);
+    }
+
+    /**
+     * Resolves an image name to its classpath location.
+     *
+     * @param imageName the file name of the image inside the images folder, or an absolute resource path
+     * @return the absolute resource path of the image
+     */
+    private static String resolvePath(String imageName) {
+        return imageName.startsWith("/") ? imageName : IMAGE_LOCATION + imageName;
+    }
+
+    /**
+     * Builds the cache key for an image at a given size.
+     *
+     * @param imageName     the file name of the image
+     * @param targetWidth   the width the image is displayed at
+     * @param targetHeight  the height the image is displayed at
+     * @param preserveRatio whether the aspect ratio is preserved
+     * @return the cache key
+     */
+    private static String createKey(String imageName, int targetWidth, int targetHeight, boolean preserveRatio) {
+        return resolvePath(imageName) + '@' + Math.max(targetWidth, 0) + 'x' + Math.max(targetHeight, 0)
+                + (preserveRatio ? "" : "!");
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of requests that had to decode an image.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the approximate memory held by the decoded images, assuming 4 bytes per pixel.
+     * Images still loading in the background are counted once they finish.
+     *
+     * @return the decoded size in bytes
+     */
+    public long getByteSize() {
+        return byteSize.get();
+    }
+
+    /**
+     * Gets the number of distinct sprites currently cached.
+     *
+     * @return the number of cached images
+     */
+    public int getCachedImageCount() {
+        return images.size();
+    }
+
+    /**
+     * Gets the number of collision masks built so far.
+     *
+     * @return the number of collision masks
+     */
+    public int getCollisionMaskCount() {
+        return collisionMasks.size();
+    }
+
+    /**
+     * Removes every cached image and resets the counters.
+     */
+    public void clear() {
+        images.clear();
+        cachedImages.clear();
+        collisionMasks.clear();
+        hitCount.set(0);
+        missCount.set(0);
+        byteSize.set(0);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.demo.assetmanager;
+
+import com.example.demo.gamemanager.Histogram;
+import javafx.scene.media.AudioClip;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Plays short sound effects from clips decoded once into memory.
+ * Each effect owns a fixed number of voices; a voice is one {@link AudioClip} playing one sound at a time.
+ * When every voice of an effect is busy, the voice that started playing first is stopped and reused,
+ * so rapid fire never queues up sounds or allocates new players.
+ */
+public class SoundEffectEngine {
+
+    private static final String AUDIO_LOCATION = "/com/example/demo/audios/";
+
+    /**
+     * The voices of one effect.
+     */
+    private static final class Effect {
+        private final AudioClip[] voices;
+        private final long[] startNanos;
+
+        private Effect(AudioClip[] voices) {
+            this.voices = voices;
+            this.startNanos = new long[voices.length];
+        }
+    }
+
+    private final int voicesPerEffect;
+    private final Function<String, AudioClip> clipLoader;
+    private final Map<String, Effect> effects = new HashMap<>();
+    private final Histogram playLatency = new Histogram();
+    private long playCount;
+    private long stolenVoiceCount;
+    private long missingEffectCount;
+
+    /**
+     * Constructs a new SoundEffectEngine loading clips from the audios folder.
+     *
+     * @param voicesPerEffect the number of copies of each effect that can play at once
+     */
+    public SoundEffectEngine(int voicesPerEffect) {
+        this(voicesPerEffect, SoundEffectEngine::loadClip);
+    }
+
+    /**
+     * Constructs a new SoundEffectEngine with a custom clip loader.
+     *
+     * @param voicesPerEffect the number of copies of each effect that can play at once
+     * @param clipLoader      creates a clip for a file name, or returns null if the file does not exist
+     */
+    SoundEffectEngine(int voicesPerEffect, Function<String, AudioClip> clipLoader) {
+        if (voicesPerEffect < 1) {
+            throw new IllegalArgumentException("voicesPerEffect must be at least 1");
+        }
+        this.voicesPerEffect = voicesPerEffect;
+        this.clipLoader = clipLoader;
+    }
+
+    /**
+     * Decodes an effect ahead of time so the first play does not wait for loading.
+     *
+     * @param fileName the name of the sound effect file inside the audios folder
+     * @return true if the effect is ready to play, false if the file was not found
+     */
+    public boolean preload(String fileName) {
+        return getEffect(fileName) != null;
+    }
+
+    /**
+     * Plays an effect on a free voice, stealing the oldest voice if all are busy.
+     *
+     * @param fileName the name of the sound effect file inside the audios folder
+     * @param volume   the playback volume, between 0 and 1
+     */
+    public void play(String fileName, double volume) {
+        Effect effect = getEffect(fileName);
+        if (effect == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        int voice = -1;
+        int oldest = 0;
+        for (int i = 0; i < effect.voices.length; i++) {
+            if (!effect.voices[i].isPlaying()) {
+                voice = i;
+                break;
+            }
+            if (effect.startNanos[i] < effect.startNanos[oldest]) {
+                oldest = i;
+            }
+        }
+        if (voice < 0) {
+            voice = oldest;
+            effect.voices[voice].stop();
+            stolenVoiceCount++;
+        }
+        effect.voices[voice].play(volume);
+        effect.startNanos[voice] = now;
+        playCount++;
+        playLatency.record(System.nanoTime() - now);
+    }
+
+    /**
+     * Stops every playing voice of every effect.
+     */
+    public void stopAll() {
+        for (Effect effect : effects.values()) {
+            for (AudioClip voice : effect.voices) {
+                voice.stop();
+            }
+        }
+    }
+
+    /**
+     * Returns the voices of an effect, loading them on first use.
+     *
+     * @param fileName the name of the sound effect file
+     * @return the effect, or null if the file was not found
+     */
+    private Effect getEffect(String fileName) {
+        Effect effect = effects.get(fileName);
+        if (effect != null || effects.containsKey(fileName)) {
+            return effect;
+        }
+        AudioClip[] voices = new AudioClip[voicesPerEffect];
+        for (int i = 0; i < voicesPerEffect; i++) {
+            voices[i] = clipLoader.apply(fileName);
+            if (voices[i] == null) {
+                System.err.println("Sound effect file not found: " + fileName);
+                missingEffectCount++;
+                effects.put(fileName, null); // Remember the miss so it is reported once
+                return null;
+            }
+        }
+        effect = new Effect(voices);
+        effects.put(fileName, effect);
+        return effect;
+    }
+
+    /**
+     * Loads a clip from the audios folder.
+     *
+     * @param fileName the name of the sound effect file
+     * @return the clip, or null if the file was not found
+     */
+    private static AudioClip loadClip(String fileName) {
+        URL resource = SoundEffectEngine.class.getResource(AUDIO_LOCATION + fileName);
+        return resource != null ? new AudioClip(resource.toExternalForm()) : null;
+    }
+
+    /**
+     * Returns how many effects were played.
+     *
+     * @return the play count
+     */
+    public long getPlayCount() {
+        return playCount;
+    }
+
+    /**
+     * Returns how many playing voices were cut off to make room for a new sound.
+     *
+     * @return the number of stolen voices
+     */
+    public long getStolenVoiceCount() {
+        return stolenVoiceCount;
+    }
+
+    /**
+     * Returns how many requested effect files could not be found.
+     *
+     * @return the number of missing effects
+     */
+    public long getMissingEffectCount() {
+        return missingEffectCount;
+    }
+
+    /**
+     * Returns the time taken to hand each sound to the audio system, in nanoseconds.
+     *
+     * @return the play latency histogram
+     */
+    public Histogram getPlayLatency() {
+        return playLatency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SoundEffectEngine[plays=%d, stolen=%d, missing=%d, latency p50=%dus p99=%dus]",
+                playCount, stolenVoiceCount, missingEffectCount,
+                playLatency.getPercentile(50) / 1_000, playLatency.getPercentile(99) / 1_000);
+    }
+}
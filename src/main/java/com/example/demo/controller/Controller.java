@@ -6,7 +6,8 @@ import java.util.Observable;
 import java.util.Observer;
 
 import com.example.demo.level.LevelParent;
-import com.example.demo.mainmenu.MainMenu;
+import com.example.demo.level.LevelPrefetcher;
+import com.example.demo.mainmenu.MenuNavigator;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
@@ -24,6 +25,12 @@ public class Controller implements Observer {
  // Keep a reference to the current LevelParent
  private LevelParent currentLevel;
 
+ // Builds the next level while the win overlay is showing
+ private final LevelPrefetcher levelPrefetcher = new LevelPrefetcher();
+
+ // Keeps the menu pages, so returning from a level does not rebuild them
+ private final MenuNavigator menuNavigator;
+
  /**
   * Constructor for the Controller class.
   *
@@ -31,6 +38,16 @@ public class Controller implements Observer {
   */
  public Controller(Stage stage) {
   this.stage = stage;
+  this.menuNavigator = new MenuNavigator(stage, this);
+ }
+
+ /**
+  * Gets the navigator that moves between the menu pages.
+  *
+  * @return the menu navigator
+  */
+ MenuNavigator getMenuNavigator() {
+  return menuNavigator;
  }
 
  /**
@@ -80,10 +97,15 @@ public class Controller implements Observer {
   if (currentLevel != null) {
    currentLevel.stopGame();
   }
-  Class<?> myClass = Class.forName(className);
-  Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-  LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
+  // Use the level built while the win overlay was showing; anything else prefetched is dropped
+  LevelParent myLevel = levelPrefetcher.take(className);
+  if (myLevel == null) {
+   Class<?> myClass = Class.forName(className);
+   Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
+   myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
+  }
   myLevel.addObserver(this);
+  myLevel.setLevelPrefetcher(levelPrefetcher);
   Scene scene = myLevel.initializeScene();
   stage.setScene(scene);
   currentLevel = myLevel;
@@ -135,14 +157,15 @@ public class Controller implements Observer {
   */
  private void showMainMenu() {
   try {
+   // The player left instead of going on, so drop any level built in advance
+   levelPrefetcher.cancel();
    // If there's a current level running, stop it before showing main menu
    if (currentLevel != null) {
     currentLevel.stopGame();
     currentLevel = null; // Remove the reference
    }
 
-   MainMenu mainMenu = new MainMenu(stage, this);
-   mainMenu.show();
+   menuNavigator.showMainMenu();
   } catch (Exception e) {
    showAlert(e);
   }
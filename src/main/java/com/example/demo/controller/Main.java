@@ -2,8 +2,7 @@ package com.example.demo.controller;
 
 import java.lang.reflect.InvocationTargetException;
 
-import com.example.demo.mainmenu.MainMenu;
-import com.example.demo.mainmenumanager.SettingsManager;
+import com.example.demo.mainmenu.SplashScreen;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -40,11 +39,9 @@ public class Main extends Application {
   stage.setWidth(SCREEN_WIDTH);
   myController = new Controller(stage);
 
-  // Start background music
-  SettingsManager.getInstance().playMusic();
-
-  MainMenu mainMenu = new MainMenu(stage, myController);
-  mainMenu.show();
+  // Load every asset in the background, then open the main menu and start the music
+  SplashScreen splashScreen = new SplashScreen(stage, myController.getMenuNavigator());
+  splashScreen.show();
  }
 
  /**
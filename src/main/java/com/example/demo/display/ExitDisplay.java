@@ -1,8 +1,8 @@
 package com.example.demo.display;
 
+import com.example.demo.assetmanager.ImageCache;
 import com.example.demo.overlay.ExitOverlay;
 import javafx.scene.Cursor;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
@@ -58,7 +58,7 @@ public class ExitDisplay {
      * Initializes the exit button and its event handlers.
      */
     private void initializeExit() {
-        ImageView exit = new ImageView(new Image(getClass().getResource(EXIT_IMAGE_NAME).toExternalForm()));
+        ImageView exit = new ImageView(ImageCache.getInstance().getImage(EXIT_IMAGE_NAME, EXIT_HEIGHT));
         exit.setFitHeight(EXIT_HEIGHT);
         exit.setPreserveRatio(true);
         container.getChildren().add(exit);
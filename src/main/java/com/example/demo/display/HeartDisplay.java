@@ -1,11 +1,10 @@
 package com.example.demo.display;
 
+import com.example.demo.assetmanager.ImageCache;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
-import java.util.Objects;
-
 /**
  * Class representing the heart display in the game.
  * Manages the display of heart images to indicate lives or health.
@@ -51,9 +50,7 @@ public class HeartDisplay {
         Image heartImage;
         try {
             // Ensure the resource is not null
-            heartImage = new Image(Objects.requireNonNull(getClass().getResource(HEART_IMAGE_NAME),
-                    "Heart image resource not found: " + HEART_IMAGE_NAME
-            ).toExternalForm());
+            heartImage = ImageCache.getInstance().getImage(HEART_IMAGE_NAME, HEART_HEIGHT);
         } catch (NullPointerException e) {
             System.err.println(e.getMessage());
             e.printStackTrace();
@@ -0,0 +1,73 @@
+package com.example.demo.display;
+
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * Class representing the on-screen frame profiler report.
+ * Shows per-phase tick timings and entity counts in a monospaced block of text.
+ */
+public class ProfilerDisplay {
+
+    private static final int FONT_SIZE = 12;
+    private final Text text;
+
+    /**
+     * Constructor for ProfilerDisplay.
+     *
+     * @param xPosition the x position of the report
+     * @param yPosition the y position of the report
+     */
+    public ProfilerDisplay(double xPosition, double yPosition) {
+        text = new Text();
+        text.setX(xPosition);
+        text.setY(yPosition);
+        text.setFont(Font.font("Monospaced", FontWeight.BOLD, FONT_SIZE));
+        text.setFill(Color.LIMEGREEN);
+        text.setStroke(Color.BLACK);
+        text.setStrokeWidth(0.3);
+        text.setMouseTransparent(true);
+        text.setVisible(false);
+    }
+
+    /**
+     * Replaces the report shown on screen.
+     *
+     * @param report the formatted profiler report
+     */
+    public void update(String report) {
+        text.setText(report);
+    }
+
+    /**
+     * Shows or hides the report.
+     *
+     * @param visible true to show the report
+     */
+    public void setVisible(boolean visible) {
+        text.setVisible(visible);
+        if (visible) {
+            text.toFront();
+        }
+    }
+
+    /**
+     * Checks if the report is shown.
+     *
+     * @return true if the report is visible
+     */
+    public boolean isVisible() {
+        return text.isVisible();
+    }
+
+    /**
+     * Gets the node holding the report.
+     *
+     * @return the text node
+     */
+    public Text getContainer() {
+        return text;
+    }
+}
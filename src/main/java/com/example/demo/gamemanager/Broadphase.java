@@ -0,0 +1,305 @@
+package com.example.demo.gamemanager;
+
+import com.example.demo.ActiveActorDestructible;
+import com.example.demo.assetmanager.CollisionMask;
+import com.example.demo.projectile.ProjectileStore;
+import javafx.geometry.Bounds;
+
+import java.util.List;
+
+/**
+ * Collision broadphase holding the cached bounds of one actor list for the current tick.
+ * Entries are numbered in the order of the list the broadphase was built from,
+ * and query results are always reported in that order, so the first hit of a query
+ * is the same whichever implementation is used.
+ * Each entry also records how far it moved during the tick, and intersection tests are continuous:
+ * two boxes hit if they overlap at any moment of the tick's motion, so fast or thin actors
+ * cannot pass through each other between ticks.
+ * Actors with a collision mask are entered with the tight box around their opaque pixels instead of
+ * their full image rectangle; {@link Narrowphase} then compares the masks of the pairs a query reports.
+ */
+public interface Broadphase {
+
+    /**
+     * Rebuilds the broadphase from the given actors, caching each actor's bounds in its parent.
+     *
+     * @param actorList The actors to insert.
+     */
+    default void build(List<? extends ActiveActorDestructible> actorList) {
+        build(actorList, null);
+    }
+
+    /**
+     * Rebuilds the broadphase from the given actors, reading the bounds of stored projectiles from their store
+     * and the bounds of every other actor from the scene graph, shrunk to the tight box of their collision mask.
+     *
+     * @param actorList       The actors to insert.
+     * @param projectileStore The store simulating the projectiles, or null.
+     */
+    void build(List<? extends ActiveActorDestructible> actorList, ProjectileStore projectileStore);
+
+    /**
+     * Finds the active entries whose motion this tick brings them into contact with the given stationary box.
+     * Results are sorted by entry index and can be read with {@link #getResult(int)}.
+     *
+     * @param queryMinX The minimum X of the box.
+     * @param queryMinY The minimum Y of the box.
+     * @param queryMaxX The maximum X of the box.
+     * @param queryMaxY The maximum Y of the box.
+     * @return The number of intersecting entries.
+     */
+    default int query(double queryMinX, double queryMinY, double queryMaxX, double queryMaxY) {
+        return query(queryMinX, queryMinY, queryMaxX, queryMaxY, 0, 0);
+    }
+
+    /**
+     * Finds the active entries that touch a moving box at some moment of this tick.
+     * The box is given at its position at the end of the tick, together with how far it moved during the tick.
+     * Results are sorted by entry index and can be read with {@link #getResult(int)}.
+     *
+     * @param queryMinX          The minimum X of the box.
+     * @param queryMinY          The minimum Y of the box.
+     * @param queryMaxX          The maximum X of the box.
+     * @param queryMaxY          The maximum Y of the box.
+     * @param queryDisplacementX How far the box moved horizontally during the tick.
+     * @param queryDisplacementY How far the box moved vertically during the tick.
+     * @return The number of intersecting entries.
+     */
+    int query(double queryMinX, double queryMinY, double queryMaxX, double queryMaxY,
+              double queryDisplacementX, double queryDisplacementY);
+
+    /**
+     * Finds the active entries that touch an entry of another broadphase at some moment of this tick.
+     *
+     * @param other The broadphase holding the querying entry.
+     * @param entry The index of the querying entry in the other broadphase.
+     * @return The number of intersecting entries.
+     */
+    default int query(Broadphase other, int entry) {
+        return query(other.getMinX(entry), other.getMinY(entry), other.getMaxX(entry), other.getMaxY(entry),
+                other.getDisplacementX(entry), other.getDisplacementY(entry));
+    }
+
+    /**
+     * Returns the entry index of a result from the last query.
+     *
+     * @param index The position in the result list.
+     * @return The entry index.
+     */
+    int getResult(int index);
+
+    /**
+     * Returns the actor of a result from the last query.
+     *
+     * @param index The position in the result list.
+     * @return The intersecting actor.
+     */
+    default ActiveActorDestructible getResultActor(int index) {
+        return getActor(getResult(index));
+    }
+
+    /**
+     * Returns the number of entries, including deactivated ones.
+     *
+     * @return The number of entries.
+     */
+    int size();
+
+    /**
+     * Returns the actor stored at an entry.
+     *
+     * @param entry The entry index.
+     * @return The actor.
+     */
+    ActiveActorDestructible getActor(int entry);
+
+    /**
+     * Checks whether an entry still takes part in queries.
+     *
+     * @param entry The entry index.
+     * @return True if the entry is active.
+     */
+    boolean isActive(int entry);
+
+    /**
+     * Removes an entry from further queries this tick, e.g. after its actor left the list mid-tick.
+     *
+     * @param entry The entry index.
+     */
+    void deactivate(int entry);
+
+    /**
+     * Returns the cached minimum X of an entry.
+     *
+     * @param entry The entry index.
+     * @return The minimum X.
+     */
+    double getMinX(int entry);
+
+    /**
+     * Returns the cached minimum Y of an entry.
+     *
+     * @param entry The entry index.
+     * @return The minimum Y.
+     */
+    double getMinY(int entry);
+
+    /**
+     * Returns the cached maximum X of an entry.
+     *
+     * @param entry The entry index.
+     * @return The maximum X.
+     */
+    double getMaxX(int entry);
+
+    /**
+     * Returns the cached maximum Y of an entry.
+     *
+     * @param entry The entry index.
+     * @return The maximum Y.
+     */
+    double getMaxY(int entry);
+
+    /**
+     * Returns the collision mask of an entry, aligned so that its tight box matches the entry's cached bounds.
+     *
+     * @param entry The entry index.
+     * @return The mask, or null if the entry collides as a plain box.
+     */
+    CollisionMask getMask(int entry);
+
+    /**
+     * Returns how far an entry moved horizontally during the tick.
+     *
+     * @param entry The entry index.
+     * @return The horizontal displacement.
+     */
+    double getDisplacementX(int entry);
+
+    /**
+     * Returns how far an entry moved vertically during the tick.
+     *
+     * @param entry The entry index.
+     * @return The vertical displacement.
+     */
+    double getDisplacementY(int entry);
+
+    /**
+     * Checks whether two entries touch at some moment of the tick.
+     *
+     * @param entry      The entry index in this broadphase.
+     * @param other      The broadphase holding the other entry.
+     * @param otherEntry The entry index in the other broadphase.
+     * @return True if the entries touch during the tick.
+     */
+    default boolean intersects(int entry, Broadphase other, int otherEntry) {
+        return intersects(entry, other.getMinX(otherEntry), other.getMinY(otherEntry),
+                other.getMaxX(otherEntry), other.getMaxY(otherEntry),
+                other.getDisplacementX(otherEntry), other.getDisplacementY(otherEntry));
+    }
+
+    /**
+     * Checks whether an entry touches the given stationary bounds at some moment of the tick.
+     *
+     * @param entry  The entry index.
+     * @param bounds The bounds to test against.
+     * @return True if the entry touches the bounds during the tick.
+     */
+    default boolean intersects(int entry, Bounds bounds) {
+        return intersects(entry, bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(), 0, 0);
+    }
+
+    /**
+     * Checks whether an entry touches a moving box at some moment of the tick.
+     * Both are swept linearly from their start-of-tick positions to their end-of-tick positions;
+     * the test finds the part of the tick during which they overlap on each axis, using the same inclusive
+     * edges as {@link Bounds#intersects(Bounds)}, and reports a hit if those parts share a moment.
+     * Without any motion this is exactly the static test. Empty boxes never intersect.
+     *
+     * @param entry             The entry index.
+     * @param boxMinX           The minimum X of the box at the end of the tick.
+     * @param boxMinY           The minimum Y of the box at the end of the tick.
+     * @param boxMaxX           The maximum X of the box at the end of the tick.
+     * @param boxMaxY           The maximum Y of the box at the end of the tick.
+     * @param boxDisplacementX  How far the box moved horizontally during the tick.
+     * @param boxDisplacementY  How far the box moved vertically during the tick.
+     * @return True if the entry touches the box during the tick.
+     */
+    default boolean intersects(int entry, double boxMinX, double boxMinY, double boxMaxX, double boxMaxY,
+                               double boxDisplacementX, double boxDisplacementY) {
+        double minX = getMinX(entry);
+        double minY = getMinY(entry);
+        double maxX = getMaxX(entry);
+        double maxY = getMaxY(entry);
+        if (maxX < minX || maxY < minY || boxMaxX < boxMinX || boxMaxY < boxMinY) {
+            return false;
+        }
+        // Work in the box's frame: the entry moves by the relative displacement and ends at its cached bounds.
+        // s runs from 0 at the end of the tick to 1 at its start.
+        double relativeX = getDisplacementX(entry) - boxDisplacementX;
+        double relativeY = getDisplacementY(entry) - boxDisplacementY;
+        double sweepStart = 0;
+        double sweepEnd = 1;
+        if (relativeX == 0) {
+            if (boxMaxX < minX || boxMinX > maxX) {
+                return false;
+            }
+        } else {
+            double first = (minX - boxMaxX) / relativeX;
+            double second = (maxX - boxMinX) / relativeX;
+            sweepStart = Math.max(sweepStart, Math.min(first, second));
+            sweepEnd = Math.min(sweepEnd, Math.max(first, second));
+        }
+        if (relativeY == 0) {
+            if (boxMaxY < minY || boxMinY > maxY) {
+                return false;
+            }
+        } else {
+            double first = (minY - boxMaxY) / relativeY;
+            double second = (maxY - boxMinY) / relativeY;
+            sweepStart = Math.max(sweepStart, Math.min(first, second));
+            sweepEnd = Math.min(sweepEnd, Math.max(first, second));
+        }
+        return sweepStart <= sweepEnd;
+    }
+
+    /**
+     * Returns the smallest X an entry covers at any moment of the tick.
+     *
+     * @param entry The entry index.
+     * @return The minimum X of the swept bounds.
+     */
+    default double getSweptMinX(int entry) {
+        return getMinX(entry) - Math.max(0, getDisplacementX(entry));
+    }
+
+    /**
+     * Returns the smallest Y an entry covers at any moment of the tick.
+     *
+     * @param entry The entry index.
+     * @return The minimum Y of the swept bounds.
+     */
+    default double getSweptMinY(int entry) {
+        return getMinY(entry) - Math.max(0, getDisplacementY(entry));
+    }
+
+    /**
+     * Returns the largest X an entry covers at any moment of the tick.
+     *
+     * @param entry The entry index.
+     * @return The maximum X of the swept bounds.
+     */
+    default double getSweptMaxX(int entry) {
+        return getMaxX(entry) - Math.min(0, getDisplacementX(entry));
+    }
+
+    /**
+     * Returns the largest Y an entry covers at any moment of the tick.
+     *
+     * @param entry The entry index.
+     * @return The maximum Y of the swept bounds.
+     */
+    default double getSweptMaxY(int entry) {
+        return getMaxY(entry) - Math.min(0, getDisplacementY(entry));
+    }
+}
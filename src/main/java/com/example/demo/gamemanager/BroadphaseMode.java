@@ -0,0 +1,44 @@
+package com.example.demo.gamemanager;
+
+/**
+ * The collision broadphases a {@link CollisionManager} can use.
+ */
+public enum BroadphaseMode {
+    /**
+     * Uniform-grid spatial hash, see {@link SpatialGrid}.
+     */
+    GRID("Grid"),
+
+    /**
+     * Sweep and prune along the X axis, see {@link SweepAndPrune}.
+     */
+    SWEEP_AND_PRUNE("Sweep and Prune");
+
+    private static final double GRID_CELL_SIZE = 100;
+
+    private final String displayName;
+
+    BroadphaseMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the name shown in reports.
+     *
+     * @return The display name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Creates an empty broadphase of this kind.
+     *
+     * @param width  The width of the playfield.
+     * @param height The height of the playfield.
+     * @return A new broadphase.
+     */
+    public Broadphase create(double width, double height) {
+        return this == GRID ? new SpatialGrid(width, height, GRID_CELL_SIZE) : new SweepAndPrune();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.gamemanager;
+
+/**
+ * The collision layers an actor can belong to.
+ * Each layer holds one of the level's actor lists; a {@link CollisionMatrix} declares which layers interact.
+ * Layers are resolved in the order they are declared here.
+ */
+public enum CollisionLayer {
+    /**
+     * Projectiles fired by the user.
+     */
+    USER_PROJECTILE,
+
+    /**
+     * Projectiles fired by enemies.
+     */
+    ENEMY_PROJECTILE,
+
+    /**
+     * Projectiles fired by allies.
+     */
+    ALLY_PROJECTILE,
+
+    /**
+     * The user plane and its allies.
+     */
+    FRIENDLY,
+
+    /**
+     * Enemy planes.
+     */
+    ENEMY
+}
@@ -4,25 +4,44 @@ import java.util.*;
 import com.example.demo.ActiveActorDestructible;
 import com.example.demo.level.LevelParent;
 import com.example.demo.plane.UserPlane;
-import javafx.geometry.Bounds;
-import javafx.scene.Group;
+import com.example.demo.projectile.ProjectileStore;
 
 /**
  * Manages all collision-related logic in the game.
- * Handles collisions between various game entities such as planes and projectiles.
+ * Every actor list is a {@link CollisionLayer} with its own broadphase, built once per tick.
+ * The level's {@link CollisionMatrix} declares which layers interact and how they respond,
+ * and {@link #resolveCollisions()} resolves every rule in a single pass over the source actors,
+ * so supporting a new kind of actor means adding a layer and rules rather than another collision pass.
+ * Collisions are continuous: actors are swept from where they were at the start of the tick to where they are now,
+ * so a hit is found even if two fast or thin actors pass through each other within a single tick.
+ * Pairs found by the broadphase are confirmed against the actors' collision masks,
+ * so transparent margins around a sprite never count as a hit.
+ * Destroyed actors take no further part in the pass, so a projectile is spent by its first hit.
  */
 public class CollisionManager {
 
+    /**
+     * The broadphase used when none is specified.
+     */
+    public static final BroadphaseMode DEFAULT_BROADPHASE = BroadphaseMode.SWEEP_AND_PRUNE;
+
+    private static final CollisionLayer[] LAYERS = CollisionLayer.values();
+
     private final LevelParent levelParent;
     private final UserPlane user;
-    private final List<ActiveActorDestructible> friendlyUnits;
     private final List<ActiveActorDestructible> enemyUnits;
     private final List<ActiveActorDestructible> userProjectiles;
     private final List<ActiveActorDestructible> enemyProjectiles;
     private final List<ActiveActorDestructible> allyProjectiles;
     private final double screenWidth;
     private final double screenHeight;
-    private final Group root;
+    private final ProjectileStore projectileStore;
+    private final CollisionMatrix collisionMatrix;
+
+    private final BroadphaseMode broadphaseMode;
+    private final List<List<ActiveActorDestructible>> layerActors;
+    private final Broadphase[] layerBroadphases = new Broadphase[LAYERS.length];
+    private final boolean[] layerInvolved = new boolean[LAYERS.length];
 
     /**
      * Constructs a new CollisionManager instance with the specified parameters.
@@ -36,7 +55,40 @@ public class CollisionManager {
      * @param allyProjectiles  List of the Ally projectiles.
      * @param screenWidth      The width of the screen.
      * @param screenHeight     The height of the screen.
-     * @param root             The root group of the scene.
+     * @param projectileStore  The store simulating the projectiles.
+     * @param collisionMatrix  The rules deciding which layers interact and how.
+     */
+    public CollisionManager(
+            LevelParent levelParent,
+            UserPlane user,
+            List<ActiveActorDestructible> friendlyUnits,
+            List<ActiveActorDestructible> enemyUnits,
+            List<ActiveActorDestructible> userProjectiles,
+            List<ActiveActorDestructible> enemyProjectiles,
+            List<ActiveActorDestructible> allyProjectiles,
+            double screenWidth,
+            double screenHeight,
+            ProjectileStore projectileStore,
+            CollisionMatrix collisionMatrix) {
+        this(levelParent, user, friendlyUnits, enemyUnits, userProjectiles, enemyProjectiles, allyProjectiles,
+                screenWidth, screenHeight, projectileStore, collisionMatrix, DEFAULT_BROADPHASE);
+    }
+
+    /**
+     * Constructs a new CollisionManager instance with the specified parameters and broadphase.
+     *
+     * @param levelParent      The LevelParent instance.
+     * @param user             The user's plane.
+     * @param friendlyUnits    List of friendly units.
+     * @param enemyUnits       List of enemy units.
+     * @param userProjectiles  List of user projectiles.
+     * @param enemyProjectiles List of enemy projectiles.
+     * @param allyProjectiles  List of the Ally projectiles.
+     * @param screenWidth      The width of the screen.
+     * @param screenHeight     The height of the screen.
+     * @param projectileStore  The store simulating the projectiles.
+     * @param collisionMatrix  The rules deciding which layers interact and how.
+     * @param broadphaseMode   The broadphase used to find overlapping actors.
      */
     public CollisionManager(
             LevelParent levelParent,
@@ -48,122 +100,108 @@ public class CollisionManager {
             List<ActiveActorDestructible> allyProjectiles,
             double screenWidth,
             double screenHeight,
-            Group root) {
+            ProjectileStore projectileStore,
+            CollisionMatrix collisionMatrix,
+            BroadphaseMode broadphaseMode) {
         this.levelParent = levelParent;
         this.user = user;
-        this.friendlyUnits = friendlyUnits;
         this.enemyUnits = enemyUnits;
         this.userProjectiles = userProjectiles;
         this.enemyProjectiles = enemyProjectiles;
         this.allyProjectiles = allyProjectiles;
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
-        this.root = root;
+        this.projectileStore = projectileStore;
+        this.collisionMatrix = collisionMatrix;
+        this.broadphaseMode = broadphaseMode;
+        this.layerActors = new ArrayList<>(LAYERS.length);
+        for (CollisionLayer layer : LAYERS) {
+            layerActors.add(switch (layer) {
+                case USER_PROJECTILE -> userProjectiles;
+                case ENEMY_PROJECTILE -> enemyProjectiles;
+                case ALLY_PROJECTILE -> allyProjectiles;
+                case FRIENDLY -> friendlyUnits;
+                case ENEMY -> enemyUnits;
+            });
+            layerBroadphases[layer.ordinal()] = broadphaseMode.create(screenWidth, screenHeight);
+            layerInvolved[layer.ordinal()] = collisionMatrix.involves(layer);
+        }
+        updateBroadphase();
     }
 
     /**
-     * Handles collisions between friendly units and enemy planes.
-     * If a collision is detected, applies damage to both friendly and enemy units.
-     * Marks the units as destroyed if applicable.
+     * Returns the broadphase used to find overlapping actors.
+     *
+     * @return The broadphase mode.
      */
-    public void handlePlaneCollisions() {
-        if (levelParent.isGameOver()) return;
-        // Create defensive copies to prevent ConcurrentModificationException
-        List<ActiveActorDestructible> friendlyUnitsCopy = new ArrayList<>(friendlyUnits);
-        List<ActiveActorDestructible> enemyUnitsCopy = new ArrayList<>(enemyUnits);
+    public BroadphaseMode getBroadphaseMode() {
+        return broadphaseMode;
+    }
 
-        for (ActiveActorDestructible friendly : friendlyUnitsCopy) {
-            for (ActiveActorDestructible enemy : enemyUnitsCopy) {
-                if (friendly.getBoundsInParent().intersects(enemy.getBoundsInParent())) {
-                    friendly.takeDamage();
-                    enemy.takeDamage();
-                    if (friendly.isDestroyed()) {
-                        friendly.setDestroyedBy(ActiveActorDestructible.DestroyedBy.COLLISION_WITH_USER);
-                    }
-                    if (enemy.isDestroyed()) {
-                        enemy.setDestroyedBy(ActiveActorDestructible.DestroyedBy.COLLISION_WITH_USER);
-                    }
-                }
-            }
-        }
+    /**
+     * Returns the rules deciding which layers interact.
+     *
+     * @return The collision matrix.
+     */
+    public CollisionMatrix getCollisionMatrix() {
+        return collisionMatrix;
     }
 
     /**
-     * Handles collisions between projectiles.
-     * Iterates through all user and the Ally projectiles and checks for intersections with enemy projectiles.
-     * If a collision is detected, applies damage to both projectiles involved.
+     * Rebuilds the broadphase of every layer taking part in the collision matrix.
+     * Must be called once per tick after actors have moved and before collisions are resolved,
+     * so every actor's bounds are computed exactly once per tick.
      */
-    public void handleProjectileCollisions() {
-        // User projectiles vs enemy projectiles
-        Iterator<ActiveActorDestructible> userProjectileIterator = userProjectiles.iterator();
-        while (userProjectileIterator.hasNext()) {
-            ActiveActorDestructible userProjectile = userProjectileIterator.next();
-            Iterator<ActiveActorDestructible> enemyProjectileIterator = enemyProjectiles.iterator();
-            while (enemyProjectileIterator.hasNext()) {
-                ActiveActorDestructible enemyProjectile = enemyProjectileIterator.next();
-                if (userProjectile.getBoundsInParent().intersects(enemyProjectile.getBoundsInParent())) {
-                    userProjectile.takeDamage();
-                    enemyProjectile.takeDamage();
-                    break;
-                }
-            }
-        }
-        // Ally projectiles vs enemy projectiles
-        Iterator<ActiveActorDestructible> allyProjectileIterator = allyProjectiles.iterator();
-        while (allyProjectileIterator.hasNext()) {
-            ActiveActorDestructible allyProjectile = allyProjectileIterator.next();
-            Iterator<ActiveActorDestructible> enemyProjectileIterator = enemyProjectiles.iterator();
-            while (enemyProjectileIterator.hasNext()) {
-                ActiveActorDestructible enemyProjectile = enemyProjectileIterator.next();
-                if (allyProjectile.getBoundsInParent().intersects(enemyProjectile.getBoundsInParent())) {
-                    allyProjectile.takeDamage();
-                    enemyProjectile.takeDamage();
-                    break;
-                }
+    public void updateBroadphase() {
+        for (CollisionLayer layer : LAYERS) {
+            if (layerInvolved[layer.ordinal()]) {
+                layerBroadphases[layer.ordinal()].build(layerActors.get(layer.ordinal()), projectileStore);
             }
         }
     }
 
     /**
-     * Handles collisions between user projectiles and enemy units.
-     * Iterates through all user projectiles and checks for intersections with enemy units.
-     * If a collision is detected, applies damage to the enemy unit and the user projectile.
-     * If the enemy is destroyed, increments the user's kill count.
+     * Resolves every rule of the collision matrix in one pass.
+     * Source layers are visited in declaration order and each source actor tries its rules in the order
+     * they were added. Targets are reported in list order, so the first hit of a rule is deterministic.
+     * Actors destroyed earlier in the pass neither look for nor receive further hits.
      */
-    public void handleUserProjectileCollisions() {
-        Iterator<ActiveActorDestructible> projectileIterator = userProjectiles.iterator();
-        while (projectileIterator.hasNext()) {
-            ActiveActorDestructible projectile = projectileIterator.next();
-            Iterator<ActiveActorDestructible> enemyIterator = enemyUnits.iterator();
-            while (enemyIterator.hasNext()) {
-                ActiveActorDestructible enemy = enemyIterator.next();
-                if (projectile.getBoundsInParent().intersects(enemy.getBoundsInParent())) {
-                    enemy.takeDamage();
-                    projectile.takeDamage();
-                    if (enemy.isDestroyed()) {
-                        enemy.setDestroyedBy(ActiveActorDestructible.DestroyedBy.USER_PROJECTILE);
-                        user.incrementKillCount();
-                    }
-                    break;
+    public void resolveCollisions() {
+        for (CollisionLayer layer : LAYERS) {
+            List<CollisionMatrix.Rule> rules = collisionMatrix.getRules(layer);
+            if (rules.isEmpty()) {
+                continue;
+            }
+            Broadphase sources = layerBroadphases[layer.ordinal()];
+            for (int entry = 0; entry < sources.size(); entry++) {
+                ActiveActorDestructible source = sources.getActor(entry);
+                for (int r = 0; r < rules.size() && sources.isActive(entry) && !source.isDestroyed(); r++) {
+                    resolveRule(rules.get(r), sources, entry, source);
                 }
             }
         }
     }
 
     /**
-     * Handles collisions between enemy projectiles and the user's plane.
-     * Iterates through all enemy projectiles and checks for intersections with the user's plane.
-     * If a collision is detected, applies damage to the user's plane and destroys the enemy projectile.
+     * Applies one rule to one source actor.
+     *
+     * @param rule    The rule.
+     * @param sources The broadphase of the source layer.
+     * @param entry   The index of the source actor in its broadphase.
+     * @param source  The source actor.
      */
-    public void handleEnemyProjectileCollisions() {
-        Iterator<ActiveActorDestructible> projectileIterator = enemyProjectiles.iterator();
-        while (projectileIterator.hasNext()) {
-            ActiveActorDestructible projectile = projectileIterator.next();
-            if (projectile.getBoundsInParent().intersects(user.getBoundsInParent())) {
-                user.takeDamageFromProjectile();
-                projectile.takeDamage();
-                projectileIterator.remove();
-                root.getChildren().remove(projectile);
+    private void resolveRule(CollisionMatrix.Rule rule, Broadphase sources, int entry, ActiveActorDestructible source) {
+        Broadphase targets = layerBroadphases[rule.getTarget().ordinal()];
+        int hits = targets.query(sources, entry);
+        for (int i = 0; i < hits; i++) {
+            ActiveActorDestructible target = targets.getResultActor(i);
+            if (target == source || target.isDestroyed()
+                    || !Narrowphase.touches(targets, targets.getResult(i), sources, entry)) {
+                continue;
+            }
+            rule.getResponse().onCollision(source, target);
+            if (rule.isFirstHitOnly() || source.isDestroyed()) {
+                return;
             }
         }
     }
@@ -183,53 +221,6 @@ public class CollisionManager {
         }
     }
 
-    /**
-     * Handles collisions between enemy projectiles and friendly units (allies).
-     * Iterates through all enemy projectiles and checks for intersections with friendly units.
-     * If a collision is detected, applies damage to the friendly unit and destroys the enemy projectile.
-     */
-
-    public void handleEnemyProjectileCollisionsWithAlly() {
-        Iterator<ActiveActorDestructible> enemyProjectileIterator = enemyProjectiles.iterator();
-        while (enemyProjectileIterator.hasNext()) {
-            ActiveActorDestructible enemyProjectile = enemyProjectileIterator.next();
-            for (ActiveActorDestructible friendly : friendlyUnits) {
-                if (friendly.isDestroyed()) continue;
-                if (enemyProjectile.getBoundsInParent().intersects(friendly.getBoundsInParent())) {
-                    friendly.takeDamage();
-                    enemyProjectile.takeDamage();
-                    break;
-                }
-            }
-        }
-    }
-
-    /**
-     * Handles collisions between the Ally projectiles and enemy units.
-     * Iterates through all the Ally projectiles and checks for intersections with enemy units.
-     * If a collision is detected, applies damage to the enemy unit and the ally projectile.
-     * If the enemy is destroyed, increments the user's kill count.
-     */
-    public void handleAllyProjectileCollisions() {
-        Iterator<ActiveActorDestructible> allyProjectileIterator = allyProjectiles.iterator();
-        while (allyProjectileIterator.hasNext()) {
-            ActiveActorDestructible allyProjectile = allyProjectileIterator.next();
-            Iterator<ActiveActorDestructible> enemyIterator = enemyUnits.iterator();
-            while (enemyIterator.hasNext()) {
-                ActiveActorDestructible enemy = enemyIterator.next();
-                if (allyProjectile.getBoundsInParent().intersects(enemy.getBoundsInParent())) {
-                    enemy.takeDamage();
-                    allyProjectile.takeDamage();
-                    if (enemy.isDestroyed()) {
-                        enemy.setDestroyedBy(ActiveActorDestructible.DestroyedBy.USER_PROJECTILE);
-                        user.incrementKillCount();
-                    }
-                    break;
-                }
-            }
-        }
-    }
-
     /**
      * Checks if any projectiles in the user, enemy, or ally projectile lists are out of bounds.
      * If a projectile is out of bounds, it is destroyed.
@@ -259,22 +250,22 @@ public class CollisionManager {
      * @return True if the actor is out of bounds, false otherwise.
      */
     private boolean isOutOfBounds(ActiveActorDestructible actor) {
-        Bounds bounds = actor.localToScene(actor.getBoundsInLocal());
-        double minX = bounds.getMinX();
-        double maxX = bounds.getMaxX();
-        double minY = bounds.getMinY();
-        double maxY = bounds.getMaxY();
-
-        return maxX < 0 || minX > screenWidth || maxY < 0 || minY > screenHeight;
+        int slot = projectileStore.slotOf(actor);
+        if (slot >= 0) {
+            return projectileStore.getMaxX(slot) < 0 || projectileStore.getMinX(slot) > screenWidth
+                    || projectileStore.getMaxY(slot) < 0 || projectileStore.getMinY(slot) > screenHeight;
+        }
+        return actor.getWorldMaxX() < 0 || actor.getWorldMinX() > screenWidth
+                || actor.getWorldMaxY() < 0 || actor.getWorldMinY() > screenHeight;
     }
 
     /**
-     * Checks if an enemy has penetrated the player's defenses.
+     * Checks if an enemy has penetrated the player's defenses, i.e. its left edge has passed the left edge of the screen.
      *
      * @param enemy The enemy to check.
      * @return True if the enemy has penetrated, false otherwise.
      */
     private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-        return Math.abs(enemy.getTranslateX()) > screenWidth;
+        return enemy.getWorldMinX() < 0;
     }
 }
@@ -0,0 +1,136 @@
+package com.example.demo.gamemanager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declares which collision layers interact and how.
+ * Each rule pairs a source layer with a target layer and a response; rules of the same source layer
+ * are tried in the order they were added. A level builds its matrix once, for example:
+ * <pre>{@code
+ * new CollisionMatrix()
+ *         .onFirstHit(CollisionLayer.USER_PROJECTILE, CollisionLayer.ENEMY, this::onProjectileHitEnemy)
+ *         .onEveryHit(CollisionLayer.FRIENDLY, CollisionLayer.ENEMY, this::onPlanesCollide);
+ * }</pre>
+ */
+public class CollisionMatrix {
+
+    /**
+     * One interaction between two layers.
+     */
+    public static final class Rule {
+        private final CollisionLayer source;
+        private final CollisionLayer target;
+        private final boolean firstHitOnly;
+        private final CollisionResponse response;
+
+        private Rule(CollisionLayer source, CollisionLayer target, boolean firstHitOnly, CollisionResponse response) {
+            this.source = source;
+            this.target = target;
+            this.firstHitOnly = firstHitOnly;
+            this.response = response;
+        }
+
+        /**
+         * Returns the layer whose actors look for hits.
+         *
+         * @return The source layer.
+         */
+        public CollisionLayer getSource() {
+            return source;
+        }
+
+        /**
+         * Returns the layer whose actors can be hit.
+         *
+         * @return The target layer.
+         */
+        public CollisionLayer getTarget() {
+            return target;
+        }
+
+        /**
+         * Checks whether a source actor stops at its first hit in this rule, as projectiles do.
+         *
+         * @return True if only the first hit is reported.
+         */
+        public boolean isFirstHitOnly() {
+            return firstHitOnly;
+        }
+
+        /**
+         * Returns the reaction to a hit.
+         *
+         * @return The response.
+         */
+        public CollisionResponse getResponse() {
+            return response;
+        }
+    }
+
+    private final Map<CollisionLayer, List<Rule>> rulesBySource = new EnumMap<>(CollisionLayer.class);
+
+    /**
+     * Adds a rule in which each source actor reacts to the first target actor it touches, in list order.
+     *
+     * @param source   The layer whose actors look for hits.
+     * @param target   The layer whose actors can be hit.
+     * @param response The reaction to a hit.
+     * @return This matrix, for chaining.
+     */
+    public CollisionMatrix onFirstHit(CollisionLayer source, CollisionLayer target, CollisionResponse response) {
+        return add(new Rule(source, target, true, response));
+    }
+
+    /**
+     * Adds a rule in which each source actor reacts to every target actor it touches.
+     *
+     * @param source   The layer whose actors look for hits.
+     * @param target   The layer whose actors can be hit.
+     * @param response The reaction to a hit.
+     * @return This matrix, for chaining.
+     */
+    public CollisionMatrix onEveryHit(CollisionLayer source, CollisionLayer target, CollisionResponse response) {
+        return add(new Rule(source, target, false, response));
+    }
+
+    /**
+     * Returns the rules of a source layer, in the order they were added.
+     *
+     * @param source The source layer.
+     * @return The rules, empty if the layer never looks for hits.
+     */
+    public List<Rule> getRules(CollisionLayer source) {
+        return rulesBySource.getOrDefault(source, List.of());
+    }
+
+    /**
+     * Checks whether any rule involves a layer, as source or target.
+     *
+     * @param layer The layer.
+     * @return True if the layer takes part in collisions.
+     */
+    public boolean involves(CollisionLayer layer) {
+        for (List<Rule> rules : rulesBySource.values()) {
+            for (Rule rule : rules) {
+                if (rule.source == layer || rule.target == layer) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a rule.
+     *
+     * @param rule The rule.
+     * @return This matrix, for chaining.
+     */
+    private CollisionMatrix add(Rule rule) {
+        rulesBySource.computeIfAbsent(rule.source, layer -> new ArrayList<>()).add(rule);
+        return this;
+    }
+}
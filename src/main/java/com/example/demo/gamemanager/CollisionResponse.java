@@ -0,0 +1,18 @@
+package com.example.demo.gamemanager;
+
+import com.example.demo.ActiveActorDestructible;
+
+/**
+ * Reacts to two actors of interacting layers touching.
+ */
+@FunctionalInterface
+public interface CollisionResponse {
+
+    /**
+     * Called when an actor of a rule's source layer touches an actor of its target layer.
+     *
+     * @param source The actor of the source layer.
+     * @param target The actor of the target layer.
+     */
+    void onCollision(ActiveActorDestructible source, ActiveActorDestructible target);
+}
@@ -0,0 +1,213 @@
+package com.example.demo.gamemanager;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records how long each phase of a game tick takes and how many entities each actor list holds.
+ * Timings go into fixed-size histograms, so profiling stays on in every build without allocating per tick.
+ * A tick is profiled by calling {@link #beginFrame()}, then {@link #lap(Phase)} after each phase,
+ * and finally {@link #endFrame()}.
+ */
+public class FrameProfiler {
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    /**
+     * The phases of a game tick, in the order they run.
+     */
+    public enum Phase {
+        CAPTURE_RENDER_STATE("captureRenderState"),
+        CHECK_GAME_OVER("checkIfGameOver"),
+        SPAWN_ENEMY_UNITS("spawnEnemyUnits"),
+        UPDATE_ACTORS("updateActors"),
+        GENERATE_ENEMY_FIRE("generateEnemyFire"),
+        UPDATE_BROADPHASE("updateBroadphase"),
+        ENEMY_PENETRATION("enemyPenetration"),
+        RESOLVE_COLLISIONS("resolveCollisions"),
+        REMOVE_DESTROYED_ACTORS("removeDestroyedActors"),
+        UPDATE_LEVEL_VIEW("updateLevelView"),
+        TOTAL("total");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the name shown in reports.
+         *
+         * @return The phase label.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * The actor lists whose sizes are recorded every tick.
+     */
+    public enum EntityList {
+        FRIENDLY_UNITS("friendlyUnits"),
+        ENEMY_UNITS("enemyUnits"),
+        USER_PROJECTILES("userProjectiles"),
+        ENEMY_PROJECTILES("enemyProjectiles"),
+        ALLY_PROJECTILES("allyProjectiles");
+
+        private final String label;
+
+        EntityList(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the name shown in reports.
+         *
+         * @return The list label.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final Histogram[] phaseHistograms = new Histogram[Phase.values().length];
+    private final Histogram[] entityHistograms = new Histogram[EntityList.values().length];
+    private long frameStartNanos;
+    private long lastLapNanos;
+    private long frameCount;
+
+    /**
+     * Constructs a new FrameProfiler with empty histograms.
+     */
+    public FrameProfiler() {
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i] = new Histogram();
+        }
+        for (int i = 0; i < entityHistograms.length; i++) {
+            entityHistograms[i] = new Histogram();
+        }
+    }
+
+    /**
+     * Marks the start of a tick.
+     */
+    public void beginFrame() {
+        frameStartNanos = System.nanoTime();
+        lastLapNanos = frameStartNanos;
+    }
+
+    /**
+     * Records the time since the previous lap (or the start of the tick) against a phase.
+     *
+     * @param phase The phase that just finished.
+     */
+    public void lap(Phase phase) {
+        long now = System.nanoTime();
+        phaseHistograms[phase.ordinal()].record(now - lastLapNanos);
+        lastLapNanos = now;
+    }
+
+    /**
+     * Marks the end of a tick and records its total duration.
+     */
+    public void endFrame() {
+        phaseHistograms[Phase.TOTAL.ordinal()].record(System.nanoTime() - frameStartNanos);
+        frameCount++;
+    }
+
+    /**
+     * Records the current size of an actor list.
+     *
+     * @param list  The actor list.
+     * @param count The number of entities in it.
+     */
+    public void recordEntityCount(EntityList list, int count) {
+        entityHistograms[list.ordinal()].record(count);
+    }
+
+    /**
+     * Returns the timing histogram of a phase, in nanoseconds.
+     *
+     * @param phase The phase.
+     * @return The histogram.
+     */
+    public Histogram getPhaseHistogram(Phase phase) {
+        return phaseHistograms[phase.ordinal()];
+    }
+
+    /**
+     * Returns the size histogram of an actor list.
+     *
+     * @param list The actor list.
+     * @return The histogram.
+     */
+    public Histogram getEntityHistogram(EntityList list) {
+        return entityHistograms[list.ordinal()];
+    }
+
+    /**
+     * Returns the number of profiled ticks.
+     *
+     * @return The frame count.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Clears every histogram.
+     */
+    public void reset() {
+        for (Histogram histogram : phaseHistograms) {
+            histogram.reset();
+        }
+        for (Histogram histogram : entityHistograms) {
+            histogram.reset();
+        }
+        frameCount = 0;
+    }
+
+    /**
+     * Formats the p50/p99/max timings of every phase and the size of every actor list.
+     *
+     * @return The report text.
+     */
+    public String formatReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("frames: %d%n", frameCount));
+        report.append(String.format("%-24s %9s %9s %9s%n", "phase (us)", "p50", "p99", "max"));
+        for (Phase phase : Phase.values()) {
+            Histogram histogram = phaseHistograms[phase.ordinal()];
+            report.append(String.format("%-24s %9.1f %9.1f %9.1f%n", phase.getLabel(),
+                    histogram.getPercentile(50) / NANOS_PER_MICRO,
+                    histogram.getPercentile(99) / NANOS_PER_MICRO,
+                    histogram.getMax() / NANOS_PER_MICRO));
+        }
+        report.append(String.format("%-24s %9s %9s %9s%n", "entities", "now", "p99", "max"));
+        for (EntityList list : EntityList.values()) {
+            Histogram histogram = entityHistograms[list.ordinal()];
+            report.append(String.format("%-24s %9d %9d %9d%n", list.getLabel(),
+                    histogram.getLast(), histogram.getPercentile(99), histogram.getMax()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to a text file.
+     *
+     * @param file  The file to write.
+     * @param title A heading written above the report, e.g. the level name.
+     * @throws IOException If the file cannot be written.
+     */
+    public void dump(Path file, String title) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(title);
+            writer.write(System.lineSeparator());
+            writer.write(formatReport());
+        }
+    }
+}
@@ -1,56 +1,332 @@
 // GameLoop.java
 package com.example.demo.gamemanager;
 
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.util.Duration;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleConsumer;
+
 /**
- * Encapsulates the game loop using JavaFX's Timeline.
- * Continuously calls the update method at fixed intervals.
+ * Encapsulates the game loop.
+ * In {@link Mode#TIMELINE} mode a JavaFX Timeline calls the update method at fixed intervals.
+ * In {@link Mode#FIXED_STEP} mode an AnimationTimer runs on every display frame, advances the simulation
+ * in fixed steps using an accumulator, and asks the render method to interpolate between the last two steps,
+ * so motion is smooth at any refresh rate while the game speed stays the same.
+ * In {@link Mode#BACKGROUND_THREAD} mode the simulation runs at fixed intervals on a dedicated thread,
+ * and an AnimationTimer asks the present method to show the newest finished frame on every display frame,
+ * so a slow tick never drops a rendered frame and a slow layout pass never delays the simulation.
  */
 public class GameLoop {
     private static final int MILLISECOND_DELAY = 50; // Adjust as needed
+    private static final long STEP_NANOS = MILLISECOND_DELAY * 1_000_000L;
+    // Longest frame the loop catches up on; anything longer is dropped to avoid a spiral of death
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+    // Longest time pausing or stopping the background thread waits for the step in progress
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * The way the loop is driven.
+     */
+    public enum Mode {
+        TIMELINE, FIXED_STEP, BACKGROUND_THREAD
+    }
+
+    private final Mode mode;
     private final Runnable updateMethod;
+    private final DoubleConsumer renderMethod;
     private final Timeline timeline;
+    private final AnimationTimer animationTimer;
+
+    private volatile boolean running;
+    private ScheduledExecutorService simulationExecutor;
+    private volatile Thread simulationThread;
+    private ScheduledFuture<?> simulationTask;
+    // Held by the simulation thread while a step runs, so pausing can wait for it
+    private final ReentrantLock stepLock = new ReentrantLock();
+    private long lastFrameNanos = -1;
+    private long accumulatorNanos;
 
     /**
-     * Constructs a new GameLoop.
+     * Constructs a new GameLoop driven by a Timeline.
      *
      * @param updateMethod The method to call on each loop iteration.
      */
     public GameLoop(Runnable updateMethod) {
+        this.mode = Mode.TIMELINE;
         this.updateMethod = updateMethod;
+        this.renderMethod = null;
+        this.animationTimer = null;
         this.timeline = new Timeline(new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateMethod.run()));
         this.timeline.setCycleCount(Timeline.INDEFINITE);
     }
 
+    /**
+     * Constructs a new fixed-step GameLoop with interpolated rendering.
+     *
+     * @param updateMethod The method advancing the simulation by one fixed step.
+     * @param renderMethod The method drawing the scene; receives how far the display is
+     *                     between the previous step (0) and the current step (1).
+     */
+    public GameLoop(Runnable updateMethod, DoubleConsumer renderMethod) {
+        this.mode = Mode.FIXED_STEP;
+        this.updateMethod = updateMethod;
+        this.renderMethod = renderMethod;
+        this.timeline = null;
+        this.animationTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
+            }
+        };
+    }
+
+    /**
+     * Constructs a GameLoop that runs the simulation on a background thread.
+     *
+     * @param updateMethod  The method advancing the simulation by one fixed step.
+     * @param presentMethod The method showing the newest finished frame on the JavaFX Application Thread.
+     */
+    private GameLoop(Runnable updateMethod, Runnable presentMethod) {
+        this.mode = Mode.BACKGROUND_THREAD;
+        this.updateMethod = updateMethod;
+        this.renderMethod = null;
+        this.timeline = null;
+        this.animationTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                presentMethod.run();
+            }
+        };
+    }
+
+    /**
+     * Creates a GameLoop that runs the simulation on a dedicated background thread.
+     * The update method must not touch nodes that are part of a shown scene;
+     * anything it needs shown goes through {@link Platform#runLater(Runnable)} or the present method.
+     *
+     * @param updateMethod  The method advancing the simulation by one fixed step, run on the simulation thread.
+     * @param presentMethod The method showing the newest finished frame, run on the JavaFX Application Thread.
+     * @return The new game loop.
+     */
+    public static GameLoop onBackgroundThread(Runnable updateMethod, Runnable presentMethod) {
+        return new GameLoop(updateMethod, presentMethod);
+    }
+
+    /**
+     * Advances the simulation by as many fixed steps as the elapsed time allows, then renders.
+     *
+     * @param now The timestamp of the current frame in nanoseconds.
+     */
+    private void onFrame(long now) {
+        if (lastFrameNanos < 0) {
+            lastFrameNanos = now;
+            return;
+        }
+        long frameNanos = Math.min(now - lastFrameNanos, MAX_FRAME_NANOS);
+        lastFrameNanos = now;
+        accumulatorNanos += frameNanos;
+        while (running && accumulatorNanos >= STEP_NANOS) {
+            updateMethod.run();
+            accumulatorNanos -= STEP_NANOS;
+        }
+        if (running) {
+            renderMethod.accept((double) accumulatorNanos / STEP_NANOS);
+        }
+    }
+
     /**
      * Starts the game loop.
      */
     public void start() {
-        timeline.play();
+        if (mode == Mode.TIMELINE) {
+            timeline.play();
+            return;
+        }
+        if (mode == Mode.BACKGROUND_THREAD) {
+            startSimulationThread();
+            return;
+        }
+        accumulatorNanos = 0;
+        lastFrameNanos = -1;
+        running = true;
+        animationTimer.start();
     }
 
     /**
      * Pauses the game loop.
      */
     public void pause() {
-        timeline.pause();
+        if (mode == Mode.TIMELINE) {
+            timeline.pause();
+            return;
+        }
+        if (mode == Mode.BACKGROUND_THREAD) {
+            stopSimulationThread(false);
+            return;
+        }
+        running = false;
+        animationTimer.stop();
     }
 
     /**
      * Resumes the game loop.
+     * Time spent paused is not fed into the simulation.
      */
     public void resume() {
-        timeline.play();
+        if (mode == Mode.TIMELINE) {
+            timeline.play();
+            return;
+        }
+        if (mode == Mode.BACKGROUND_THREAD) {
+            startSimulationThread();
+            return;
+        }
+        lastFrameNanos = -1;
+        running = true;
+        animationTimer.start();
     }
 
     /**
      * Stops the game loop.
      */
     public void stop() {
-        timeline.stop();
+        if (mode == Mode.TIMELINE) {
+            timeline.stop();
+            return;
+        }
+        if (mode == Mode.BACKGROUND_THREAD) {
+            stopSimulationThread(true);
+            return;
+        }
+        running = false;
+        animationTimer.stop();
+        accumulatorNanos = 0;
+    }
+
+    /**
+     * Schedules the simulation steps on the simulation thread, creating the thread if needed,
+     * and starts presenting frames.
+     */
+    private synchronized void startSimulationThread() {
+        if (running) {
+            return;
+        }
+        if (simulationExecutor == null) {
+            simulationExecutor = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "game-simulation");
+                thread.setDaemon(true);
+                simulationThread = thread;
+                return thread;
+            });
+        }
+        running = true;
+        simulationTask = simulationExecutor.scheduleAtFixedRate(this::runSimulationStep, STEP_NANOS, STEP_NANOS,
+                TimeUnit.NANOSECONDS);
+        runOnFxThread(animationTimer::start);
+    }
+
+    /**
+     * Stops scheduling simulation steps and presenting frames.
+     * A step already running is allowed to finish, and this waits for it, so the caller can change or clean up
+     * the level without racing it. Safe to call from the simulation thread itself.
+     *
+     * @param shutdown true to also end the simulation thread, as when the level is left.
+     */
+    private void stopSimulationThread(boolean shutdown) {
+        ScheduledExecutorService executor = null;
+        synchronized (this) {
+            running = false;
+            if (simulationTask != null) {
+                simulationTask.cancel(false);
+                simulationTask = null;
+            }
+            if (shutdown && simulationExecutor != null) {
+                executor = simulationExecutor;
+                simulationExecutor = null;
+                executor.shutdown();
+            }
+        }
+        runOnFxThread(animationTimer::stop);
+        // Wait outside the lock, and never from the simulation thread, which would wait for itself
+        if (Thread.currentThread() == simulationThread) {
+            return;
+        }
+        if (executor != null) {
+            awaitTermination(executor);
+        } else {
+            awaitRunningStep();
+        }
+    }
+
+    /**
+     * Waits for the step running on the simulation thread, if any, to finish.
+     * No new step starts once the loop has stopped running, so the simulation is idle when this returns.
+     */
+    private void awaitRunningStep() {
+        try {
+            if (stepLock.tryLock(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                stepLock.unlock();
+            } else {
+                System.err.println("Simulation step did not finish within " + STOP_TIMEOUT_MILLIS + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for the step still running on a shut down simulation thread to finish.
+     *
+     * @param executor The shut down simulation executor.
+     */
+    private static void awaitTermination(ScheduledExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                System.err.println("Simulation step did not finish within " + STOP_TIMEOUT_MILLIS + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs one simulation step on the simulation thread.
+     * Failures are reported rather than thrown, since a periodic task that throws is silently never run again.
+     */
+    private void runSimulationStep() {
+        stepLock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            updateMethod.run();
+        } catch (RuntimeException e) {
+            System.err.println("Simulation step failed");
+            e.printStackTrace();
+        } finally {
+            stepLock.unlock();
+        }
+    }
+
+    /**
+     * Runs an action on the JavaFX Application Thread, immediately if already on it.
+     *
+     * @param action The action to run.
+     */
+    private static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
     }
 
     /**
@@ -59,13 +335,34 @@ public class GameLoop {
      * @return true if running, false otherwise.
      */
     public boolean isRunning() {
-        return timeline.getStatus() == Timeline.Status.RUNNING;
+        if (mode == Mode.TIMELINE) {
+            return timeline.getStatus() == Timeline.Status.RUNNING;
+        }
+        return running;
+    }
+
+    /**
+     * Returns the way the loop is driven.
+     *
+     * @return The loop mode.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the duration of one simulation step.
+     *
+     * @return The step length in milliseconds.
+     */
+    public static int getStepMillis() {
+        return MILLISECOND_DELAY;
     }
 
     /**
      * Returns the Timeline object for advanced control if needed.
      *
-     * @return The Timeline object.
+     * @return The Timeline object, or null in fixed-step and background thread mode.
      */
     public Timeline getTimeline() {
         return timeline;
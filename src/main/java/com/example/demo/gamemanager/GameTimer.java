@@ -1,40 +1,63 @@
 package com.example.demo.gamemanager;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
 
 /**
- * GameTimer is responsible for tracking the elapsed time in seconds.
- * It uses a JavaFX Timeline to increment the elapsed time every second.
+ * GameTimer is responsible for tracking the time played in a level.
+ * It reads the monotonic {@link System#nanoTime()} clock when started, paused and read, so time is counted
+ * exactly across pauses and nothing ticks on the JavaFX Application Thread.
+ * Split times can be marked, for example when a wave ends, and are kept to the millisecond.
+ * <p>
+ * The timer may be read and split from the simulation thread while the JavaFX Application Thread pauses it.
  */
 public class GameTimer {
-    private long elapsedSeconds = 0;
-    private final Timeline timerTimeline;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final LongSupplier nanoClock;
+    private final List<Split> splits = new ArrayList<>();
+    private long accumulatedNanos = 0;
+    private long startedAtNanos;
+    private boolean running = false;
 
     /**
-     * Constructs a new GameTimer.
-     * Initializes the Timeline to increment elapsedSeconds every second.
+     * Constructs a new GameTimer on the system's monotonic clock.
      */
     public GameTimer() {
-        timerTimeline = new Timeline(new KeyFrame(Duration.seconds(1), e -> elapsedSeconds++));
-        timerTimeline.setCycleCount(Timeline.INDEFINITE);
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructs a new GameTimer on a given clock.
+     *
+     * @param nanoClock The clock, returning a monotonic time in nanoseconds.
+     */
+    public GameTimer(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
     }
 
     /**
      * Starts the timer.
-     * The elapsed time will begin to increment every second.
+     * The elapsed time counts on from where it was; starting a running timer does nothing.
      */
-    public void start() {
-        timerTimeline.play();
+    public synchronized void start() {
+        if (!running) {
+            startedAtNanos = nanoClock.getAsLong();
+            running = true;
+        }
     }
 
     /**
      * Pauses the timer.
-     * The elapsed time will stop incrementing.
+     * The time up to this moment is kept and nothing more is counted until the timer is resumed.
      */
-    public void pause() {
-        timerTimeline.pause();
+    public synchronized void pause() {
+        if (running) {
+            accumulatedNanos += nanoClock.getAsLong() - startedAtNanos;
+            running = false;
+        }
     }
 
     /**
@@ -42,23 +65,127 @@ public class GameTimer {
      * The elapsed time will continue to increment from where it left off.
      */
     public void resume() {
-        timerTimeline.play();
+        start();
     }
 
     /**
      * Stops the timer.
-     * The elapsed time will stop incrementing and the timer will reset.
+     * The elapsed time is kept, so it can be read once the level has ended.
      */
     public void stop() {
-        timerTimeline.stop();
+        pause();
+    }
+
+    /**
+     * Stops the timer and clears the elapsed time and splits.
+     */
+    public synchronized void reset() {
+        running = false;
+        accumulatedNanos = 0;
+        splits.clear();
+    }
+
+    /**
+     * Returns the elapsed time in nanoseconds.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public synchronized long getElapsedNanos() {
+        return running ? accumulatedNanos + nanoClock.getAsLong() - startedAtNanos : accumulatedNanos;
+    }
+
+    /**
+     * Returns the elapsed time in milliseconds.
+     *
+     * @return The elapsed time in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return getElapsedNanos() / NANOS_PER_MILLI;
     }
 
     /**
-     * Returns the elapsed time in seconds.
+     * Returns the elapsed time in whole seconds.
      *
      * @return The elapsed time in seconds.
      */
     public long getElapsedTime() {
-        return elapsedSeconds;
+        return getElapsedNanos() / NANOS_PER_SECOND;
+    }
+
+    /**
+     * Marks a split at the current elapsed time.
+     *
+     * @param name The name of the part of the level that just ended, for example "Wave 1".
+     * @return The split.
+     */
+    public synchronized Split split(String name) {
+        long elapsedMillis = getElapsedMillis();
+        long previousMillis = splits.isEmpty() ? 0 : splits.get(splits.size() - 1).getElapsedMillis();
+        Split split = new Split(name, elapsedMillis, elapsedMillis - previousMillis);
+        splits.add(split);
+        return split;
+    }
+
+    /**
+     * Returns the splits marked so far, in order.
+     *
+     * @return The splits.
+     */
+    public synchronized List<Split> getSplits() {
+        return List.copyOf(splits);
+    }
+
+    /**
+     * A split time: the elapsed time when a part of the level ended.
+     */
+    public static final class Split {
+        private final String name;
+        private final long elapsedMillis;
+        private final long durationMillis;
+
+        /**
+         * Constructs a new Split.
+         *
+         * @param name           The name of the part of the level.
+         * @param elapsedMillis  The elapsed time when the part ended, in milliseconds.
+         * @param durationMillis The time spent in the part, in milliseconds.
+         */
+        Split(String name, long elapsedMillis, long durationMillis) {
+            this.name = name;
+            this.elapsedMillis = elapsedMillis;
+            this.durationMillis = durationMillis;
+        }
+
+        /**
+         * Returns the name of the part of the level.
+         *
+         * @return The name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the elapsed time when the part ended.
+         *
+         * @return The elapsed time in milliseconds.
+         */
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Returns the time spent in the part, since the previous split or the start of the level.
+         *
+         * @return The duration in milliseconds.
+         */
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + durationMillis + " ms (at " + elapsedMillis + " ms)";
+        }
     }
-}
\ No newline at end of file
+}
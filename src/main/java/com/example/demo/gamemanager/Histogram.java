@@ -0,0 +1,139 @@
+package com.example.demo.gamemanager;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of non-negative long values, such as nanosecond timings or entity counts.
+ * Values are grouped into logarithmic buckets with 8 sub-buckets per power of two,
+ * so percentiles are accurate to within 12.5% while recording never allocates.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int DIRECT_BUCKETS = SUB_BUCKETS * 2;
+    private static final int FIRST_EXPONENT = SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT = DIRECT_BUCKETS + (Long.SIZE - FIRST_EXPONENT) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long sum;
+    private long max;
+    private long last;
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value The value to record.
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts[indexFor(clamped)]++;
+        totalCount++;
+        sum += clamped;
+        last = clamped;
+        if (clamped > max) {
+            max = clamped;
+        }
+    }
+
+    /**
+     * Returns the value below which the given percentage of recorded values fall.
+     * The result is the upper edge of the matching bucket, capped at the largest recorded value.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The value at the percentile, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundFor(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return The maximum value.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the most recently recorded value.
+     *
+     * @return The last value.
+     */
+    public long getLast() {
+        return last;
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return The mean, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Clears every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        max = 0;
+        last = 0;
+    }
+
+    /**
+     * Maps a value to its bucket.
+     *
+     * @param value The non-negative value.
+     * @return The bucket index.
+     */
+    private static int indexFor(long value) {
+        if (value < DIRECT_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return DIRECT_BUCKETS + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that maps to a bucket.
+     *
+     * @param index The bucket index.
+     * @return The upper edge of the bucket.
+     */
+    private static long upperBoundFor(int index) {
+        if (index < DIRECT_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - DIRECT_BUCKETS) / SUB_BUCKETS + FIRST_EXPONENT;
+        int subBucket = (index - DIRECT_BUCKETS) % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
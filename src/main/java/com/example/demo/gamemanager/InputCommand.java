@@ -0,0 +1,9 @@
+package com.example.demo.gamemanager;
+
+/**
+ * The commands a player can give the user's plane.
+ * Key presses and simulated input sources are both translated into these commands.
+ */
+public enum InputCommand {
+    MOVE_UP, MOVE_DOWN, STOP, FIRE
+}
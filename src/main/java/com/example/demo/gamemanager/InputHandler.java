@@ -6,15 +6,23 @@ import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
  * InputHandler is responsible for handling user input events.
  * It attaches key event handlers to the background and updates
  * the user's plane based on the input.
+ * When the simulation runs on a background thread, player commands from key events are queued
+ * on a lock-free queue and applied by the simulation at the start of its next step.
  */
 public class InputHandler {
 
     private final UserPlane user;
     private final LevelParent levelParent;
+    private final Queue<InputCommand> pendingCommands = new ConcurrentLinkedQueue<>();
+    private volatile boolean deferred;
+    private volatile boolean keyCommandsEnabled = true;
 
     /**
      * Constructs a new InputHandler.
@@ -44,10 +52,12 @@ public class InputHandler {
      */
     private void handleKeyPressed(KeyEvent event) {
         KeyCode kc = event.getCode();
-        if (kc == KeyCode.UP) user.moveUp();
-        if (kc == KeyCode.DOWN) user.moveDown();
-        if (kc == KeyCode.SPACE) levelParent.fireProjectile();
+        if (kc == KeyCode.UP) submitCommand(InputCommand.MOVE_UP);
+        if (kc == KeyCode.DOWN) submitCommand(InputCommand.MOVE_DOWN);
+        if (kc == KeyCode.SPACE) submitCommand(InputCommand.FIRE);
         if (kc == KeyCode.ESCAPE) levelParent.togglePause();
+        if (kc == KeyCode.F3) levelParent.toggleProfilerDisplay();
+        if (kc == KeyCode.F4) levelParent.dumpProfile();
     }
 
     /**
@@ -57,6 +67,70 @@ public class InputHandler {
      */
     private void handleKeyReleased(KeyEvent event) {
         KeyCode kc = event.getCode();
-        if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
+        if (kc == KeyCode.UP || kc == KeyCode.DOWN) submitCommand(InputCommand.STOP);
+    }
+
+    /**
+     * Applies a command from a key event now, or queues it for the simulation thread when commands are deferred.
+     *
+     * @param command The command to apply.
+     */
+    private void submitCommand(InputCommand command) {
+        if (!keyCommandsEnabled) {
+            return;
+        }
+        if (deferred) {
+            pendingCommands.offer(command);
+        } else {
+            handleCommand(command);
+        }
+    }
+
+    /**
+     * Sets whether commands from key events are queued instead of applied immediately.
+     * Used when the simulation runs on a background thread and must be the only thread moving the user's plane.
+     *
+     * @param deferred true to queue commands until {@link #applyPendingCommands()} is called.
+     */
+    public void setDeferred(boolean deferred) {
+        this.deferred = deferred;
+    }
+
+    /**
+     * Sets whether key presses give the user's plane commands.
+     * Turned off while a replay controls the plane; pausing and the other keys keep working.
+     *
+     * @param keyCommandsEnabled false to ignore player commands from key presses.
+     */
+    public void setKeyCommandsEnabled(boolean keyCommandsEnabled) {
+        this.keyCommandsEnabled = keyCommandsEnabled;
+    }
+
+    /**
+     * Applies every queued command in the order the keys were pressed.
+     * Called by the simulation at the start of each step.
+     */
+    public void applyPendingCommands() {
+        InputCommand command;
+        while ((command = pendingCommands.poll()) != null) {
+            handleCommand(command);
+        }
+    }
+
+    /**
+     * Applies a player command to the user's plane.
+     * Key events are routed through here, and headless simulations call it directly.
+     * Every command is reported to the level first, which records it for the run's replay.
+     *
+     * @param command The command to apply.
+     */
+    public void handleCommand(InputCommand command) {
+        levelParent.recordInput(command);
+        switch (command) {
+            case MOVE_UP -> user.moveUp();
+            case MOVE_DOWN -> user.moveDown();
+            case STOP -> user.stop();
+            case FIRE -> levelParent.fireProjectile();
+        }
     }
 }
@@ -0,0 +1,152 @@
+package com.example.demo.gamemanager;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of all gameplay randomness in a level.
+ * Each subsystem draws from its own {@link Stream}, split from one seed, so the streams are independent:
+ * a change in how often one subsystem draws does not shift the numbers any other subsystem sees.
+ * Playing a level again with the same seed and the same input gives the same game.
+ * <p>
+ * Every level owns its own service and nothing is shared between levels, so headless simulations
+ * running side by side never contend on a generator. A service is used by one thread at a time.
+ */
+public class RandomService {
+
+    /**
+     * The subsystems that draw random numbers.
+     */
+    public enum Stream {
+        /**
+         * Where and which enemies spawn.
+         */
+        SPAWNING,
+
+        /**
+         * When regular enemy planes fire.
+         */
+        ENEMY_FIRE,
+
+        /**
+         * How the boss moves, fires and raises its shield.
+         */
+        BOSS,
+
+        /**
+         * How the ally plane moves and fires.
+         */
+        ALLY,
+
+        /**
+         * Which ability the user is granted.
+         */
+        ABILITIES
+    }
+
+    private final StreamGenerator[] streams = new StreamGenerator[Stream.values().length];
+    private long seed;
+
+    /**
+     * Constructs a new RandomService with a fresh random seed.
+     */
+    public RandomService() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a new RandomService.
+     *
+     * @param seed The seed every stream is split from.
+     */
+    public RandomService(long seed) {
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = new StreamGenerator();
+        }
+        reseed(seed);
+    }
+
+    /**
+     * Restarts every stream from a new seed.
+     * Generators handed out earlier follow the new seed too. Draws made before reseeding are not repeated,
+     * so a level that must follow a seed is given a seeded service when it is created instead.
+     *
+     * @param seed The seed every stream is split from.
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (StreamGenerator stream : streams) {
+            stream.delegate = root.split();
+        }
+    }
+
+    /**
+     * Returns the seed the streams were split from, to record with a run.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the generator of a subsystem.
+     *
+     * @param stream The subsystem.
+     * @return The subsystem's generator.
+     */
+    public RandomGenerator get(Stream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    /**
+     * Shuffles a list in place with a given generator, like {@link java.util.Collections#shuffle(List)}
+     * but without touching the shared global generator.
+     *
+     * @param list   The list to shuffle.
+     * @param random The generator to shuffle with.
+     */
+    public static void shuffle(List<?> list, RandomGenerator random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            swap(list, i, random.nextInt(i + 1));
+        }
+    }
+
+    /**
+     * Swaps two elements of a list.
+     *
+     * @param list   The list.
+     * @param first  The index of the first element.
+     * @param second The index of the second element.
+     */
+    private static <T> void swap(List<T> list, int first, int second) {
+        T element = list.get(first);
+        list.set(first, list.get(second));
+        list.set(second, element);
+    }
+
+    /**
+     * A stream's generator, which stays the same object when the service is reseeded.
+     */
+    private static final class StreamGenerator implements RandomGenerator {
+        private SplittableRandom delegate;
+
+        @Override
+        public long nextLong() {
+            return delegate.nextLong();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return delegate.nextInt(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return delegate.nextDouble();
+        }
+    }
+}
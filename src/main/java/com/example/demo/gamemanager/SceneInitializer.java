@@ -1,11 +1,9 @@
 package com.example.demo.gamemanager;
 
+import com.example.demo.assetmanager.ImageCache;
 import javafx.scene.Group;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 /**
  * Handles the initialization of the game scene, including setting up the background
  * and attaching input handlers.
@@ -29,8 +27,8 @@ public class SceneInitializer {
      */
     public SceneInitializer(Group root, String backgroundImage, double screenWidth, double screenHeight, InputHandler inputHandler) {
         this.root = root;
-        this.background = new ImageView(new Image(
-                Objects.requireNonNull(getClass().getResource(backgroundImage)).toExternalForm()));
+        this.background = new ImageView(ImageCache.getInstance().getImage(
+                backgroundImage, (int) screenWidth, (int) screenHeight, false));
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
         this.inputHandler = inputHandler;
@@ -0,0 +1,60 @@
+package com.example.demo.gamemanager;
+
+import com.example.demo.renderer.RenderLayer;
+
+/**
+ * The fixed layers of a level's scene, from back to front.
+ * Each layer is a group of its own under the scene's root, so the draw order comes from the structure of the scene
+ * and adding or removing a node only touches the children of its layer.
+ */
+public enum SceneLayer {
+    /**
+     * The background image, which also receives key input.
+     */
+    BACKGROUND,
+
+    /**
+     * Enemy planes.
+     */
+    PLANES,
+
+    /**
+     * Projectiles of every side.
+     */
+    PROJECTILES,
+
+    /**
+     * The user's plane and the planes fighting with it.
+     */
+    PLAYER,
+
+    /**
+     * Shields, drawn over the planes they protect.
+     */
+    SHIELDS,
+
+    /**
+     * Hearts, kill counts and other displays.
+     */
+    HUD,
+
+    /**
+     * Countdown, pause, win and game over overlays.
+     */
+    OVERLAYS;
+
+    /**
+     * Returns the scene layer actors of a render layer are added to.
+     *
+     * @param layer The render layer.
+     * @return The scene layer.
+     */
+    public static SceneLayer of(RenderLayer layer) {
+        return switch (layer) {
+            case PLANES -> PLANES;
+            case PROJECTILES -> PROJECTILES;
+            case PLAYER -> PLAYER;
+            case SHIELDS -> SHIELDS;
+        };
+    }
+}
@@ -1,16 +1,23 @@
 package com.example.demo.gamemanager;
 
+import com.example.demo.renderer.RenderLayer;
 import javafx.scene.Group;
 import javafx.scene.Scene;
+import javafx.scene.image.ImageView;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Manages the initialization and setup of the game scene, including the root node and background.
+ * The root holds one group per {@link SceneLayer}, in draw order, and every node is added to its layer.
  */
 public class SceneManager {
 
     private final Group root;
     private final Scene scene;
     private final SceneInitializer sceneInitializer;
+    private final Map<SceneLayer, Group> layers = new EnumMap<>(SceneLayer.class);
 
     /**
      * Constructs a new SceneManager with the specified parameters.
@@ -22,8 +29,13 @@ public class SceneManager {
      */
     public SceneManager(String backgroundImageName, double screenWidth, double screenHeight, InputHandler inputHandler) {
         this.root = new Group();
+        for (SceneLayer layer : SceneLayer.values()) {
+            Group group = new Group();
+            layers.put(layer, group);
+            root.getChildren().add(group);
+        }
         this.scene = new Scene(root, screenWidth, screenHeight);
-        this.sceneInitializer = new SceneInitializer(root, backgroundImageName, screenWidth, screenHeight, inputHandler);
+        this.sceneInitializer = new SceneInitializer(getLayer(SceneLayer.BACKGROUND), backgroundImageName, screenWidth, screenHeight, inputHandler);
     }
 
     /**
@@ -36,6 +48,7 @@ public class SceneManager {
 
     /**
      * Returns the root node of the scene.
+     * Nodes should be added to a layer instead, see {@link #getLayer(SceneLayer)}.
      *
      * @return The root Group.
      */
@@ -43,6 +56,38 @@ public class SceneManager {
         return root;
     }
 
+    /**
+     * Returns the group of a layer.
+     *
+     * @param layer The layer.
+     * @return The layer's group.
+     */
+    public Group getLayer(SceneLayer layer) {
+        return layers.get(layer);
+    }
+
+    /**
+     * Returns the group each render layer's actors are added to.
+     *
+     * @return The actor layers.
+     */
+    public Map<RenderLayer, Group> getActorLayers() {
+        Map<RenderLayer, Group> actorLayers = new EnumMap<>(RenderLayer.class);
+        for (RenderLayer layer : RenderLayer.values()) {
+            actorLayers.put(layer, getLayer(SceneLayer.of(layer)));
+        }
+        return actorLayers;
+    }
+
+    /**
+     * Returns the background, which receives key input when it has the focus.
+     *
+     * @return The background ImageView.
+     */
+    public ImageView getBackground() {
+        return sceneInitializer.getBackground();
+    }
+
     /**
      * Returns the initialized Scene.
      *
@@ -0,0 +1,343 @@
+package com.example.demo.gamemanager;
+
+import com.example.demo.ActiveActorDestructible;
+import com.example.demo.assetmanager.CollisionMask;
+import com.example.demo.projectile.ProjectileStore;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform-grid spatial hash used as the collision broadphase.
+ * The playfield is split into square cells; each actor is inserted into every cell its bounds overlap
+ * at any moment of the tick,
+ * so a query only has to look at the actors sharing a cell with the queried area.
+ * Bounds are read once per actor when the grid is built and cached for the rest of the tick.
+ * Actors outside the playfield are clamped into the border cells, so nothing is ever missed.
+ */
+public class SpatialGrid implements Broadphase {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_CELL_CAPACITY = 8;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    private final int[][] cells;
+    private final int[] cellCounts;
+
+    private ActiveActorDestructible[] actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private CollisionMask[] masks = new CollisionMask[INITIAL_CAPACITY];
+    private double[] displacementX = new double[INITIAL_CAPACITY];
+    private double[] displacementY = new double[INITIAL_CAPACITY];
+    private boolean[] active = new boolean[INITIAL_CAPACITY];
+    private int[] queryStamps = new int[INITIAL_CAPACITY];
+    private int[] results = new int[INITIAL_CAPACITY];
+    private int size;
+    private int currentStamp;
+
+    /**
+     * Constructs a new SpatialGrid covering the given playfield.
+     *
+     * @param width    The width of the playfield.
+     * @param height   The height of the playfield.
+     * @param cellSize The side length of a grid cell.
+     */
+    public SpatialGrid(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = new int[columns * rows][INITIAL_CELL_CAPACITY];
+        this.cellCounts = new int[columns * rows];
+    }
+
+    /**
+     * Rebuilds the grid from the given actors, reading the bounds of stored projectiles from their store
+     * and the bounds of every other actor from the scene graph.
+     *
+     * @param actorList       The actors to insert.
+     * @param projectileStore The store simulating the projectiles, or null.
+     */
+    @Override
+    public void build(List<? extends ActiveActorDestructible> actorList, ProjectileStore projectileStore) {
+        Arrays.fill(cellCounts, 0);
+        Arrays.fill(actors, 0, size, null);
+        size = 0;
+        ensureCapacity(actorList.size());
+        for (ActiveActorDestructible actor : actorList) {
+            int entry = size++;
+            actors[entry] = actor;
+            int slot = projectileStore != null ? projectileStore.slotOf(actor) : -1;
+            if (slot >= 0) {
+                minX[entry] = projectileStore.getMinX(slot);
+                minY[entry] = projectileStore.getMinY(slot);
+                maxX[entry] = projectileStore.getMaxX(slot);
+                maxY[entry] = projectileStore.getMaxY(slot);
+                displacementX[entry] = projectileStore.getDisplacementX(slot);
+                displacementY[entry] = projectileStore.getDisplacementY(slot);
+            } else {
+                minX[entry] = actor.getWorldMinX();
+                minY[entry] = actor.getWorldMinY();
+                maxX[entry] = actor.getWorldMaxX();
+                maxY[entry] = actor.getWorldMaxY();
+                displacementX[entry] = actor.getDisplacementX();
+                displacementY[entry] = actor.getDisplacementY();
+            }
+            masks[entry] = tightenToMask(entry, actor.getCollisionMask());
+            active[entry] = true;
+            queryStamps[entry] = 0;
+            insert(entry);
+        }
+        currentStamp = 0;
+    }
+
+    /**
+     * Finds the active entries that touch a moving box at some moment of this tick.
+     * Results are sorted by entry index, i.e. in the order of the list the grid was built from,
+     * and can be read with {@link #getResult(int)}.
+     *
+     * @param queryMinX          The minimum X of the box.
+     * @param queryMinY          The minimum Y of the box.
+     * @param queryMaxX          The maximum X of the box.
+     * @param queryMaxY          The maximum Y of the box.
+     * @param queryDisplacementX How far the box moved horizontally during the tick.
+     * @param queryDisplacementY How far the box moved vertically during the tick.
+     * @return The number of intersecting entries.
+     */
+    @Override
+    public int query(double queryMinX, double queryMinY, double queryMaxX, double queryMaxY,
+                     double queryDisplacementX, double queryDisplacementY) {
+        if (size == 0 || queryMaxX < queryMinX || queryMaxY < queryMinY) {
+            return 0;
+        }
+        int stamp = nextStamp();
+        int count = 0;
+        int firstColumn = toColumn(queryMinX - Math.max(0, queryDisplacementX));
+        int lastColumn = toColumn(queryMaxX - Math.min(0, queryDisplacementX));
+        int firstRow = toRow(queryMinY - Math.max(0, queryDisplacementY));
+        int lastRow = toRow(queryMaxY - Math.min(0, queryDisplacementY));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * columns + column;
+                int[] cellEntries = cells[cell];
+                for (int i = 0, n = cellCounts[cell]; i < n; i++) {
+                    int entry = cellEntries[i];
+                    if (queryStamps[entry] == stamp) {
+                        continue;
+                    }
+                    queryStamps[entry] = stamp;
+                    if (active[entry] && intersects(entry, queryMinX, queryMinY, queryMaxX, queryMaxY,
+                            queryDisplacementX, queryDisplacementY)) {
+                        results[count++] = entry;
+                    }
+                }
+            }
+        }
+        Arrays.sort(results, 0, count);
+        return count;
+    }
+
+    /**
+     * Returns the entry index of a result from the last query.
+     *
+     * @param index The position in the result list.
+     * @return The entry index.
+     */
+    @Override
+    public int getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * Returns the actor of a result from the last query.
+     *
+     * @param index The position in the result list.
+     * @return The intersecting actor.
+     */
+    @Override
+    public ActiveActorDestructible getResultActor(int index) {
+        return actors[results[index]];
+    }
+
+    /**
+     * Returns the number of entries in the grid, including deactivated ones.
+     *
+     * @return The number of entries.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the actor stored at an entry.
+     *
+     * @param entry The entry index.
+     * @return The actor.
+     */
+    @Override
+    public ActiveActorDestructible getActor(int entry) {
+        return actors[entry];
+    }
+
+    /**
+     * Checks whether an entry still takes part in queries.
+     *
+     * @param entry The entry index.
+     * @return True if the entry is active.
+     */
+    @Override
+    public boolean isActive(int entry) {
+        return active[entry];
+    }
+
+    /**
+     * Removes an entry from further queries this tick, e.g. after its actor left the list mid-tick.
+     *
+     * @param entry The entry index.
+     */
+    @Override
+    public void deactivate(int entry) {
+        active[entry] = false;
+    }
+
+    @Override
+    public double getMinX(int entry) {
+        return minX[entry];
+    }
+
+    @Override
+    public double getMinY(int entry) {
+        return minY[entry];
+    }
+
+    @Override
+    public double getMaxX(int entry) {
+        return maxX[entry];
+    }
+
+    @Override
+    public double getMaxY(int entry) {
+        return maxY[entry];
+    }
+
+    @Override
+    public CollisionMask getMask(int entry) {
+        return masks[entry];
+    }
+
+    @Override
+    public double getDisplacementX(int entry) {
+        return displacementX[entry];
+    }
+
+    @Override
+    public double getDisplacementY(int entry) {
+        return displacementY[entry];
+    }
+
+    /**
+     * Inserts an entry into every cell its cached bounds overlap at any moment of the tick.
+     *
+     * @param entry The entry index.
+     */
+    private void insert(int entry) {
+        if (maxX[entry] < minX[entry] || maxY[entry] < minY[entry]) {
+            return;
+        }
+        int firstColumn = toColumn(getSweptMinX(entry));
+        int lastColumn = toColumn(getSweptMaxX(entry));
+        int lastRow = toRow(getSweptMaxY(entry));
+        for (int row = toRow(getSweptMinY(entry)); row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * columns + column;
+                if (cellCounts[cell] == cells[cell].length) {
+                    cells[cell] = Arrays.copyOf(cells[cell], cells[cell].length * 2);
+                }
+                cells[cell][cellCounts[cell]++] = entry;
+            }
+        }
+    }
+
+    /**
+     * Maps an X coordinate to a column, clamping positions outside the playfield to the border columns.
+     *
+     * @param x The X coordinate.
+     * @return The column index.
+     */
+    private int toColumn(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellSize)));
+    }
+
+    /**
+     * Maps a Y coordinate to a row, clamping positions outside the playfield to the border rows.
+     *
+     * @param y The Y coordinate.
+     * @return The row index.
+     */
+    private int toRow(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellSize)));
+    }
+
+    /**
+     * Advances the query stamp used to report every entry at most once per query.
+     *
+     * @return The stamp of the new query.
+     */
+    private int nextStamp() {
+        if (++currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(queryStamps, 0);
+            currentStamp = 1;
+        }
+        return currentStamp;
+    }
+
+    /**
+     * Shrinks the cached bounds of an entry to the tight box of its collision mask.
+     * Masks built at a different size than the sprite is displayed at, or without any solid pixel, are ignored.
+     *
+     * @param entry The entry index.
+     * @param mask  The collision mask of the entry's actor, or null.
+     * @return The mask now aligned with the entry's bounds, or null if the full bounds are kept.
+     */
+    private CollisionMask tightenToMask(int entry, CollisionMask mask) {
+        if (mask == null || mask.isEmpty() || !mask.matchesSize(maxX[entry] - minX[entry], maxY[entry] - minY[entry])) {
+            return null;
+        }
+        double originX = minX[entry];
+        double originY = minY[entry];
+        minX[entry] = originX + mask.getTightMinX();
+        minY[entry] = originY + mask.getTightMinY();
+        maxX[entry] = originX + mask.getTightMaxX();
+        maxY[entry] = originY + mask.getTightMaxY();
+        return mask;
+    }
+
+    /**
+     * Grows the per-entry arrays so they can hold the given number of entries.
+     *
+     * @param capacity The required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= actors.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, actors.length * 2);
+        actors = Arrays.copyOf(actors, newCapacity);
+        minX = Arrays.copyOf(minX, newCapacity);
+        minY = Arrays.copyOf(minY, newCapacity);
+        maxX = Arrays.copyOf(maxX, newCapacity);
+        maxY = Arrays.copyOf(maxY, newCapacity);
+        masks = Arrays.copyOf(masks, newCapacity);
+        displacementX = Arrays.copyOf(displacementX, newCapacity);
+        displacementY = Arrays.copyOf(displacementY, newCapacity);
+        active = Arrays.copyOf(active, newCapacity);
+        queryStamps = Arrays.copyOf(queryStamps, newCapacity);
+        results = Arrays.copyOf(results, newCapacity);
+    }
+}
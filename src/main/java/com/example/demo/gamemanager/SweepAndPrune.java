@@ -0,0 +1,305 @@
+package com.example.demo.gamemanager;
+
+import com.example.demo.ActiveActorDestructible;
+import com.example.demo.assetmanager.CollisionMask;
+import com.example.demo.projectile.ProjectileStore;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sweep-and-prune broadphase keeping the entries sorted by the minimum X they cover during the tick.
+ * Projectiles and most enemy planes only move horizontally, so the order barely changes between ticks:
+ * each build carries the previous tick's order over to the new entries and repairs it with an insertion sort,
+ * which runs in close to linear time on nearly sorted data.
+ * A query binary-searches the sorted order and only tests entries whose X interval can overlap the queried box.
+ * Carrying the order over relies on actor lists only losing actors or gaining them at the end between builds,
+ * which is how the levels maintain them; any other change is still handled correctly, just sorted from scratch.
+ */
+public class SweepAndPrune implements Broadphase {
+
+    private static final int INITIAL_CAPACITY = 64;
+    // Widens the search window so rounding in the cached widths never hides an overlapping entry
+    private static final double SEARCH_SLACK = 1;
+
+    private ActiveActorDestructible[] actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private ActiveActorDestructible[] previousActors = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private CollisionMask[] masks = new CollisionMask[INITIAL_CAPACITY];
+    private double[] displacementX = new double[INITIAL_CAPACITY];
+    private double[] displacementY = new double[INITIAL_CAPACITY];
+    private double[] sweptMinX = new double[INITIAL_CAPACITY];
+    private boolean[] active = new boolean[INITIAL_CAPACITY];
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int[] previousOrder = new int[INITIAL_CAPACITY];
+    private int[] remap = new int[INITIAL_CAPACITY];
+    private int[] results = new int[INITIAL_CAPACITY];
+    private int size;
+    private double maxWidth;
+
+    @Override
+    public void build(List<? extends ActiveActorDestructible> actorList, ProjectileStore projectileStore) {
+        ActiveActorDestructible[] swappedActors = previousActors;
+        previousActors = actors;
+        actors = swappedActors;
+        int[] swappedOrder = previousOrder;
+        previousOrder = order;
+        order = swappedOrder;
+        int previousSize = size;
+
+        size = actorList.size();
+        ensureCapacity(size);
+        maxWidth = 0;
+        for (int entry = 0; entry < size; entry++) {
+            ActiveActorDestructible actor = actorList.get(entry);
+            actors[entry] = actor;
+            int slot = projectileStore != null ? projectileStore.slotOf(actor) : -1;
+            if (slot >= 0) {
+                minX[entry] = projectileStore.getMinX(slot);
+                minY[entry] = projectileStore.getMinY(slot);
+                maxX[entry] = projectileStore.getMaxX(slot);
+                maxY[entry] = projectileStore.getMaxY(slot);
+                displacementX[entry] = projectileStore.getDisplacementX(slot);
+                displacementY[entry] = projectileStore.getDisplacementY(slot);
+            } else {
+                minX[entry] = actor.getWorldMinX();
+                minY[entry] = actor.getWorldMinY();
+                maxX[entry] = actor.getWorldMaxX();
+                maxY[entry] = actor.getWorldMaxY();
+                displacementX[entry] = actor.getDisplacementX();
+                displacementY[entry] = actor.getDisplacementY();
+            }
+            masks[entry] = tightenToMask(entry, actor.getCollisionMask());
+            active[entry] = true;
+            sweptMinX[entry] = getSweptMinX(entry);
+            maxWidth = Math.max(maxWidth, getSweptMaxX(entry) - sweptMinX[entry]);
+        }
+
+        carryOverOrder(previousSize);
+        Arrays.fill(previousActors, 0, previousSize, null);
+        insertionSort();
+    }
+
+    /**
+     * Finds the active entries that touch a moving box at some moment of this tick.
+     * Only entries whose swept X interval starts within one widest swept entry to the left of the box's
+     * swept X interval are tested.
+     *
+     * @param queryMinX          The minimum X of the box.
+     * @param queryMinY          The minimum Y of the box.
+     * @param queryMaxX          The maximum X of the box.
+     * @param queryMaxY          The maximum Y of the box.
+     * @param queryDisplacementX How far the box moved horizontally during the tick.
+     * @param queryDisplacementY How far the box moved vertically during the tick.
+     * @return The number of intersecting entries.
+     */
+    @Override
+    public int query(double queryMinX, double queryMinY, double queryMaxX, double queryMaxY,
+                     double queryDisplacementX, double queryDisplacementY) {
+        if (size == 0 || queryMaxX < queryMinX || queryMaxY < queryMinY) {
+            return 0;
+        }
+        double querySweptMinX = queryMinX - Math.max(0, queryDisplacementX);
+        double querySweptMaxX = queryMaxX - Math.min(0, queryDisplacementX);
+        int count = 0;
+        for (int i = firstAtOrAbove(querySweptMinX - maxWidth - SEARCH_SLACK); i < size; i++) {
+            int entry = order[i];
+            if (sweptMinX[entry] > querySweptMaxX) {
+                break;
+            }
+            if (active[entry] && intersects(entry, queryMinX, queryMinY, queryMaxX, queryMaxY,
+                    queryDisplacementX, queryDisplacementY)) {
+                results[count++] = entry;
+            }
+        }
+        Arrays.sort(results, 0, count);
+        return count;
+    }
+
+    @Override
+    public int getResult(int index) {
+        return results[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ActiveActorDestructible getActor(int entry) {
+        return actors[entry];
+    }
+
+    @Override
+    public boolean isActive(int entry) {
+        return active[entry];
+    }
+
+    @Override
+    public void deactivate(int entry) {
+        active[entry] = false;
+    }
+
+    @Override
+    public double getMinX(int entry) {
+        return minX[entry];
+    }
+
+    @Override
+    public double getMinY(int entry) {
+        return minY[entry];
+    }
+
+    @Override
+    public double getMaxX(int entry) {
+        return maxX[entry];
+    }
+
+    @Override
+    public double getMaxY(int entry) {
+        return maxY[entry];
+    }
+
+    @Override
+    public CollisionMask getMask(int entry) {
+        return masks[entry];
+    }
+
+    @Override
+    public double getDisplacementX(int entry) {
+        return displacementX[entry];
+    }
+
+    @Override
+    public double getDisplacementY(int entry) {
+        return displacementY[entry];
+    }
+
+    /**
+     * Fills the sort order of the new entries from the previous build.
+     * Actors that survived keep their previous position in the order; the new list is walked alongside
+     * the previous one, so survivors are matched as long as the list only lost actors or gained them at the end.
+     * Entries that could not be matched are appended and placed by the insertion sort.
+     *
+     * @param previousSize The number of entries in the previous build.
+     */
+    private void carryOverOrder(int previousSize) {
+        int matched = 0;
+        for (int previous = 0; previous < previousSize; previous++) {
+            if (matched < size && actors[matched] == previousActors[previous]) {
+                remap[previous] = matched++;
+            } else {
+                remap[previous] = -1;
+            }
+        }
+        int count = 0;
+        for (int i = 0; i < previousSize; i++) {
+            int entry = remap[previousOrder[i]];
+            if (entry >= 0) {
+                order[count++] = entry;
+            }
+        }
+        for (int entry = matched; entry < size; entry++) {
+            order[count++] = entry;
+        }
+    }
+
+    /**
+     * Sorts the order by swept minimum X, breaking ties by entry index so the order is deterministic.
+     */
+    private void insertionSort() {
+        for (int i = 1; i < size; i++) {
+            int entry = order[i];
+            int j = i - 1;
+            while (j >= 0 && comesAfter(order[j], entry)) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = entry;
+        }
+    }
+
+    /**
+     * Checks whether one entry sorts after another.
+     *
+     * @param entry The entry that might come later.
+     * @param other The entry that might come earlier.
+     * @return True if the first entry sorts after the second.
+     */
+    private boolean comesAfter(int entry, int other) {
+        return sweptMinX[entry] > sweptMinX[other] || (sweptMinX[entry] == sweptMinX[other] && entry > other);
+    }
+
+    /**
+     * Finds the first position in the order whose entry has a swept minimum X at or above a value.
+     *
+     * @param x The value to search for.
+     * @return The position, or the number of entries if every entry lies below the value.
+     */
+    private int firstAtOrAbove(double x) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sweptMinX[order[middle]] < x) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Shrinks the cached bounds of an entry to the tight box of its collision mask.
+     * Masks built at a different size than the sprite is displayed at, or without any solid pixel, are ignored.
+     *
+     * @param entry The entry index.
+     * @param mask  The collision mask of the entry's actor, or null.
+     * @return The mask now aligned with the entry's bounds, or null if the full bounds are kept.
+     */
+    private CollisionMask tightenToMask(int entry, CollisionMask mask) {
+        if (mask == null || mask.isEmpty() || !mask.matchesSize(maxX[entry] - minX[entry], maxY[entry] - minY[entry])) {
+            return null;
+        }
+        double originX = minX[entry];
+        double originY = minY[entry];
+        minX[entry] = originX + mask.getTightMinX();
+        minY[entry] = originY + mask.getTightMinY();
+        maxX[entry] = originX + mask.getTightMaxX();
+        maxY[entry] = originY + mask.getTightMaxY();
+        return mask;
+    }
+
+    /**
+     * Grows the per-entry arrays so they can hold the given number of entries.
+     * The arrays of the previous build are kept, as they are still needed to carry the order over.
+     *
+     * @param capacity The required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= actors.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, actors.length * 2);
+        actors = Arrays.copyOf(actors, newCapacity);
+        previousActors = Arrays.copyOf(previousActors, newCapacity);
+        minX = Arrays.copyOf(minX, newCapacity);
+        minY = Arrays.copyOf(minY, newCapacity);
+        maxX = Arrays.copyOf(maxX, newCapacity);
+        maxY = Arrays.copyOf(maxY, newCapacity);
+        masks = Arrays.copyOf(masks, newCapacity);
+        displacementX = Arrays.copyOf(displacementX, newCapacity);
+        displacementY = Arrays.copyOf(displacementY, newCapacity);
+        sweptMinX = Arrays.copyOf(sweptMinX, newCapacity);
+        active = Arrays.copyOf(active, newCapacity);
+        order = Arrays.copyOf(order, newCapacity);
+        previousOrder = Arrays.copyOf(previousOrder, newCapacity);
+        remap = Arrays.copyOf(remap, newCapacity);
+        results = Arrays.copyOf(results, newCapacity);
+    }
+}
@@ -2,17 +2,20 @@
 package com.example.demo.level;
 
 import com.example.demo.ActiveActorDestructible;
+import com.example.demo.assetmanager.ImageCache;
+import com.example.demo.gamemanager.RandomService;
+import com.example.demo.gamemanager.SceneLayer;
 import com.example.demo.levelview.LevelView;
 import com.example.demo.overlay.OverlayManager;
 import com.example.demo.plane.AllyPlane;
 import com.example.demo.plane.EnemyPlane;
 import com.example.demo.plane.IntermediatePlane;
 import com.example.demo.plane.UserPlane;
-import javafx.scene.Group;
+import com.example.demo.projectile.AllyProjectile;
+import com.example.demo.projectile.EnemyProjectile;
+import com.example.demo.renderer.RenderLayer;
 
-import java.util.List;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * Class representing the fourth level of the game.
@@ -20,12 +23,12 @@ import java.util.stream.Collectors;
  */
 public class LevelFour extends LevelParent {
 
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
+    public static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
     private static final String NEXT_LEVEL = ""; // Assuming Level Four is the final level
     private static final int PLAYER_INITIAL_HEALTH = 5;
     private static final double Y_UPPER_BOUND = 80;
     private static final double Y_LOWER_BOUND = 580.0;
-    private Supplier<Double> randomSupplier = Math::random; // Default to Math.random
+    private Supplier<Double> randomSupplier = () -> getRandom(RandomService.Stream.ABILITIES).nextDouble();
 
     // Win conditions
     private static final int NORMAL_PLANES_TO_DESTROY = 15;
@@ -45,7 +48,30 @@ public class LevelFour extends LevelParent {
      * @param screenWidth the width of the screen
      */
     public LevelFour(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, "LEVEL FOUR");
+        this(screenHeight, screenWidth, false);
+    }
+
+    /**
+     * Constructor for LevelFour, optionally in headless mode.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param headless    true to run the level without a window
+     */
+    public LevelFour(double screenHeight, double screenWidth, boolean headless) {
+        this(screenHeight, screenWidth, headless, new RandomService());
+    }
+
+    /**
+     * Constructor for LevelFour, optionally in headless mode, with the given source of gameplay randomness.
+     *
+     * @param screenHeight  the height of the screen
+     * @param screenWidth   the width of the screen
+     * @param headless      true to run the level without a window
+     * @param randomService the source of all gameplay randomness, seeded with the seed to play
+     */
+    public LevelFour(double screenHeight, double screenWidth, boolean headless, RandomService randomService) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, "LEVEL FOUR", headless, randomService);
     }
 
     /**
@@ -61,12 +87,12 @@ public class LevelFour extends LevelParent {
     }
 
     /**
-     * Initializes friendly units by adding the user and their shield image to the root group.
+     * Initializes friendly units by adding the user and their shield image to the renderer.
      */
     @Override
     protected void initializeFriendlyUnits() {
-        Group userGroup = new Group(getUser(), getUser().getShieldImage());
-        getRoot().getChildren().add(userGroup);
+        getRenderer().add(getUser(), RenderLayer.PLAYER);
+        getRenderer().add(getUser().getShieldImage(), RenderLayer.SHIELDS);
     }
 
     // ------------------------ spawn enemy plane & intermediate plane -------------------------
@@ -79,18 +105,33 @@ public class LevelFour extends LevelParent {
         final int TOTAL_ENEMIES = 7; // Adjust based on desired difficulty
 
         for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            double yPos = Y_UPPER_BOUND + Math.random() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
+            double yPos = Y_UPPER_BOUND + getRandom(RandomService.Stream.SPAWNING).nextDouble() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
             ActiveActorDestructible enemy;
 
             // Randomly decide to spawn a Normal or Intermediate Plane
-            if (Math.random() < 0.7) { // 70% Normal Planes
-                enemy = new EnemyPlane(getScreenWidth(), yPos);
+            if (getRandom(RandomService.Stream.SPAWNING).nextDouble() < 0.7) { // 70% Normal Planes
+                enemy = new EnemyPlane(getScreenWidth(), yPos, getRandom(RandomService.Stream.ENEMY_FIRE));
             } else { // 30% Intermediate Planes
-                enemy = new IntermediatePlane(getScreenWidth(), yPos);
+                enemy = new IntermediatePlane(getScreenWidth(), yPos, getRandom(RandomService.Stream.ENEMY_FIRE));
             }
             addEnemyUnit(enemy);
         }
     }
+    /**
+     * Warms the shared image cache with the sprites used in Level Four.
+     *
+     * @param imageCache the shared image cache to warm
+     */
+    @Override
+    protected void preloadSprites(ImageCache imageCache) {
+        super.preloadSprites(imageCache);
+        imageCache.preload(EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT);
+        imageCache.preload(IntermediatePlane.IMAGE_NAME, IntermediatePlane.IMAGE_HEIGHT);
+        imageCache.preload(EnemyProjectile.IMAGE_NAME, EnemyProjectile.IMAGE_HEIGHT);
+        imageCache.preload(AllyPlane.IMAGE_NAME, AllyPlane.IMAGE_HEIGHT);
+        imageCache.preload(AllyProjectile.IMAGE_NAME, AllyProjectile.IMAGE_HEIGHT);
+    }
+
     /**
      * Instantiates the level view for Level Four.
      *
@@ -101,7 +142,8 @@ public class LevelFour extends LevelParent {
     @Override
     protected LevelView instantiateLevelView(double screenWidth, double screenHeight) {
         return new LevelView(
-                getRoot(),
+                getLayer(SceneLayer.HUD),
+                getLayer(SceneLayer.OVERLAYS),
                 PLAYER_INITIAL_HEALTH,
                 getBackToMainMenuCallback(),
                 this::pauseGame,
@@ -138,33 +180,24 @@ public class LevelFour extends LevelParent {
         return "LEVEL FOUR";
     }
     /**
-     * Removes all destroyed actors from the game.
+     * Updates the destruction counts when an enemy plane is removed
+     * and activates an ability once enough intermediate planes are down.
+     *
+     * @param enemy The destroyed enemy unit.
      */
     @Override
-    protected void removeAllDestroyedActors() {
-        List<ActiveActorDestructible> destroyedEnemies = getEnemyUnits().stream()
-                .filter(ActiveActorDestructible::isDestroyed)
-                .collect(Collectors.toList());
-
-        for (ActiveActorDestructible enemy : destroyedEnemies) {
-            if (enemy.getDestroyedBy() == ActiveActorDestructible.DestroyedBy.USER_PROJECTILE) {
-                if (enemy instanceof IntermediatePlane) {
-                    intermediatePlanesDestroyed++;
-                    // Check for ability activation
-                    if (intermediatePlanesDestroyed >= 2 && !abilityActivated) {
-                        decideAndActivateAbility();
-                    }
-                } else if (enemy instanceof EnemyPlane) {
-                    normalPlanesDestroyed++;
+    protected void onEnemyDestroyed(ActiveActorDestructible enemy) {
+        if (enemy.getDestroyedBy() == ActiveActorDestructible.DestroyedBy.USER_PROJECTILE) {
+            if (enemy instanceof IntermediatePlane) {
+                intermediatePlanesDestroyed++;
+                // Check for ability activation
+                if (intermediatePlanesDestroyed >= 2 && !abilityActivated) {
+                    decideAndActivateAbility();
                 }
+            } else if (enemy instanceof EnemyPlane) {
+                normalPlanesDestroyed++;
             }
         }
-        // Handle destroyed friendly units (e.g., AllyPlane)
-        List<ActiveActorDestructible> destroyedFriendlies = friendlyUnits.stream()
-                .filter(ActiveActorDestructible::isDestroyed)
-                .collect(Collectors.toList());
-
-        super.removeAllDestroyedActors();
     }
 
     /**
@@ -206,9 +239,11 @@ public class LevelFour extends LevelParent {
      */
     protected void spawnAllyPlane() {
         // Pass 'this::addAllyProjectile' as the projectile addition callback
-        activeAllyPlane = new AllyPlane(this::addAllyProjectile, this::deactivateAllyPlane);
+        activeAllyPlane = new AllyPlane(this::addAllyProjectile, this::deactivateAllyPlane,
+                getRandom(RandomService.Stream.ALLY));
+        activeAllyPlane.setProjectilePools(getProjectilePools());
         friendlyUnits.add(activeAllyPlane);
-        getRoot().getChildren().add(activeAllyPlane);
+        getRenderer().add(activeAllyPlane, RenderLayer.PLAYER);
 
     }
 
@@ -221,7 +256,7 @@ public class LevelFour extends LevelParent {
             activeAllyPlane.destroy(); // Remove Ally Plane from the game
             activeAllyPlane = null;
         }
-        levelView.updateCustomInfo("Ally Plane Deactivated.");
+        runOnFxThread(() -> levelView.updateCustomInfo("Ally Plane Deactivated."));
     }
 
     // ------------------ update level view info display ---------------------
@@ -238,11 +273,13 @@ public class LevelFour extends LevelParent {
         String shieldInfo = userPlane.isShieldActive() ?
                 " | Shield: " + (UserPlane.MAX_SHIELD_DAMAGE - userPlane.getShieldDamageCounter()) + " hits left"
                 : "";
+        AllyPlane allyPlane = activeAllyPlane;
         String allyInfo = "";
-        if (activeAllyPlane != null) {
-            allyInfo = String.format(" | Ally Plane Hits Left: %d", activeAllyPlane.getHealth());
+        if (allyPlane != null) {
+            allyInfo = String.format(" | Ally Plane Hits Left: %d", allyPlane.getHealth());
         }
-        levelView.updateCustomInfo(info + shieldInfo + allyInfo);
+        String customInfo = info + shieldInfo + allyInfo;
+        runOnFxThread(() -> levelView.updateCustomInfo(customInfo));
     }
     /**
      * Exposes the active overlay by delegating to LevelView.
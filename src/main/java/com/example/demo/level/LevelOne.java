@@ -1,9 +1,14 @@
 package com.example.demo.level;
 
 import com.example.demo.ActiveActorDestructible;
+import com.example.demo.assetmanager.ImageCache;
+import com.example.demo.gamemanager.RandomService;
+import com.example.demo.gamemanager.SceneLayer;
 import com.example.demo.levelview.LevelView;
-import com.example.demo.plane.EnemyPlane;
 import com.example.demo.overlay.OverlayManager;
+import com.example.demo.plane.EnemyPlane;
+import com.example.demo.projectile.EnemyProjectile;
+import com.example.demo.renderer.RenderLayer;
 
 /**
  * Class representing the first level of the game.
@@ -14,7 +19,7 @@ public class LevelOne extends LevelParent {
     public static final int KILLS_TO_ADVANCE = 10; // 10
     public static final int PLAYER_INITIAL_HEALTH = 5;
 
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+    public static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
     private static final String NEXT_LEVEL = "com.example.demo.level.LevelTwo";
     protected static final int TOTAL_ENEMIES = 5;
     private static final double Y_UPPER_BOUND = 80;
@@ -27,7 +32,30 @@ public class LevelOne extends LevelParent {
      * @param screenWidth  the width of the screen
      */
     public LevelOne(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, "LEVEL ONE");
+        this(screenHeight, screenWidth, false);
+    }
+
+    /**
+     * Constructor for LevelOne, optionally in headless mode.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth  the width of the screen
+     * @param headless     true to run the level without a window
+     */
+    public LevelOne(double screenHeight, double screenWidth, boolean headless) {
+        this(screenHeight, screenWidth, headless, new RandomService());
+    }
+
+    /**
+     * Constructor for LevelOne, optionally in headless mode, with the given source of gameplay randomness.
+     *
+     * @param screenHeight  the height of the screen
+     * @param screenWidth   the width of the screen
+     * @param headless      true to run the level without a window
+     * @param randomService the source of all gameplay randomness, seeded with the seed to play
+     */
+    public LevelOne(double screenHeight, double screenWidth, boolean headless, RandomService randomService) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, "LEVEL ONE", headless, randomService);
     }
 
     /**
@@ -47,15 +75,16 @@ public class LevelOne extends LevelParent {
      */
     @Override
     protected void updateCustomDisplay() {
-        levelView.updateKillCount(getUser().getNumberOfKills(), KILLS_TO_ADVANCE);
+        int kills = getUser().getNumberOfKills();
+        runOnFxThread(() -> levelView.updateKillCount(kills, KILLS_TO_ADVANCE));
     }
 
     /**
-     * Initializes friendly units by adding the user to the root group.
+     * Initializes friendly units by adding the user to the renderer.
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getRenderer().add(getUser(), RenderLayer.PLAYER);
     }
 
     /**
@@ -66,12 +95,24 @@ public class LevelOne extends LevelParent {
     protected void spawnEnemyUnits() {
         int currentNumberOfEnemies = getCurrentNumberOfEnemies();
         for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            double newEnemyInitialYPosition = Y_UPPER_BOUND + Math.random() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
-            ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
+            double newEnemyInitialYPosition = Y_UPPER_BOUND + getRandom(RandomService.Stream.SPAWNING).nextDouble() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
+            ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition, getRandom(RandomService.Stream.ENEMY_FIRE));
             addEnemyUnit(newEnemy);
         }
     }
 
+    /**
+     * Warms the shared image cache with the sprites used in Level One.
+     *
+     * @param imageCache the shared image cache to warm
+     */
+    @Override
+    protected void preloadSprites(ImageCache imageCache) {
+        super.preloadSprites(imageCache);
+        imageCache.preload(EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT);
+        imageCache.preload(EnemyProjectile.IMAGE_NAME, EnemyProjectile.IMAGE_HEIGHT);
+    }
+
     /**
      * Instantiates the level view for Level One.
      *
@@ -83,7 +124,8 @@ public class LevelOne extends LevelParent {
     protected LevelView instantiateLevelView(double screenWidth, double screenHeight) {
         // Pass the pause and resume callbacks to LevelView
         return new LevelView(
-                getRoot(),
+                getLayer(SceneLayer.HUD),
+                getLayer(SceneLayer.OVERLAYS),
                 PLAYER_INITIAL_HEALTH,
                 getBackToMainMenuCallback(),
                 this::pauseGame, // Pause callback
@@ -1,14 +1,25 @@
 // LevelParent.java
 package com.example.demo.level;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
 import com.example.demo.ActiveActorDestructible;
+import com.example.demo.assetmanager.ImageCache;
+import com.example.demo.display.ProfilerDisplay;
+import com.example.demo.gamemanager.CollisionLayer;
 import com.example.demo.gamemanager.CollisionManager;
+import com.example.demo.gamemanager.CollisionMatrix;
+import com.example.demo.gamemanager.FrameProfiler;
 import com.example.demo.gamemanager.GameStateManager;
 import com.example.demo.gamemanager.GameTimer;
+import com.example.demo.gamemanager.InputCommand;
 import com.example.demo.gamemanager.InputHandler;
+import com.example.demo.gamemanager.RandomService;
+import com.example.demo.gamemanager.SceneLayer;
 import com.example.demo.gamemanager.SceneManager;
 import com.example.demo.gamemanager.GameLoop;
 import com.example.demo.levelview.LevelView;
@@ -18,8 +29,21 @@ import com.example.demo.mainmenumanager.StoreManager;
 import com.example.demo.overlay.OverlayManager;
 import com.example.demo.plane.FighterPlane;
 import com.example.demo.plane.UserPlane;
+import com.example.demo.projectile.Projectile;
+import com.example.demo.projectile.ProjectilePools;
+import com.example.demo.projectile.ProjectileStore;
+import com.example.demo.projectile.UserProjectile;
+import com.example.demo.renderer.RenderLayer;
+import com.example.demo.renderer.RenderMode;
+import com.example.demo.renderer.Renderer;
+import com.example.demo.simulation.InputSource;
+import com.example.demo.simulation.Replay;
+import com.example.demo.simulation.ReplayRecorder;
+import com.example.demo.shield.UserShieldImage;
 import com.example.demo.styles.TimeFormatter;
+import javafx.application.Platform;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 
 /**
@@ -48,12 +72,17 @@ public abstract class LevelParent extends Observable {
 	/**
 	 * Flag indicating whether the game is currently paused.
 	 */
-	private boolean isPaused = false;
+	private volatile boolean isPaused = false;
 
 	/**
 	 * Flag indicating whether the game is over.
 	 */
-	private boolean gameOver = false;
+	private volatile boolean gameOver = false;
+
+	/**
+	 * The overlay currently shown, kept in step with the LevelView so the simulation thread can read it.
+	 */
+	private volatile OverlayManager.ActiveOverlay activeOverlay = OverlayManager.ActiveOverlay.NONE;
 
 	/**
 	 * The current number of enemies in the level.
@@ -80,6 +109,11 @@ public abstract class LevelParent extends Observable {
 	 */
 	private final SceneManager sceneManager;
 
+	/**
+	 * Draws the actors, either as scene graph nodes or onto a canvas.
+	 */
+	private final Renderer renderer;
+
 	/**
 	 * Timer to track the elapsed time in the game.
 	 */
@@ -125,11 +159,114 @@ public abstract class LevelParent extends Observable {
 	 */
 	protected List<ActiveActorDestructible> allyProjectiles;
 
+	/**
+	 * Simulates the positions of every projectile in play.
+	 */
+	private final ProjectileStore projectileStore = new ProjectileStore();
+
+	/**
+	 * The pools the level's planes take their projectiles from, used only by the thread that runs the simulation.
+	 */
+	private final ProjectilePools projectilePools = new ProjectilePools();
+
+	/**
+	 * Source of all gameplay randomness in this level, with one stream per subsystem.
+	 */
+	private final RandomService randomService;
+
+	/**
+	 * Records the commands given during the run, saved as a replay when the game ends.
+	 */
+	private final ReplayRecorder replayRecorder = new ReplayRecorder();
+
+	/**
+	 * Source of replayed commands, or null when the player is in control.
+	 */
+	private InputSource inputSource;
+
+	/**
+	 * Builds the next level while the win overlay is showing, or null if nothing is prefetched.
+	 */
+	private LevelPrefetcher levelPrefetcher;
+
+	/**
+	 * The plane selected in the store when the level was created.
+	 */
+	private final int selectedPlaneNumber;
+
+	/**
+	 * Nodes of actors removed this tick, taken out of the scene in one batch.
+	 */
+	private final Set<Node> destroyedNodes = new HashSet<>();
+
 	/**
 	 * Manages the visual representation of the level, including overlays and UI elements.
 	 */
 	protected LevelView levelView;
 
+	/**
+	 * Records per-phase tick timings and entity counts.
+	 */
+	private final FrameProfiler frameProfiler = new FrameProfiler();
+
+	/**
+	 * On-screen view of the profiler report, created the first time it is toggled on.
+	 * Only touched on the JavaFX Application Thread.
+	 */
+	private ProfilerDisplay profilerDisplay;
+
+	/**
+	 * Whether the on-screen profiler report is shown.
+	 * Set on the JavaFX Application Thread and read by the simulation, which builds the report.
+	 */
+	private volatile boolean profilerDisplayShown;
+
+	/**
+	 * The latest profiler report built by the simulation, or null before the first one.
+	 */
+	private volatile String profilerReport;
+
+	/**
+	 * Whether the profiler report should be written to a file at the end of the next step.
+	 */
+	private volatile boolean profileDumpRequested;
+
+	/**
+	 * Number of ticks between refreshes of the on-screen profiler report.
+	 */
+	private static final int PROFILER_REFRESH_TICKS = 10;
+
+	/**
+	 * Position of the on-screen profiler report.
+	 */
+	private static final double PROFILER_DISPLAY_X = 10;
+	private static final double PROFILER_DISPLAY_Y = 120;
+
+	/**
+	 * Decoded texture memory held by the image cache before this level warmed it, shown in the profiler report.
+	 */
+	private final long textureBytesBefore;
+
+	/**
+	 * Flag indicating whether the level runs without a window, audio, overlays or saved scores.
+	 */
+	private final boolean headless;
+
+	/**
+	 * Flag indicating whether the simulation runs on a background thread instead of the JavaFX Application Thread.
+	 */
+	private final boolean threadedSimulation;
+
+	/**
+	 * Number of simulation steps run so far.
+	 */
+	private long tickCount;
+
+	/**
+	 * Flag indicating whether the level was won.
+	 */
+	private boolean gameWon = false;
+
 	/**
 	 * Constructs a new LevelParent instance with the specified parameters.
 	 *
@@ -140,15 +277,60 @@ public abstract class LevelParent extends Observable {
 	 * @param levelName           The name of the level.
 	 */
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, String levelName) {
+		this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, levelName, false);
+	}
+
+	/**
+	 * Constructs a new LevelParent instance, optionally in headless mode.
+	 * A headless level is never shown: it plays no audio, shows no overlays, does not save fastest times
+	 * and is advanced by calling {@link #step()} instead of by the game loop.
+	 *
+	 * @param backgroundImageName The filename of the background image.
+	 * @param screenHeight        The height of the game screen.
+	 * @param screenWidth         The width of the game screen.
+	 * @param playerInitialHealth The initial health of the player's plane.
+	 * @param levelName           The name of the level.
+	 * @param headless            true to run the level without a window.
+	 */
+	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, String levelName, boolean headless) {
+		this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, levelName, headless, new RandomService());
+	}
+
+	/**
+	 * Constructs a new LevelParent instance whose gameplay randomness comes from the given service.
+	 * The service is seeded before any actor is created, so actors that draw random numbers while the level
+	 * is being built, such as the boss shuffling its move pattern, follow the seed too.
+	 * Headless simulations and replays pass a service seeded with the seed to play.
+	 *
+	 * @param backgroundImageName The filename of the background image.
+	 * @param screenHeight        The height of the game screen.
+	 * @param screenWidth         The width of the game screen.
+	 * @param playerInitialHealth The initial health of the player's plane.
+	 * @param levelName           The name of the level.
+	 * @param headless            true to run the level without a window.
+	 * @param randomService       The source of all gameplay randomness in the level.
+	 */
+	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, String levelName,
+			boolean headless, RandomService randomService) {
+		this.randomService = randomService;
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.levelName = levelName;
+		this.headless = headless;
 
 		// Initialize user plane
-		int selectedPlaneNumber = StoreManager.getInstance().getSelectedPlaneNumber();
+		this.selectedPlaneNumber = StoreManager.getInstance().getSelectedPlaneNumber();
 		String selectedPlaneFilename = mapPlaneNumberToFilename(selectedPlaneNumber);
 
+		// Decode every sprite the level uses at display size before the first frame
+		ImageCache imageCache = ImageCache.getInstance();
+		this.textureBytesBefore = imageCache.getByteSize();
+		imageCache.preload(backgroundImageName, (int) screenWidth, (int) screenHeight, false);
+		imageCache.preload(selectedPlaneFilename, UserPlane.IMAGE_HEIGHT);
+		preloadSprites(imageCache);
+
 		this.user = new UserPlane(selectedPlaneFilename, playerInitialHealth);
+		user.setProjectilePools(projectilePools);
 
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
@@ -162,9 +344,11 @@ public abstract class LevelParent extends Observable {
 		this.sceneManager = new SceneManager(backgroundImageName, screenWidth, screenHeight, inputHandler);
 		this.sceneManager.initializeScene(); // Initialize scene and background
 
-		// Retrieve root and scene from SceneManager
-		Group root = this.sceneManager.getRoot();
-		Scene scene = this.sceneManager.getScene();
+		// Headless levels are never drawn, so they keep the default renderer and leave the settings untouched
+		RenderMode renderMode = headless ? RenderMode.SCENE_GRAPH : SettingsManager.getInstance().getRenderMode();
+		this.renderer = renderMode.createRenderer(sceneManager.getActorLayers(), screenWidth, screenHeight);
+		this.threadedSimulation = renderMode.isThreaded();
+		inputHandler.setDeferred(threadedSimulation); // Key presses reach the user's plane through the simulation thread
 
 		// Initialize CollisionManager
 		this.collisionManager = new CollisionManager(
@@ -177,18 +361,26 @@ public abstract class LevelParent extends Observable {
 				allyProjectiles,
 				screenWidth,
 				screenHeight,
-				root
+				projectileStore,
+				createCollisionMatrix()
 		);
 
 		// Instantiate LevelView without passing Timeline (assuming LevelView is refactored)
 		this.levelView = instantiateLevelView(screenWidth, screenHeight); // Removed Timeline parameter
-		this.gameLoop = new GameLoop(this::updateScene);
+		if (levelView != null) {
+			levelView.setActiveOverlayListener(overlay -> activeOverlay = overlay);
+		}
+		this.gameLoop = threadedSimulation
+				? GameLoop.onBackgroundThread(this::updateAndRecordFrame, renderer::present)
+				: new GameLoop(this::updateScene, this::renderInterpolated);
 		this.gameTimer = new GameTimer();
 		this.gameStateManager = new GameStateManager(gameLoop, gameTimer);
 
 		this.currentNumberOfEnemies = 0;
 		friendlyUnits.add(user);
-		SettingsManager.getInstance().resumeMusic();
+		if (!headless) {
+			SettingsManager.getInstance().resumeMusic();
+		}
 	}
 
 	/**
@@ -233,6 +425,93 @@ public abstract class LevelParent extends Observable {
 	 */
 	protected abstract LevelView instantiateLevelView(double screenWidth, double screenHeight);
 
+	/**
+	 * Declares which actors collide in this level and how they react.
+	 * Subclasses can override this to add rules for new kinds of actors; rules of the same source layer
+	 * are tried in the order they are added.
+	 *
+	 * @return The collision matrix of the level.
+	 */
+	protected CollisionMatrix createCollisionMatrix() {
+		return new CollisionMatrix()
+				.onFirstHit(CollisionLayer.USER_PROJECTILE, CollisionLayer.ENEMY, this::onProjectileHitEnemy)
+				.onFirstHit(CollisionLayer.USER_PROJECTILE, CollisionLayer.ENEMY_PROJECTILE, this::onProjectilesCollide)
+				.onFirstHit(CollisionLayer.ENEMY_PROJECTILE, CollisionLayer.FRIENDLY, this::onEnemyProjectileHitFriendly)
+				.onFirstHit(CollisionLayer.ALLY_PROJECTILE, CollisionLayer.ENEMY_PROJECTILE, this::onProjectilesCollide)
+				.onFirstHit(CollisionLayer.ALLY_PROJECTILE, CollisionLayer.ENEMY, this::onProjectileHitEnemy)
+				.onEveryHit(CollisionLayer.FRIENDLY, CollisionLayer.ENEMY, this::onPlanesCollide);
+	}
+
+	/**
+	 * Damages an enemy hit by a user or ally projectile, crediting the user with the kill if it is destroyed.
+	 *
+	 * @param projectile The projectile.
+	 * @param enemy      The enemy it hit.
+	 */
+	protected void onProjectileHitEnemy(ActiveActorDestructible projectile, ActiveActorDestructible enemy) {
+		enemy.takeDamage();
+		projectile.takeDamage();
+		if (enemy.isDestroyed()) {
+			enemy.setDestroyedBy(ActiveActorDestructible.DestroyedBy.USER_PROJECTILE);
+			user.incrementKillCount();
+		}
+	}
+
+	/**
+	 * Destroys two opposing projectiles that hit each other.
+	 *
+	 * @param projectile      The user or ally projectile.
+	 * @param enemyProjectile The enemy projectile it hit.
+	 */
+	protected void onProjectilesCollide(ActiveActorDestructible projectile, ActiveActorDestructible enemyProjectile) {
+		projectile.takeDamage();
+		enemyProjectile.takeDamage();
+	}
+
+	/**
+	 * Damages the user or an ally hit by an enemy projectile.
+	 *
+	 * @param projectile The enemy projectile.
+	 * @param friendly   The user or ally it hit.
+	 */
+	protected void onEnemyProjectileHitFriendly(ActiveActorDestructible projectile, ActiveActorDestructible friendly) {
+		if (friendly == user) {
+			user.takeDamageFromProjectile();
+		} else {
+			friendly.takeDamage();
+		}
+		projectile.takeDamage();
+	}
+
+	/**
+	 * Damages a friendly plane and an enemy plane that collide, unless the game is already over.
+	 *
+	 * @param friendly The user or ally.
+	 * @param enemy    The enemy it collided with.
+	 */
+	protected void onPlanesCollide(ActiveActorDestructible friendly, ActiveActorDestructible enemy) {
+		if (isGameOver()) return;
+		friendly.takeDamage();
+		enemy.takeDamage();
+		if (friendly.isDestroyed()) {
+			friendly.setDestroyedBy(ActiveActorDestructible.DestroyedBy.COLLISION_WITH_USER);
+		}
+		if (enemy.isDestroyed()) {
+			enemy.setDestroyedBy(ActiveActorDestructible.DestroyedBy.COLLISION_WITH_USER);
+		}
+	}
+
+	/**
+	 * Warms the shared image cache with the sprites this level spawns.
+	 * Subclasses should override this to add their enemy and projectile sprites.
+	 *
+	 * @param imageCache The shared image cache to warm.
+	 */
+	protected void preloadSprites(ImageCache imageCache) {
+		imageCache.preload(UserProjectile.IMAGE_NAME, UserProjectile.IMAGE_HEIGHT);
+		imageCache.preload(UserShieldImage.IMAGE_NAME, UserShieldImage.SHIELD_SIZE, UserShieldImage.SHIELD_SIZE, true);
+	}
+
 	/**
 	 * Returns a Runnable callback to navigate back to the main menu.
 	 *
@@ -245,6 +524,8 @@ public abstract class LevelParent extends Observable {
 	/**
 	 * Updates custom display elements specific to the level.
 	 * Subclasses should implement this to update level-specific display information.
+	 * Called on the thread that runs the simulation: implementations read the game state there
+	 * and hand the resulting values to the LevelView through {@link #runOnFxThread(Runnable)}.
 	 */
 	protected abstract void updateCustomDisplay();
 
@@ -263,9 +544,123 @@ public abstract class LevelParent extends Observable {
 		levelView.showExitDisplay();
 		levelView.bringInfoDisplayToFront();
 		levelView.startCountdown(this::startGameAfterCountdown);
+		renderer.render(); // Show the user's plane during the countdown
 		return sceneManager.getScene();
 	}
 
+	// --------- HEADLESS SIMULATION  --------------
+
+	/**
+	 * Prepares a headless level for stepping.
+	 * Sets up the friendly units without starting the countdown, the game loop or the timer.
+	 */
+	public void startHeadless() {
+		initializeFriendlyUnits();
+	}
+
+	/**
+	 * Advances the level by one simulation step.
+	 * Used to run a headless level as fast as the CPU allows.
+	 */
+	public void step() {
+		updateScene();
+	}
+
+	/**
+	 * Applies a player command, as if the matching key had been pressed.
+	 *
+	 * @param command The command to apply.
+	 */
+	public void handleInput(InputCommand command) {
+		inputHandler.handleCommand(command);
+	}
+
+	/**
+	 * Records a command that has reached the user's plane, for the replay saved when the game ends.
+	 * Headless runs record too, so they can be played back with {@link #getReplay()}.
+	 * Commands are stamped with the number of steps simulated so far, which is the step they take effect in.
+	 * A fire command is only recorded if firing is allowed, so commands given while paused replay the same way.
+	 *
+	 * @param command The command being applied.
+	 */
+	public void recordInput(InputCommand command) {
+		if (inputSource != null) return;
+		if (command == InputCommand.FIRE && !canFireProjectiles()) return;
+		replayRecorder.record(tickCount, command);
+	}
+
+	/**
+	 * Plays the level from an input source instead of the keyboard, for example to watch a replay.
+	 * Player commands from key presses are ignored from now on and no replay is recorded.
+	 * Must be called before the game starts.
+	 *
+	 * @param inputSource The source of commands, polled once per step.
+	 */
+	public void setInputSource(InputSource inputSource) {
+		this.inputSource = inputSource;
+		inputHandler.setKeyCommandsEnabled(false);
+	}
+
+	/**
+	 * Sets the prefetcher that starts building the next level as soon as this level is won.
+	 *
+	 * @param levelPrefetcher The prefetcher, or null to not prefetch.
+	 */
+	public void setLevelPrefetcher(LevelPrefetcher levelPrefetcher) {
+		this.levelPrefetcher = levelPrefetcher;
+	}
+
+	/**
+	 * Builds the replay of the run so far.
+	 *
+	 * @return The replay.
+	 */
+	public Replay getReplay() {
+		return replayRecorder.toReplay(getClass().getName(), randomService.getSeed(), selectedPlaneNumber, tickCount);
+	}
+
+	/**
+	 * Writes the replay of the run to the replays folder in the working directory.
+	 */
+	private void saveReplay() {
+		if (inputSource != null) return; // The run is itself a replay
+		Path file = Path.of("replays", "replay-" + getClassName() + "-" + System.currentTimeMillis() + Replay.FILE_EXTENSION);
+		try {
+			Files.createDirectories(file.getParent());
+			getReplay().write(file);
+		} catch (IOException e) {
+			System.err.println("Failed to write replay: " + file);
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Checks if the level runs in headless mode.
+	 *
+	 * @return {@code true} if the level is headless, {@code false} otherwise.
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+
+	/**
+	 * Returns the number of simulation steps run so far.
+	 *
+	 * @return The tick count.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Checks if the level was won.
+	 *
+	 * @return {@code true} if the win condition was met, {@code false} otherwise.
+	 */
+	public boolean isGameWon() {
+		return gameWon;
+	}
+
 	// ----------------- Maps the plane number to its corresponding filename. -----------
 
 	/**
@@ -308,12 +703,8 @@ public abstract class LevelParent extends Observable {
 	private void startGameAfterCountdown() {
 		// Start the game via GameStateManager
 		gameStateManager.start();
-		// Handle UI focus separately
-		Scene scene = sceneManager.getScene();
-		// Assuming the background is the first child in root
-		if (!scene.getRoot().getChildrenUnmodifiable().isEmpty()) {
-			scene.getRoot().getChildrenUnmodifiable().get(0).requestFocus();
-		}
+		// Handle UI focus separately: key input is handled by the background
+		sceneManager.getBackground().requestFocus();
 	}
 
 	/**
@@ -448,32 +839,235 @@ public abstract class LevelParent extends Observable {
 	 * It performs the following actions:
 	 * <ul>
 	 *     <li>Checks if the game is over.</li>
+	 *     <li>Records the previous positions used for interpolated rendering.</li>
 	 *     <li>Checks if the game over conditions are met.</li>
 	 *     <li>Spawns enemy units.</li>
 	 *     <li>Updates all active actors.</li>
 	 *     <li>Generates enemy fire.</li>
 	 *     <li>Updates the number of enemies.</li>
-	 *     <li>Handles various types of collisions.</li>
+	 *     <li>Rebuilds the collision broadphase.</li>
+	 *     <li>Resolves collisions from the level's collision matrix.</li>
 	 *     <li>Removes all destroyed actors from the scene.</li>
 	 *     <li>Updates the LevelView with the latest game state.</li>
 	 * </ul>
+	 * Every phase is timed by the frame profiler.
 	 */
 	private void updateScene() {
 		if (gameOver) return;
+		if (inputSource != null) {
+			inputSource.poll(tickCount, this::handleInput);
+		}
+		inputHandler.applyPendingCommands();
+		tickCount++;
+		frameProfiler.beginFrame();
+		captureRenderState();
+		frameProfiler.lap(FrameProfiler.Phase.CAPTURE_RENDER_STATE);
 		checkIfGameOver();
+		frameProfiler.lap(FrameProfiler.Phase.CHECK_GAME_OVER);
 		spawnEnemyUnits();
+		frameProfiler.lap(FrameProfiler.Phase.SPAWN_ENEMY_UNITS);
 		updateActors();
+		frameProfiler.lap(FrameProfiler.Phase.UPDATE_ACTORS);
 		generateEnemyFire();
 		updateNumberOfEnemies();
+		frameProfiler.lap(FrameProfiler.Phase.GENERATE_ENEMY_FIRE);
+		collisionManager.updateBroadphase();
+		frameProfiler.lap(FrameProfiler.Phase.UPDATE_BROADPHASE);
 		collisionManager.handleEnemyPenetration();
-		collisionManager.handleUserProjectileCollisions();
-		collisionManager.handleEnemyProjectileCollisions();
-		collisionManager.handleProjectileCollisions();
-		collisionManager.handlePlaneCollisions();
-		collisionManager.handleEnemyProjectileCollisionsWithAlly();
-		collisionManager.handleAllyProjectileCollisions();
+		frameProfiler.lap(FrameProfiler.Phase.ENEMY_PENETRATION);
+		collisionManager.resolveCollisions();
+		frameProfiler.lap(FrameProfiler.Phase.RESOLVE_COLLISIONS);
 		removeAllDestroyedActors();
+		frameProfiler.lap(FrameProfiler.Phase.REMOVE_DESTROYED_ACTORS);
 		updateLevelView();
+		frameProfiler.lap(FrameProfiler.Phase.UPDATE_LEVEL_VIEW);
+		frameProfiler.endFrame();
+		recordEntityCounts();
+	}
+
+	/**
+	 * Records the size of every actor list, then refreshes the on-screen profiler report when it is shown
+	 * and writes the report to a file when asked to.
+	 * Runs on the simulation thread, the only thread that reads the frame profiler.
+	 */
+	private void recordEntityCounts() {
+		frameProfiler.recordEntityCount(FrameProfiler.EntityList.FRIENDLY_UNITS, friendlyUnits.size());
+		frameProfiler.recordEntityCount(FrameProfiler.EntityList.ENEMY_UNITS, enemyUnits.size());
+		frameProfiler.recordEntityCount(FrameProfiler.EntityList.USER_PROJECTILES, userProjectiles.size());
+		frameProfiler.recordEntityCount(FrameProfiler.EntityList.ENEMY_PROJECTILES, enemyProjectiles.size());
+		frameProfiler.recordEntityCount(FrameProfiler.EntityList.ALLY_PROJECTILES, allyProjectiles.size());
+		if (profilerDisplayShown
+				&& (profilerReport == null || frameProfiler.getFrameCount() % PROFILER_REFRESH_TICKS == 0)) {
+			String report = formatProfilerReport();
+			profilerReport = report;
+			runOnFxThread(() -> {
+				if (profilerDisplay != null) profilerDisplay.update(report);
+			});
+		}
+		if (profileDumpRequested) {
+			profileDumpRequested = false;
+			writeProfile();
+		}
+	}
+
+	/**
+	 * Shows or hides the on-screen profiler report.
+	 * The display shows the latest report built by the simulation, which refreshes it while it is shown.
+	 */
+	public void toggleProfilerDisplay() {
+		if (profilerDisplay == null) {
+			profilerDisplay = new ProfilerDisplay(PROFILER_DISPLAY_X, PROFILER_DISPLAY_Y);
+			getLayer(SceneLayer.HUD).getChildren().add(profilerDisplay.getContainer());
+		}
+		boolean visible = !profilerDisplayShown;
+		String report = profilerReport;
+		if (visible && report != null) {
+			profilerDisplay.update(report);
+		}
+		profilerDisplay.setVisible(visible);
+		profilerDisplayShown = visible;
+	}
+
+	/**
+	 * Formats the on-screen profiler report: the frame profiler report followed by the texture memory of the level.
+	 *
+	 * @return The report text.
+	 */
+	private String formatProfilerReport() {
+		return frameProfiler.formatReport() + ImageCache.getInstance().formatTextureMemory(levelName, textureBytesBefore);
+	}
+
+	/**
+	 * Writes the profiler report to a text file in the working directory.
+	 * When the simulation runs on a background thread the report is written at the end of its next step.
+	 */
+	public void dumpProfile() {
+		if (threadedSimulation) {
+			profileDumpRequested = true;
+		} else {
+			writeProfile();
+		}
+	}
+
+	/**
+	 * Writes the profiler report to a text file in the working directory.
+	 */
+	private void writeProfile() {
+		Path file = Path.of("profile-" + getClassName() + "-" + System.currentTimeMillis() + ".txt");
+		try {
+			frameProfiler.dump(file, getLevelDisplayName());
+			System.out.println("Profiler report written to " + file.toAbsolutePath());
+		} catch (IOException e) {
+			System.err.println("Failed to write profiler report: " + file);
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Returns the profiler recording this level's tick timings.
+	 *
+	 * @return The frame profiler.
+	 */
+	public FrameProfiler getFrameProfiler() {
+		return frameProfiler;
+	}
+
+	/**
+	 * Returns the source of this level's gameplay randomness.
+	 * Reseed it before the first step to make a run reproducible.
+	 *
+	 * @return The random service.
+	 */
+	public RandomService getRandomService() {
+		return randomService;
+	}
+
+	/**
+	 * Returns the generator a subsystem of this level draws from.
+	 *
+	 * @param stream The subsystem.
+	 * @return The subsystem's generator.
+	 */
+	protected RandomGenerator getRandom(RandomService.Stream stream) {
+		return randomService.get(stream);
+	}
+
+	/**
+	 * Marks a split time, to the millisecond, when a part of the level such as a wave ends.
+	 * Nothing is marked once the game is over.
+	 *
+	 * @param name The name of the part that just ended.
+	 */
+	protected void markSplit(String name) {
+		if (gameOver) return;
+		gameTimer.split(name);
+	}
+
+	/**
+	 * Returns the split times marked so far in this level.
+	 *
+	 * @return The splits, in order.
+	 */
+	public List<GameTimer.Split> getSplits() {
+		return gameTimer.getSplits();
+	}
+
+	/**
+	 * Returns the time played in this level so far.
+	 * Cheap enough to read every frame, for example to show it on the HUD.
+	 *
+	 * @return The elapsed time in milliseconds.
+	 */
+	public long getElapsedMillis() {
+		return gameTimer.getElapsedMillis();
+	}
+
+	/**
+	 * Records every plane's position before the simulation step and clears its render offset,
+	 * so the step and its collision checks work on the true simulated positions.
+	 * Projectiles are left out; the projectile store keeps their previous positions itself.
+	 */
+	private void captureRenderState() {
+		friendlyUnits.forEach(ActiveActorDestructible::capturePreviousPosition);
+		enemyUnits.forEach(ActiveActorDestructible::capturePreviousPosition);
+	}
+
+	/**
+	 * Draws every actor between its previous and current simulated positions.
+	 * Called by the game loop on each display frame; this is the only time projectile nodes are moved.
+	 *
+	 * @param alpha How far the display is between the previous step (0) and the current step (1).
+	 */
+	private void renderInterpolated(double alpha) {
+		friendlyUnits.forEach(actor -> actor.interpolate(alpha));
+		enemyUnits.forEach(actor -> actor.interpolate(alpha));
+		projectileStore.render(alpha);
+		renderer.render();
+	}
+
+	/**
+	 * Advances the simulation by one step and records the resulting frame for the JavaFX Application Thread.
+	 * Used as the update method when the simulation runs on a background thread,
+	 * where frames are shown as simulated instead of being interpolated.
+	 */
+	private void updateAndRecordFrame() {
+		updateScene();
+		renderInterpolated(1);
+	}
+
+	/**
+	 * Runs an action that touches the shown scene on the JavaFX Application Thread.
+	 * When the simulation runs on a background thread the action is queued with {@link Platform#runLater};
+	 * otherwise it runs immediately.
+	 *
+	 * @param action The action to run.
+	 */
+	protected void runOnFxThread(Runnable action) {
+		if (threadedSimulation && !Platform.isFxApplicationThread()) {
+			Platform.runLater(action);
+		} else {
+			action.run();
+		}
 	}
 
 	/**
@@ -482,7 +1076,8 @@ public abstract class LevelParent extends Observable {
 	 * Calls the abstract method updateCustomDisplay to update custom display elements.
 	 */
 	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
+		int health = user.getHealth();
+		runOnFxThread(() -> levelView.removeHearts(health));
 		updateCustomDisplay(); // Call the abstract method
 	}
 
@@ -494,7 +1089,7 @@ public abstract class LevelParent extends Observable {
 	 * @return {@code true} if the player can fire, {@code false} otherwise.
 	 */
 	private boolean canFireProjectiles() {
-		return !gameOver && !isPaused && levelView.getActiveOverlay() == OverlayManager.ActiveOverlay.NONE;
+		return !gameOver && !isPaused && activeOverlay == OverlayManager.ActiveOverlay.NONE;
 	}
 
 	/**
@@ -507,10 +1102,13 @@ public abstract class LevelParent extends Observable {
 		if (!canFireProjectiles()) return; // Prevent firing when not allowed
 		ActiveActorDestructible projectile = user.fireProjectile();
 		if (projectile != null) {
-			sceneManager.getRoot().getChildren().add(projectile);
+			renderer.add(projectile, RenderLayer.PROJECTILES);
 			userProjectiles.add(projectile);
+			trackProjectile(projectile);
 			// Play user bullet sound
-			SettingsManager.getInstance().playSoundEffect("bullet.mp3");
+			if (!headless) {
+				runOnFxThread(() -> SettingsManager.getInstance().playSoundEffect("bullet.mp3"));
+			}
 		}
 	}
 
@@ -536,22 +1134,33 @@ public abstract class LevelParent extends Observable {
 	 */
 	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			sceneManager.getRoot().getChildren().add(projectile);
+			renderer.add(projectile, RenderLayer.PROJECTILES);
 			enemyProjectiles.add(projectile);
+			trackProjectile(projectile);
+		}
+	}
+
+	/**
+	 * Hands a newly fired projectile to the projectile store, which moves it from now on.
+	 *
+	 * @param projectile The projectile to track.
+	 */
+	private void trackProjectile(ActiveActorDestructible projectile) {
+		if (projectile instanceof Projectile storedProjectile) {
+			projectileStore.add(storedProjectile);
 		}
 	}
 
 	/**
 	 * Updates all active actors in the game.
-	 * Iterates through friendly units, enemy units, user projectiles, enemy projectiles, and the ally projectiles,
-	 * calling their update methods. Also checks if any projectiles are out of bounds.
+	 * Iterates through friendly units and enemy units, calling their update methods,
+	 * then advances every projectile at once in the projectile store.
+	 * Also checks if any projectiles are out of bounds.
 	 */
 	private void updateActors() {
 		friendlyUnits.forEach(plane -> plane.updateActor());
 		enemyUnits.forEach(enemy -> enemy.updateActor());
-		userProjectiles.forEach(projectile -> projectile.updateActor());
-		enemyProjectiles.forEach(projectile -> projectile.updateActor());
-		allyProjectiles.forEach(projectile -> projectile.updateActor());
+		projectileStore.advance();
 		collisionManager.checkProjectilesOutOfBounds();
 	}
 
@@ -559,28 +1168,61 @@ public abstract class LevelParent extends Observable {
 	 * Removes all destroyed actors from the scene and tracking lists.
 	 * Iterates through friendly units, enemy units, user projectiles, enemy projectiles, and the ally projectiles,
 	 * and removes any actors that are marked as destroyed.
+	 * The nodes of every removed actor are taken out of the scene in a single batched change at the end.
 	 */
 	protected void removeAllDestroyedActors() {
-		removeDestroyedActors(friendlyUnits);
-		removeDestroyedActors(enemyUnits);
-		removeDestroyedActors(userProjectiles);
-		removeDestroyedActors(enemyProjectiles);
-		removeDestroyedActors(allyProjectiles); // Remove destroyed ally projectiles
+		removeDestroyedActors(friendlyUnits, false);
+		removeDestroyedActors(enemyUnits, true);
+		removeDestroyedActors(userProjectiles, false);
+		removeDestroyedActors(enemyProjectiles, false);
+		removeDestroyedActors(allyProjectiles, false); // Remove destroyed ally projectiles
+		if (!destroyedNodes.isEmpty()) {
+			renderer.removeAll(destroyedNodes);
+			destroyedNodes.clear();
+		}
 	}
 
 	/**
-	 * Removes destroyed actors from the provided list and the scene.
-	 * Filters the list to find actors marked as destroyed, removes them from the scene,
-	 * and then removes them from the original list.
+	 * Compacts the provided list in place, dropping actors marked as destroyed.
+	 * Survivors keep their relative order because collision checks resolve the first hit in list order,
+	 * so a swap-remove would change which actor wins a hit. Removed actors are queued for removal from the scene.
+	 * Destroyed projectiles are handed back to their pool for reuse.
 	 *
-	 * @param actors The list of actors to check and remove if destroyed.
+	 * @param actors    The list of actors to check and remove if destroyed.
+	 * @param enemyList true if the list holds enemy units, whose deaths are reported to {@link #onEnemyDestroyed}.
+	 */
+	private void removeDestroyedActors(List<ActiveActorDestructible> actors, boolean enemyList) {
+		int size = actors.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (!actor.isDestroyed()) {
+				if (kept != i) {
+					actors.set(kept, actor);
+				}
+				kept++;
+				continue;
+			}
+			destroyedNodes.add(actor);
+			if (enemyList) {
+				onEnemyDestroyed(actor);
+			}
+			if (actor instanceof Projectile projectile) {
+				projectilePools.release(projectile);
+			}
+		}
+		if (kept < size) {
+			actors.subList(kept, size).clear();
+		}
+	}
+
+	/**
+	 * Called once for every destroyed enemy unit while it is being removed.
+	 * Levels override this to count kills instead of scanning the enemy list themselves.
+	 *
+	 * @param enemy The destroyed enemy unit.
 	 */
-	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream()
-				.filter(ActiveActorDestructible::isDestroyed)
-				.collect(Collectors.toList());
-		sceneManager.getRoot().getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+	protected void onEnemyDestroyed(ActiveActorDestructible enemy) {
 	}
 
 	// ------------------------- Ally Plane ------------------------
@@ -592,7 +1234,8 @@ public abstract class LevelParent extends Observable {
 	 */
 	public void addAllyProjectile(ActiveActorDestructible projectile) {
 		allyProjectiles.add(projectile);
-		sceneManager.getRoot().getChildren().add(projectile);
+		renderer.add(projectile, RenderLayer.PROJECTILES);
+		trackProjectile(projectile);
 	}
 
 	// -------------------------------- FINISH GAME ----------------------------------
@@ -609,31 +1252,42 @@ public abstract class LevelParent extends Observable {
 	protected void winGame() {
 		if (gameOver) return;
 		gameOver = true;
+		gameWon = true;
+		gameTimer.stop(); // Stop the clock on the winning step, not when the JavaFX thread gets to it
+		runOnFxThread(this::finishWonGame);
+	}
+
+	/**
+	 * Stops the game, saves the fastest time and shows the win overlay, on the JavaFX Application Thread.
+	 */
+	private void finishWonGame() {
 		gameStateManager.stop();
 		setChanged();
+		if (headless) return; // No sound, saved time or overlay in headless mode
+		saveReplay();
 		SettingsManager.getInstance().stopAllSoundEffects(); // Stop active sound effects
 		SettingsManager.getInstance().playVictorySound(); // Play victory sound
 
 		// Step 1: Retrieve Current Time
-		long currentTimeSeconds = gameTimer.getElapsedTime();
+		long currentTimeMillis = gameTimer.getElapsedMillis();
 		String levelName = getLevelName();
 
 		// Step 2: Access Preferences to Get Existing Fastest Time
 		FastestTimesManager ftm = FastestTimesManager.getInstance();
 		long existingFastestTime = ftm.getFastestTime(levelName);
-		long fastestTimeSeconds = existingFastestTime;
+		long fastestTimeMillis = existingFastestTime;
 
 		// Step 3: Compare and Update Fastest Time if Current Time is Faster
-		if (currentTimeSeconds < existingFastestTime) {
-			ftm.updateFastestTime(levelName, currentTimeSeconds);
-			fastestTimeSeconds = currentTimeSeconds;
+		if (currentTimeMillis < existingFastestTime) {
+			ftm.updateFastestTime(levelName, currentTimeMillis);
+			fastestTimeMillis = currentTimeMillis;
 		}
 
 		// Step 4: Determine the Achievement Message
 		String achievementMessage;
-		if (currentTimeSeconds < existingFastestTime) {
+		if (currentTimeMillis < existingFastestTime) {
 			achievementMessage = "You beat the fastest time!";
-		} else if (currentTimeSeconds == existingFastestTime) {
+		} else if (currentTimeMillis == existingFastestTime) {
 			achievementMessage = "Almost beat the fastest time!";
 		} else {
 			achievementMessage = "Try Again to beat the fastest time";
@@ -644,6 +1298,10 @@ public abstract class LevelParent extends Observable {
 		Runnable nextLevelCallback = null;
 		if (nextLevel != null && !nextLevel.isEmpty()) {
 			nextLevelCallback = this::proceedToNextLevel;
+			if (levelPrefetcher != null) {
+				// Build the next level while the player reads the win overlay
+				levelPrefetcher.prefetch(nextLevel, screenHeight, screenWidth);
+			}
 		}
 
 		// Step 6: Show WinOverlay with conditional Next Level callback
@@ -653,8 +1311,8 @@ public abstract class LevelParent extends Observable {
 					nextLevelCallback,         // Next Level callback (null if no next level)
 					this::restartGame,         // Restart callback
 					getLevelDisplayName(),     // Current level display name
-					currentTimeSeconds,        // Current Time in seconds
-					fastestTimeSeconds,        // Fastest Time in seconds
+					currentTimeMillis,         // Current Time in milliseconds
+					fastestTimeMillis,         // Fastest Time in milliseconds
 					achievementMessage         // Achievement message
 			);
 		}
@@ -671,12 +1329,22 @@ public abstract class LevelParent extends Observable {
 	protected void loseGame() {
 		if (gameOver) return;
 		gameOver = true;
+		gameTimer.stop();
+		runOnFxThread(this::finishLostGame);
+	}
+
+	/**
+	 * Stops the game and shows the game over overlay, on the JavaFX Application Thread.
+	 */
+	private void finishLostGame() {
 		gameStateManager.stop();
 		setChanged();
+		if (headless) return; // No sound or overlay in headless mode
+		saveReplay();
 		SettingsManager.getInstance().stopAllSoundEffects(); // Stop active sound effects
 
 		// Step 1: Retrieve Current Time
-		long currentTimeSeconds = gameTimer.getElapsedTime();
+		long currentTimeMillis = gameTimer.getElapsedMillis();
 		String levelName = getLevelName();
 
 		// Step 2: Access Fastest Time
@@ -687,7 +1355,7 @@ public abstract class LevelParent extends Observable {
 		String fastestTimeDisplay;
 		if (existingFastestTime != Long.MAX_VALUE) {
 			// Fastest time exists
-			fastestTimeDisplay = TimeFormatter.formatTime(existingFastestTime);
+			fastestTimeDisplay = TimeFormatter.formatMillis(existingFastestTime);
 		} else {
 			// No fastest time recorded
 			fastestTimeDisplay = "No fastest time recorded";
@@ -699,7 +1367,7 @@ public abstract class LevelParent extends Observable {
 					this::backToMainMenu, // Back to Main Menu callback
 					this::restartGame,    // Restart callback
 					getLevelDisplayName(),   // Current level display name
-					currentTimeSeconds,    // Current Time in seconds
+					currentTimeMillis,     // Current Time in milliseconds
 					fastestTimeDisplay
 			);
 		}
@@ -721,7 +1389,7 @@ public abstract class LevelParent extends Observable {
 	 *
 	 * @return The {@link UserPlane} instance.
 	 */
-	protected UserPlane getUser() {
+	public UserPlane getUser() {
 		return user;
 	}
 
@@ -734,6 +1402,34 @@ public abstract class LevelParent extends Observable {
 		return sceneManager.getRoot();
 	}
 
+	/**
+	 * Returns the group of one layer of the scene.
+	 *
+	 * @param layer The layer.
+	 * @return The layer's {@link Group}.
+	 */
+	protected Group getLayer(SceneLayer layer) {
+		return sceneManager.getLayer(layer);
+	}
+
+	/**
+	 * Returns the renderer that actors are added to.
+	 *
+	 * @return The level's {@link Renderer}.
+	 */
+	protected Renderer getRenderer() {
+		return renderer;
+	}
+
+	/**
+	 * Returns the pools the level's planes take their projectiles from.
+	 *
+	 * @return The level's {@link ProjectilePools}.
+	 */
+	protected ProjectilePools getProjectilePools() {
+		return projectilePools;
+	}
+
 	/**
 	 * Returns the width of the screen.
 	 *
@@ -767,8 +1463,11 @@ public abstract class LevelParent extends Observable {
 	 * @param enemy The enemy unit to add.
 	 */
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
+		if (enemy instanceof FighterPlane plane) {
+			plane.setProjectilePools(projectilePools);
+		}
 		enemyUnits.add(enemy);
-		sceneManager.getRoot().getChildren().add(enemy);
+		renderer.add(enemy, RenderLayer.PLANES);
 	}
 
 	/**
@@ -0,0 +1,161 @@
+package com.example.demo.level;
+
+import javafx.application.Platform;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Builds the next level off-screen while the win overlay of the current one is showing,
+ * so clicking "Next Level" only has to swap scenes.
+ * <p>
+ * Prefetching runs in two stages: the level class is loaded and its constructor looked up on a background thread,
+ * then the level, with its scene, view and overlays, is constructed on the JavaFX Application Thread.
+ * The countdown is not started until the level is taken and its scene initialized.
+ * A prefetch is cancelled when a different level is asked for, for example when the player restarts
+ * or returns to the main menu instead; a level that was already built is then stopped and dropped.
+ */
+public class LevelPrefetcher {
+
+    /**
+     * One level being prefetched. Only read and written on the JavaFX Application Thread.
+     */
+    private static final class Prefetch {
+        private final String className;
+        private boolean cancelled;
+        private LevelParent level;
+
+        private Prefetch(String className) {
+            this.className = className;
+        }
+    }
+
+    private final Executor backgroundExecutor;
+    private final Executor fxExecutor;
+    private Prefetch current;
+
+    /**
+     * Constructs a new LevelPrefetcher loading level classes on a daemon thread.
+     */
+    public LevelPrefetcher() {
+        this(Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "level-prefetcher");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Constructs a new LevelPrefetcher on the given executors.
+     *
+     * @param backgroundExecutor The executor the level class is loaded on.
+     * @param fxExecutor         The executor the level is constructed on, normally the JavaFX Application Thread.
+     */
+    LevelPrefetcher(Executor backgroundExecutor, Executor fxExecutor) {
+        this.backgroundExecutor = backgroundExecutor;
+        this.fxExecutor = fxExecutor;
+    }
+
+    /**
+     * Starts building a level off-screen, cancelling any other prefetch.
+     * Must be called on the JavaFX Application Thread.
+     *
+     * @param className    The fully qualified name of the level class.
+     * @param screenHeight The height of the screen.
+     * @param screenWidth  The width of the screen.
+     */
+    public void prefetch(String className, double screenHeight, double screenWidth) {
+        cancel();
+        Prefetch prefetch = new Prefetch(className);
+        current = prefetch;
+        CompletableFuture.supplyAsync(() -> findConstructor(className), backgroundExecutor)
+                .thenAcceptAsync(constructor -> build(prefetch, constructor, screenHeight, screenWidth), fxExecutor)
+                .exceptionally(e -> {
+                    System.err.println("Could not prefetch level: " + className);
+                    e.printStackTrace();
+                    return null;
+                });
+    }
+
+    /**
+     * Takes the prefetched level if it is the one asked for and has been built.
+     * Any other prefetch is cancelled, so the caller builds the level itself when null is returned.
+     * Must be called on the JavaFX Application Thread.
+     *
+     * @param className The fully qualified name of the level class.
+     * @return The prefetched level, or null if it is not ready.
+     */
+    public LevelParent take(String className) {
+        Prefetch prefetch = current;
+        if (prefetch != null && prefetch.level != null && prefetch.className.equals(className)) {
+            current = null;
+            return prefetch.level;
+        }
+        cancel();
+        return null;
+    }
+
+    /**
+     * Cancels the current prefetch. A level that was already built is stopped and dropped.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void cancel() {
+        Prefetch prefetch = current;
+        if (prefetch == null) {
+            return;
+        }
+        current = null;
+        prefetch.cancelled = true;
+        if (prefetch.level != null) {
+            prefetch.level.stopGame();
+            prefetch.level = null;
+        }
+    }
+
+    /**
+     * Checks whether a level has been built and is waiting to be taken.
+     *
+     * @param className The fully qualified name of the level class.
+     * @return true if the level is ready.
+     */
+    public boolean isReady(String className) {
+        Prefetch prefetch = current;
+        return prefetch != null && prefetch.level != null && prefetch.className.equals(className);
+    }
+
+    /**
+     * Loads a level class and finds its (screenHeight, screenWidth) constructor.
+     *
+     * @param className The fully qualified name of the level class.
+     * @return The constructor.
+     */
+    private static Constructor<?> findConstructor(String className) {
+        try {
+            return Class.forName(className).getConstructor(double.class, double.class);
+        } catch (ReflectiveOperationException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Constructs a prefetched level, unless the prefetch has been cancelled in the meantime.
+     *
+     * @param prefetch     The prefetch.
+     * @param constructor  The level's constructor.
+     * @param screenHeight The height of the screen.
+     * @param screenWidth  The width of the screen.
+     */
+    private static void build(Prefetch prefetch, Constructor<?> constructor, double screenHeight, double screenWidth) {
+        if (prefetch.cancelled) {
+            return;
+        }
+        try {
+            prefetch.level = (LevelParent) constructor.newInstance(screenHeight, screenWidth);
+        } catch (ReflectiveOperationException e) {
+            throw new CompletionException(e);
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package com.example.demo.level;
 
 import com.example.demo.ActiveActorDestructible;
+import com.example.demo.assetmanager.ImageCache;
+import com.example.demo.gamemanager.RandomService;
+import com.example.demo.gamemanager.SceneLayer;
 import com.example.demo.levelview.LevelView;
 import com.example.demo.overlay.OverlayManager;
 import com.example.demo.plane.EnemyPlane;
 import com.example.demo.plane.IntermediatePlane;
 import com.example.demo.plane.MasterPlane;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import com.example.demo.projectile.EnemyProjectile;
+import com.example.demo.renderer.RenderLayer;
 
 /**
  * Class representing the third level of the game.
@@ -16,7 +18,7 @@ import java.util.stream.Collectors;
  */
 public class LevelThree extends LevelParent {
 
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg"; // Updated to LevelThree background
+    public static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg"; // Updated to LevelThree background
     private static final String NEXT_LEVEL = "com.example.demo.level.LevelFour";
     private static final int PLAYER_INITIAL_HEALTH = 5;
     private static final double Y_UPPER_BOUND = 80;
@@ -41,7 +43,30 @@ public class LevelThree extends LevelParent {
      * @param screenWidth the width of the screen
      */
     public LevelThree(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, "LEVEL THREE");
+        this(screenHeight, screenWidth, false);
+    }
+
+    /**
+     * Constructor for LevelThree, optionally in headless mode.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param headless    true to run the level without a window
+     */
+    public LevelThree(double screenHeight, double screenWidth, boolean headless) {
+        this(screenHeight, screenWidth, headless, new RandomService());
+    }
+
+    /**
+     * Constructor for LevelThree, optionally in headless mode, with the given source of gameplay randomness.
+     *
+     * @param screenHeight  the height of the screen
+     * @param screenWidth   the width of the screen
+     * @param headless      true to run the level without a window
+     * @param randomService the source of all gameplay randomness, seeded with the seed to play
+     */
+    public LevelThree(double screenHeight, double screenWidth, boolean headless, RandomService randomService) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, "LEVEL THREE", headless, randomService);
     }
 
     /**
@@ -52,16 +77,17 @@ public class LevelThree extends LevelParent {
         if (userIsDestroyed()) {
             loseGame();
         } else if (masterWaveActive && masterPlanesDestroyed >= 2) {
+            markSplit("Wave 3");
             winGame();
         }
     }
 
     /**
-     * Initializes friendly units by adding the user to the root group.
+     * Initializes friendly units by adding the user to the renderer.
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getRenderer().add(getUser(), RenderLayer.PLAYER);
     }
 
     /**
@@ -94,11 +120,13 @@ public class LevelThree extends LevelParent {
         // Activate intermediate wave if conditions are met
         if (!intermediateWaveActive && normalPlanesDestroyed >= NORMAL_TO_INTERMEDIATE_DESTROYED) {
             intermediateWaveActive = true;
+            markSplit("Wave 1");
         }
 
         // Activate master wave if conditions are met
         if (intermediateWaveActive && !masterWaveActive && intermediatePlanesDestroyed >= INTERMEDIATE_TO_MASTER_DESTROYED) {
             masterWaveActive = true;
+            markSplit("Wave 2");
         }
 
         // Spawn planes based on the active wave
@@ -111,6 +139,20 @@ public class LevelThree extends LevelParent {
         }
     }
 
+    /**
+     * Warms the shared image cache with the sprites used in Level Three.
+     *
+     * @param imageCache the shared image cache to warm
+     */
+    @Override
+    protected void preloadSprites(ImageCache imageCache) {
+        super.preloadSprites(imageCache);
+        imageCache.preload(EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT);
+        imageCache.preload(IntermediatePlane.IMAGE_NAME, IntermediatePlane.IMAGE_HEIGHT);
+        imageCache.preload(MasterPlane.IMAGE_NAME, MasterPlane.IMAGE_HEIGHT);
+        imageCache.preload(EnemyProjectile.IMAGE_NAME, EnemyProjectile.IMAGE_HEIGHT);
+    }
+
     /**
      * Instantiates the level view for Level Three.
      *
@@ -121,7 +163,8 @@ public class LevelThree extends LevelParent {
     @Override
     protected LevelView instantiateLevelView(double screenWidth, double screenHeight) {
         return new LevelView(
-                getRoot(),
+                getLayer(SceneLayer.HUD),
+                getLayer(SceneLayer.OVERLAYS),
                 PLAYER_INITIAL_HEALTH,
                 getBackToMainMenuCallback(),
                 this::pauseGame,
@@ -168,8 +211,8 @@ public class LevelThree extends LevelParent {
     protected void spawnNormalPlanes() {
         int TOTAL_NORMAL_PLANES = 5;
         for (int i = 0; i < TOTAL_NORMAL_PLANES - getCurrentNumberOfEnemies(); i++) {
-            double yPos = Y_UPPER_BOUND + Math.random() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
-            ActiveActorDestructible normalPlane = new EnemyPlane(getScreenWidth(), yPos);
+            double yPos = Y_UPPER_BOUND + getRandom(RandomService.Stream.SPAWNING).nextDouble() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
+            ActiveActorDestructible normalPlane = new EnemyPlane(getScreenWidth(), yPos, getRandom(RandomService.Stream.ENEMY_FIRE));
             addEnemyUnit(normalPlane);
         }
     }
@@ -182,8 +225,8 @@ public class LevelThree extends LevelParent {
         int TOTAL_INTERMEDIATE_PLANES = 3;
         int currentIntermediatePlanes = getCurrentNumberOfIntermediatePlanes();
         for (int i = 0; i < TOTAL_INTERMEDIATE_PLANES - currentIntermediatePlanes; i++) {
-            double yPos = Y_UPPER_BOUND + Math.random() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
-            ActiveActorDestructible intermediatePlane = new IntermediatePlane(getScreenWidth(), yPos);
+            double yPos = Y_UPPER_BOUND + getRandom(RandomService.Stream.SPAWNING).nextDouble() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
+            ActiveActorDestructible intermediatePlane = new IntermediatePlane(getScreenWidth(), yPos, getRandom(RandomService.Stream.ENEMY_FIRE));
             addEnemyUnit(intermediatePlane);
         }
     }
@@ -196,37 +239,29 @@ public class LevelThree extends LevelParent {
         int TOTAL_MASTER_PLANES = 2;
         int currentMasterPlanes = getCurrentNumberOfMasterPlanes();
         for (int i = 0; i < TOTAL_MASTER_PLANES - currentMasterPlanes; i++) {
-            double yPos = Y_UPPER_BOUND + Math.random() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
-            ActiveActorDestructible masterPlane = new MasterPlane(getScreenWidth(), yPos);
+            double yPos = Y_UPPER_BOUND + getRandom(RandomService.Stream.SPAWNING).nextDouble() * (Y_LOWER_BOUND - Y_UPPER_BOUND);
+            ActiveActorDestructible masterPlane = new MasterPlane(getScreenWidth(), yPos, getRandom(RandomService.Stream.ENEMY_FIRE));
             addEnemyUnit(masterPlane);
         }
     }
 
     /**
-     * Removes all destroyed actors from the game and updates the destruction counts.
+     * Updates the destruction counts when an enemy plane is removed.
+     *
+     * @param enemy The destroyed enemy unit.
      */
     @Override
-    protected void removeAllDestroyedActors() {
-        // Step 1: Track destroyed planes before they are removed
-        List<ActiveActorDestructible> destroyedEnemies = getEnemyUnits().stream()
-                .filter(ActiveActorDestructible::isDestroyed)
-                .collect(Collectors.toList());
-
-        for (ActiveActorDestructible enemy : destroyedEnemies) {
-            // Only increment counts if destroyed by user projectile
-            if (enemy.getDestroyedBy() == ActiveActorDestructible.DestroyedBy.USER_PROJECTILE) {
-                if (enemy instanceof MasterPlane) {
-                    masterPlanesDestroyed++;
-                } else if (enemy instanceof IntermediatePlane) {
-                    intermediatePlanesDestroyed++;
-                } else if (enemy instanceof EnemyPlane) {
-                    normalPlanesDestroyed++;
-                }
+    protected void onEnemyDestroyed(ActiveActorDestructible enemy) {
+        // Only increment counts if destroyed by user projectile
+        if (enemy.getDestroyedBy() == ActiveActorDestructible.DestroyedBy.USER_PROJECTILE) {
+            if (enemy instanceof MasterPlane) {
+                masterPlanesDestroyed++;
+            } else if (enemy instanceof IntermediatePlane) {
+                intermediatePlanesDestroyed++;
+            } else if (enemy instanceof EnemyPlane) {
+                normalPlanesDestroyed++;
             }
         }
-
-        // Step 2: Now remove the destroyed actors
-        super.removeAllDestroyedActors();
     }
 
     /**
@@ -246,7 +281,8 @@ public class LevelThree extends LevelParent {
             int remaining = MASTER_TO_WIN_DESTROYED - masterPlanesDestroyed;
             status = "Wave 3: Destroy " + Math.max(remaining, 0) + " Master Planes";
         }
-        levelView.updateCustomInfo(status);
+        String info = status;
+        runOnFxThread(() -> levelView.updateCustomInfo(info));
     }
 
     /**
@@ -1,9 +1,15 @@
 package com.example.demo.level;
 
+import com.example.demo.assetmanager.ImageCache;
+import com.example.demo.gamemanager.RandomService;
+import com.example.demo.gamemanager.SceneLayer;
 import com.example.demo.levelview.LevelView;
 import com.example.demo.levelview.LevelViewLevelTwo;
 import com.example.demo.overlay.OverlayManager;
 import com.example.demo.plane.BossPlane;
+import com.example.demo.projectile.BossProjectile;
+import com.example.demo.renderer.RenderLayer;
+import com.example.demo.shield.BossShieldImage;
 
 /**
  * Class representing the second level of the game.
@@ -11,7 +17,7 @@ import com.example.demo.plane.BossPlane;
  */
 public class LevelTwo extends LevelParent {
 
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
+    public static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
     private static final String NEXT_LEVEL = "com.example.demo.level.LevelThree";
     protected static final int PLAYER_INITIAL_HEALTH = 5;
     protected final BossPlane bossPlane;
@@ -24,8 +30,31 @@ public class LevelTwo extends LevelParent {
      * @param screenWidth the width of the screen
      */
     public LevelTwo(double screenHeight, double screenWidth) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, "LEVEL TWO");
-        bossPlane = new BossPlane();
+        this(screenHeight, screenWidth, false);
+    }
+
+    /**
+     * Constructor for LevelTwo, optionally in headless mode.
+     *
+     * @param screenHeight the height of the screen
+     * @param screenWidth the width of the screen
+     * @param headless    true to run the level without a window
+     */
+    public LevelTwo(double screenHeight, double screenWidth, boolean headless) {
+        this(screenHeight, screenWidth, headless, new RandomService());
+    }
+
+    /**
+     * Constructor for LevelTwo, optionally in headless mode, with the given source of gameplay randomness.
+     *
+     * @param screenHeight  the height of the screen
+     * @param screenWidth   the width of the screen
+     * @param headless      true to run the level without a window
+     * @param randomService the source of all gameplay randomness, seeded with the seed to play
+     */
+    public LevelTwo(double screenHeight, double screenWidth, boolean headless, RandomService randomService) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, "LEVEL TWO", headless, randomService);
+        bossPlane = new BossPlane(getRandom(RandomService.Stream.BOSS));
     }
 
     /**
@@ -45,15 +74,16 @@ public class LevelTwo extends LevelParent {
      */
     @Override
     protected void updateCustomDisplay() {
-        levelView.updateBossHealth(bossPlane.getBossHealth());
+        int bossHealth = bossPlane.getBossHealth();
+        runOnFxThread(() -> levelView.updateBossHealth(bossHealth));
     }
 
     /**
-     * Initializes friendly units by adding the user to the root group.
+     * Initializes friendly units by adding the user to the renderer.
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        getRenderer().add(getUser(), RenderLayer.PLAYER);
     }
 
     /**
@@ -63,12 +93,25 @@ public class LevelTwo extends LevelParent {
     protected void spawnEnemyUnits() {
         if (getCurrentNumberOfEnemies() == 0) {
             addEnemyUnit(bossPlane);
-            if (!getRoot().getChildren().contains(bossPlane.getShieldImage())) {
-                getRoot().getChildren().add(bossPlane.getShieldImage()); // Add the shield image to the scene graph
+            if (!getRenderer().contains(bossPlane.getShieldImage())) {
+                getRenderer().add(bossPlane.getShieldImage(), RenderLayer.SHIELDS); // Draw the shield over the boss
             }
         }
     }
 
+    /**
+     * Warms the shared image cache with the sprites used in Level Two.
+     *
+     * @param imageCache the shared image cache to warm
+     */
+    @Override
+    protected void preloadSprites(ImageCache imageCache) {
+        super.preloadSprites(imageCache);
+        imageCache.preload(BossPlane.IMAGE_NAME, BossPlane.IMAGE_HEIGHT);
+        imageCache.preload(BossProjectile.IMAGE_NAME, BossProjectile.IMAGE_HEIGHT);
+        imageCache.preload(BossShieldImage.IMAGE_NAME, BossShieldImage.SHIELD_SIZE, BossShieldImage.SHIELD_SIZE, false);
+    }
+
     /**
      * Instantiates the level view for Level Two.
      *
@@ -79,7 +122,8 @@ public class LevelTwo extends LevelParent {
     @Override
     protected LevelView instantiateLevelView(double screenWidth, double screenHeight) {
         levelView = new LevelViewLevelTwo(
-                getRoot(),
+                getLayer(SceneLayer.HUD),
+                getLayer(SceneLayer.OVERLAYS),
                 PLAYER_INITIAL_HEALTH,
                 getBackToMainMenuCallback(),
                 this::pauseGame, // Pass the pauseGame callback
@@ -5,6 +5,8 @@ import com.example.demo.display.DisplayManager;
 import com.example.demo.overlay.OverlayManager;
 import javafx.scene.Group;
 
+import java.util.function.Consumer;
+
 /**
  * Manages the UI elements and overlays for a game level.
  * Delegates specific UI tasks to DisplayManager and OverlayManager.
@@ -27,9 +29,26 @@ public class LevelView {
      */
     public LevelView(Group root, int heartsToDisplay, Runnable backToMainMenuCallback, Runnable pauseGameCallback,
                      Runnable resumeGameCallback, double screenWidth, double screenHeight) {
+        this(root, root, heartsToDisplay, backToMainMenuCallback, pauseGameCallback, resumeGameCallback, screenWidth, screenHeight);
+    }
 
-        this.displayManager = new DisplayManager(root, heartsToDisplay, screenWidth, screenHeight, pauseGameCallback, this::showExitOverlay);
-        this.overlayManager = new OverlayManager(root, screenWidth, screenHeight, pauseGameCallback, resumeGameCallback, backToMainMenuCallback);
+    /**
+     * Constructor for LevelView, with displays and overlays in layers of their own.
+     *
+     * @param hudLayer               the group displays are added to
+     * @param overlayLayer           the group overlays are added to
+     * @param heartsToDisplay        the number of hearts to display for the player's health
+     * @param backToMainMenuCallback the callback to return to the main menu
+     * @param pauseGameCallback      the callback to pause the game
+     * @param resumeGameCallback     the callback to resume the game
+     * @param screenWidth            the width of the screen
+     * @param screenHeight           the height of the screen
+     */
+    public LevelView(Group hudLayer, Group overlayLayer, int heartsToDisplay, Runnable backToMainMenuCallback,
+                     Runnable pauseGameCallback, Runnable resumeGameCallback, double screenWidth, double screenHeight) {
+
+        this.displayManager = new DisplayManager(hudLayer, heartsToDisplay, screenWidth, screenHeight, pauseGameCallback, this::showExitOverlay);
+        this.overlayManager = new OverlayManager(overlayLayer, screenWidth, screenHeight, pauseGameCallback, resumeGameCallback, backToMainMenuCallback);
     }
 
     // Delegated Methods to DisplayManager
@@ -131,13 +150,13 @@ public class LevelView {
      * @param nextLevelCallback the callback to proceed to the next level
      * @param restartCallback the callback to restart the level
      * @param levelName the name of the level
-     * @param currentTimeSeconds the current time in seconds
-     * @param fastestTimeSeconds the fastest time in seconds
+     * @param currentTimeMillis the current time in milliseconds
+     * @param fastestTimeMillis the fastest time in milliseconds
      * @param achievementMessage the achievement message
      */
     public void showWinOverlay(Runnable backToMainMenuCallback, Runnable nextLevelCallback, Runnable restartCallback,
-                               String levelName, long currentTimeSeconds, long fastestTimeSeconds, String achievementMessage) {
-        overlayManager.showWinOverlay(backToMainMenuCallback, nextLevelCallback, restartCallback, levelName, currentTimeSeconds, fastestTimeSeconds, achievementMessage);
+                               String levelName, long currentTimeMillis, long fastestTimeMillis, String achievementMessage) {
+        overlayManager.showWinOverlay(backToMainMenuCallback, nextLevelCallback, restartCallback, levelName, currentTimeMillis, fastestTimeMillis, achievementMessage);
     }
 
     /**
@@ -153,12 +172,12 @@ public class LevelView {
      * @param backToMainMenuCallback the callback to return to the main menu
      * @param restartCallback the callback to restart the level
      * @param levelName the name of the level
-     * @param currentTimeSeconds the current time in seconds
+     * @param currentTimeMillis the current time in milliseconds
      * @param fastestTimeDisplay the fastest time display
      */
     public void showGameOverOverlay(Runnable backToMainMenuCallback, Runnable restartCallback,
-                                    String levelName, long currentTimeSeconds, String fastestTimeDisplay) {
-        overlayManager.showGameOverOverlay(backToMainMenuCallback, restartCallback, levelName, currentTimeSeconds, fastestTimeDisplay);
+                                    String levelName, long currentTimeMillis, String fastestTimeDisplay) {
+        overlayManager.showGameOverOverlay(backToMainMenuCallback, restartCallback, levelName, currentTimeMillis, fastestTimeDisplay);
     }
 
     /**
@@ -176,6 +195,15 @@ public class LevelView {
     public OverlayManager.ActiveOverlay getActiveOverlay() {
         return overlayManager.getActiveOverlay();
     }
+
+    /**
+     * Sets the listener told about every change of the active overlay by delegating to OverlayManager.
+     *
+     * @param activeOverlayListener the listener, or {@code null} to remove it
+     */
+    public void setActiveOverlayListener(Consumer<OverlayManager.ActiveOverlay> activeOverlayListener) {
+        overlayManager.setActiveOverlayListener(activeOverlayListener);
+    }
     /**
      * Returns the current kill count text by delegating to DisplayManager.
      *
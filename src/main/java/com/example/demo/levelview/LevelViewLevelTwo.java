@@ -26,8 +26,23 @@ public class LevelViewLevelTwo extends LevelView {
      * @param screenHeight the height of the screen
      */
     public LevelViewLevelTwo(Group root, int heartsToDisplay, Runnable backToMainMenuCallback, Runnable pauseGameCallback, Runnable resumeGameCallback, double screenWidth, double screenHeight) {
-        super(root, heartsToDisplay, backToMainMenuCallback, pauseGameCallback, resumeGameCallback, screenWidth, screenHeight);
-        this.root = root;
+        this(root, root, heartsToDisplay, backToMainMenuCallback, pauseGameCallback, resumeGameCallback, screenWidth, screenHeight);
+    }
+
+    /**
+     * Constructor for LevelViewLevelTwo, with displays and overlays in layers of their own.
+     * @param hudLayer the group displays are added to
+     * @param overlayLayer the group overlays are added to
+     * @param heartsToDisplay the number of hearts to display for the player's health
+     * @param backToMainMenuCallback the callback to return to the main menu
+     * @param pauseGameCallback the callback to pause the game
+     * @param resumeGameCallback the callback to resume the game
+     * @param screenWidth the width of the screen
+     * @param screenHeight the height of the screen
+     */
+    public LevelViewLevelTwo(Group hudLayer, Group overlayLayer, int heartsToDisplay, Runnable backToMainMenuCallback, Runnable pauseGameCallback, Runnable resumeGameCallback, double screenWidth, double screenHeight) {
+        super(hudLayer, overlayLayer, heartsToDisplay, backToMainMenuCallback, pauseGameCallback, resumeGameCallback, screenWidth, screenHeight);
+        this.root = hudLayer;
         this.bossShieldImage = new BossShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
         addImagesToRoot();
     }
@@ -2,6 +2,7 @@
 
 package com.example.demo.mainmenu;
 
+import com.example.demo.assetmanager.ImageCache;
 import com.example.demo.controller.Controller;
 import com.example.demo.styles.ButtonFactory;
 import com.example.demo.styles.FontManager;
@@ -10,47 +11,71 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.layout.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
-
 import java.net.URL;
-import java.util.Objects;
 
 /**
  * Class representing the instructions page in the game.
  * Manages the display and interactions of the instructions page.
  */
 public class InstructionsPage {
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background5.jpg";
+    public static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background5.jpg";
 
     private final Stage stage;
     private final Controller controller;
 
     private final FontManager fontManager;
     private final ButtonFactory buttonFactory;
+    private final MenuNavigator navigator;
+    private Scene scene;
 
     /**
-     * Constructor for InstructionsPage.
+     * Constructor for InstructionsPage, navigating to other pages through a navigator of its own.
      *
      * @param stage      the primary stage for this application
      * @param controller the controller to manage interactions
      */
     public InstructionsPage(Stage stage, Controller controller) {
+        this(stage, controller, new MenuNavigator(stage, controller));
+    }
+
+    /**
+     * Constructor for InstructionsPage.
+     *
+     * @param stage      the primary stage for this application
+     * @param controller the controller to manage interactions
+     * @param navigator  the navigator used to open other pages
+     */
+    public InstructionsPage(Stage stage, Controller controller, MenuNavigator navigator) {
         this.stage = stage;
         this.controller = controller;
+        this.navigator = navigator;
         this.fontManager = FontManager.getInstance();
         this.buttonFactory = new ButtonFactory();
     }
 
     /**
-     * Displays the instructions page.
+     * Displays the instructions page. The page is built the first time it is shown and reused afterwards.
      */
     public void show() {
+        if (scene == null) {
+            scene = createScene();
+        }
+        stage.setScene(scene);
+        stage.show();
+    }
+
+    /**
+     * Builds the scene of the instructions page.
+     *
+     * @return the scene
+     */
+    private Scene createScene() {
         // Load the background image
-        ImageView backgroundImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm()));
+        ImageView backgroundImageView = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME, (int) stage.getWidth(), (int) stage.getHeight(), false));
         backgroundImageView.setFitWidth(stage.getWidth());
         backgroundImageView.setFitHeight(stage.getHeight());
         backgroundImageView.setPreserveRatio(false);
@@ -60,8 +85,7 @@ public class InstructionsPage {
         StackPane backButton = buttonFactory.createCustomButton("Back", "Sugar Bomb", 16, 80, 30, "/com/example/demo/images/ButtonText_Small_Round.png");
         backButton.setOnMouseClicked(e -> {
             // Navigate back to the main menu
-            MainMenu mainMenu = new MainMenu(stage, controller);
-            mainMenu.show();
+            navigator.showMainMenu();
         });
         backButton.setId("backButton");
 
@@ -135,7 +159,6 @@ public class InstructionsPage {
             scene.getStylesheets().add(cssResource.toExternalForm());
         }
 
-        stage.setScene(scene);
-        stage.show();
+        return scene;
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@
 
 package com.example.demo.mainmenu;
 
+import com.example.demo.assetmanager.ImageCache;
 import com.example.demo.controller.Controller;
 import com.example.demo.styles.ButtonFactory;
 import com.example.demo.styles.FontManager;
@@ -10,21 +11,19 @@ import javafx.geometry.Pos;
 import javafx.scene.Cursor;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
 
 import java.net.URL;
-import java.util.Objects;
 
 /**
  * Class representing the main menu in the game.
  * Manages the display and interactions of the main menu.
  */
 public class MainMenu {
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background3.jpg";
+    public static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background3.jpg";
     private static final String CLOSE_IMAGE_NAME = "/com/example/demo/images/x.png";
 
     private final Stage stage;
@@ -32,6 +31,8 @@ public class MainMenu {
 
     private final FontManager fontManager;
     private final ButtonFactory buttonFactory;
+    private final MenuNavigator navigator;
+    private Scene scene;
 
     // Class-level UI components for testing
     private StackPane statButton;
@@ -42,24 +43,49 @@ public class MainMenu {
     private ImageView closeImageView;
 
     /**
-     * Constructor for MainMenu.
+     * Constructor for MainMenu, navigating to other pages through a navigator of its own.
      *
      * @param stage      the primary stage for this application
      * @param controller the controller to manage interactions
      */
     public MainMenu(Stage stage, Controller controller) {
+        this(stage, controller, new MenuNavigator(stage, controller));
+    }
+
+    /**
+     * Constructor for MainMenu.
+     *
+     * @param stage      the primary stage for this application
+     * @param controller the controller to manage interactions
+     * @param navigator  the navigator used to open other pages
+     */
+    public MainMenu(Stage stage, Controller controller, MenuNavigator navigator) {
         this.stage = stage;
         this.controller = controller;
+        this.navigator = navigator;
         this.fontManager = FontManager.getInstance();
         this.buttonFactory = new ButtonFactory();
     }
 
     /**
-     * Displays the main menu.
+     * Displays the main menu. The page is built the first time it is shown and reused afterwards.
      */
     public void show() {
+        if (scene == null) {
+            scene = createScene();
+        }
+        stage.setScene(scene);
+        stage.show();
+    }
+
+    /**
+     * Builds the scene of the main menu.
+     *
+     * @return the scene
+     */
+    private Scene createScene() {
         // Load the background image
-        ImageView backgroundImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm()));
+        ImageView backgroundImageView = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME, (int) stage.getWidth(), (int) stage.getHeight(), false));
         backgroundImageView.setFitWidth(stage.getWidth());
         backgroundImageView.setFitHeight(stage.getHeight());
         backgroundImageView.setPreserveRatio(false);
@@ -113,7 +139,7 @@ public class MainMenu {
 
         // --- Add the Quit (x.png) Button in Top-Left Corner ---
         // Load the x.png image
-        closeImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(CLOSE_IMAGE_NAME)).toExternalForm()));
+        closeImageView = new ImageView(ImageCache.getInstance().getImage(CLOSE_IMAGE_NAME, 30, 30, true));
         closeImageView.setFitWidth(30); // Adjust size as needed
         closeImageView.setFitHeight(30);
         closeImageView.setPreserveRatio(true);
@@ -140,8 +166,7 @@ public class MainMenu {
         } else {
             scene.getStylesheets().add(cssResource.toExternalForm());
         }
-        stage.setScene(scene);
-        stage.show();
+        return scene;
     }
 
     /**
@@ -159,8 +184,7 @@ public class MainMenu {
      * @param event the mouse event
      */
     private void handleSettingsButtonClick(MouseEvent event) {
-        Settings settings = new Settings(stage, controller);
-        settings.show();
+        navigator.showSettings();
     }
 
     /**
@@ -169,8 +193,7 @@ public class MainMenu {
      * @param event the mouse event
      */
     private void handleInstructionsButtonClick(MouseEvent event) {
-        InstructionsPage instructionsPage = new InstructionsPage(stage, controller);
-        instructionsPage.show();
+        navigator.showInstructions();
     }
 
     /**
@@ -179,8 +202,7 @@ public class MainMenu {
      * @param event the mouse event
      */
     private void handleStatButtonClick(MouseEvent event) {
-        ScoreboardPage scoreboardPage = new ScoreboardPage(stage, controller);
-        scoreboardPage.show();
+        navigator.showScoreboard();
     }
 
     /**
@@ -189,8 +211,7 @@ public class MainMenu {
      * @param event the mouse event
      */
     private void handleStoreButtonClick(MouseEvent event) {
-        StorePage storePage = new StorePage(stage, controller);
-        storePage.show();
+        navigator.showStore();
     }
 
     /**
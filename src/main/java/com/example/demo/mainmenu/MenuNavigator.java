@@ -0,0 +1,85 @@
+// File: com/example/demo/mainmenu/MenuNavigator.java
+
+package com.example.demo.mainmenu;
+
+import com.example.demo.controller.Controller;
+import javafx.stage.Stage;
+
+/**
+ * Moves between the menu pages of one stage.
+ * Each page is created the first time it is opened and kept afterwards, and every page builds its scene once,
+ * so navigating back and forth only swaps scenes. Pages refresh their dynamic content,
+ * such as the scoreboard times or the selected plane, each time they are shown.
+ */
+public class MenuNavigator {
+
+    private final Stage stage;
+    private final Controller controller;
+
+    private MainMenu mainMenu;
+    private Settings settings;
+    private StorePage storePage;
+    private ScoreboardPage scoreboardPage;
+    private InstructionsPage instructionsPage;
+
+    /**
+     * Constructor for MenuNavigator.
+     *
+     * @param stage      the primary stage for this application
+     * @param controller the controller to manage interactions
+     */
+    public MenuNavigator(Stage stage, Controller controller) {
+        this.stage = stage;
+        this.controller = controller;
+    }
+
+    /**
+     * Displays the main menu.
+     */
+    public void showMainMenu() {
+        if (mainMenu == null) {
+            mainMenu = new MainMenu(stage, controller, this);
+        }
+        mainMenu.show();
+    }
+
+    /**
+     * Displays the settings page.
+     */
+    public void showSettings() {
+        if (settings == null) {
+            settings = new Settings(stage, controller, this);
+        }
+        settings.show();
+    }
+
+    /**
+     * Displays the store page.
+     */
+    public void showStore() {
+        if (storePage == null) {
+            storePage = new StorePage(stage, controller, this);
+        }
+        storePage.show();
+    }
+
+    /**
+     * Displays the scoreboard page.
+     */
+    public void showScoreboard() {
+        if (scoreboardPage == null) {
+            scoreboardPage = new ScoreboardPage(stage, controller, this);
+        }
+        scoreboardPage.show();
+    }
+
+    /**
+     * Displays the instructions page.
+     */
+    public void showInstructions() {
+        if (instructionsPage == null) {
+            instructionsPage = new InstructionsPage(stage, controller, this);
+        }
+        instructionsPage.show();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.mainmenu;
 
+import com.example.demo.assetmanager.ImageCache;
 import com.example.demo.controller.Controller;
 import com.example.demo.mainmenumanager.FastestTimesManager;
 import com.example.demo.styles.ButtonFactory;
@@ -10,7 +11,6 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.layout.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
@@ -23,7 +23,7 @@ import java.util.*;
  * Manages the display and interactions of the scoreboard page.
  */
 public class ScoreboardPage {
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background6.jpeg";
+    public static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background6.jpeg";
 
     private static final List<String> ORDERED_LEVELS = Arrays.asList(
             "LEVEL ONE",
@@ -38,26 +38,58 @@ public class ScoreboardPage {
 
     private final FontManager fontManager;
     private final ButtonFactory buttonFactory;
+    private final MenuNavigator navigator;
+    private Scene scene;
+
+    // Time label of every level, refreshed each time the page is shown
+    private final Map<String, Label> timeLabels = new HashMap<>();
 
     /**
-     * Constructor for ScoreboardPage.
+     * Constructor for ScoreboardPage, navigating to other pages through a navigator of its own.
      *
      * @param stage      the primary stage for this application
      * @param controller the controller to manage interactions
      */
     public ScoreboardPage(Stage stage, Controller controller) {
+        this(stage, controller, new MenuNavigator(stage, controller));
+    }
+
+    /**
+     * Constructor for ScoreboardPage.
+     *
+     * @param stage      the primary stage for this application
+     * @param controller the controller to manage interactions
+     * @param navigator  the navigator used to open other pages
+     */
+    public ScoreboardPage(Stage stage, Controller controller, MenuNavigator navigator) {
         this.stage = stage;
         this.controller = controller;
+        this.navigator = navigator;
         this.fontManager = FontManager.getInstance();
         this.buttonFactory = new ButtonFactory();
     }
 
     /**
-     * Displays the scoreboard page.
+     * Displays the scoreboard page. The page is built the first time it is shown and reused afterwards.
      */
     public void show() {
+        if (scene == null) {
+            scene = createScene();
+        } else {
+            refreshTimes();
+        }
+        stage.setScene(scene);
+        stage.show();
+    }
+
+    /**
+     * Builds the scene of the scoreboard page.
+     *
+     * @return the scene
+     */
+    private Scene createScene() {
         // Load the background image
-        ImageView backgroundImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm()));
+        ImageView backgroundImageView = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME, (int) stage.getWidth(), (int) stage.getHeight(), false));
         backgroundImageView.setFitWidth(stage.getWidth());
         backgroundImageView.setFitHeight(stage.getHeight());
         backgroundImageView.setPreserveRatio(false);
@@ -67,8 +99,7 @@ public class ScoreboardPage {
         StackPane backButton = buttonFactory.createCustomButton("Back", "Sugar Bomb", 16, 80, 30, "/com/example/demo/images/ButtonText_Small_Round.png");
         backButton.setOnMouseClicked(e -> {
             // Navigate back to the main menu
-            MainMenu mainMenu = new MainMenu(stage, controller);
-            mainMenu.show();
+            navigator.showMainMenu();
         });
         backButton.setId("backButton");
 
@@ -119,11 +150,7 @@ public class ScoreboardPage {
         // Add headers and separator
         scoresBox.getChildren().addAll(headers, separator);
 
-        // Fetch the fastest times from the controller
-        FastestTimesManager ftm = FastestTimesManager.getInstance();
-        Map<String, Long> fastestTimes = ftm.getAllFastestTimes();
-
-        // Dynamically create rows for each level in the predefined order
+        // Create a row for each level in the predefined order; the times are filled in by refreshTimes
         for (String levelName : ORDERED_LEVELS) {
             HBox row = new HBox();
             row.setSpacing(200);
@@ -134,16 +161,17 @@ public class ScoreboardPage {
             levelLabel.setFont(fontManager.getFont("Pixel Digivolve", 20));
             levelLabel.setTextFill(Color.BLACK);
 
-            long timeValue = fastestTimes.getOrDefault(levelName, Long.MAX_VALUE);
-            String timeStr = timeValue < Long.MAX_VALUE ? TimeFormatter.formatTime(timeValue) : "N/A";
-            Label timeLabel = new Label(timeStr);
+            Label timeLabel = new Label();
             timeLabel.setFont(fontManager.getFont("Pixel Digivolve", 20));
             timeLabel.setTextFill(Color.BLACK);
+            timeLabels.put(levelName, timeLabel);
 
             row.getChildren().addAll(levelLabel, timeLabel);
             scoresBox.getChildren().add(row);
         }
 
+        refreshTimes();
+
         VBox mainBox = new VBox(20);
         mainBox.setAlignment(Pos.TOP_CENTER);
         mainBox.getChildren().addAll(titleVBox, scoresBox);
@@ -167,7 +195,17 @@ public class ScoreboardPage {
             scene.getStylesheets().add(cssResource.toExternalForm());
         }
 
-        stage.setScene(scene);
-        stage.show();
+        return scene;
+    }
+
+    /**
+     * Shows the current fastest time of every level.
+     */
+    private void refreshTimes() {
+        Map<String, Long> fastestTimes = FastestTimesManager.getInstance().getAllFastestTimes();
+        for (Map.Entry<String, Label> entry : timeLabels.entrySet()) {
+            long timeValue = fastestTimes.getOrDefault(entry.getKey(), Long.MAX_VALUE);
+            entry.getValue().setText(timeValue < Long.MAX_VALUE ? TimeFormatter.formatMillis(timeValue) : "N/A");
+        }
     }
 }
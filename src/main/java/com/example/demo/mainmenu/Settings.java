@@ -1,12 +1,15 @@
 package com.example.demo.mainmenu;
 
+import com.example.demo.assetmanager.ImageCache;
 import com.example.demo.controller.Controller;
 import com.example.demo.mainmenumanager.SettingsManager;
+import com.example.demo.renderer.RenderMode;
 import com.example.demo.styles.ButtonFactory;
 import com.example.demo.styles.FontManager;
 import javafx.animation.ScaleTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.image.*;
@@ -16,14 +19,13 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 
 import java.net.URL;
-import java.util.Objects;
 
 /**
  * Class representing the settings page in the game.
  * Manages the display and interactions of the settings page.
  */
 public class Settings {
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background4.jpeg";
+    public static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background4.jpeg";
     private static final String AUDIO_ON_IMAGE = "/com/example/demo/images/Audio_ON.png";
     private static final String AUDIO_OFF_IMAGE = "/com/example/demo/images/Audio_Off.png";
 
@@ -32,31 +34,62 @@ public class Settings {
 
     private final FontManager fontManager;
     private final ButtonFactory buttonFactory;
+    private final MenuNavigator navigator;
+    private Scene scene;
 
     // Instance variables for sliders to enable/disable them based on mute state
     private Slider musicVolumeSlider;
     private Slider sfxVolumeSlider;
     private Slider countdownSfxVolumeSlider;
+    private ImageView muteToggleImageView;
+    private StackPane rendererButton;
 
     /**
-     * Constructor for Settings.
+     * Constructor for Settings, navigating to other pages through a navigator of its own.
      *
      * @param stage      the primary stage for this application
      * @param controller the controller to manage interactions
      */
     public Settings(Stage stage, Controller controller) {
+        this(stage, controller, new MenuNavigator(stage, controller));
+    }
+
+    /**
+     * Constructor for Settings.
+     *
+     * @param stage      the primary stage for this application
+     * @param controller the controller to manage interactions
+     * @param navigator  the navigator used to open other pages
+     */
+    public Settings(Stage stage, Controller controller, MenuNavigator navigator) {
         this.stage = stage;
         this.controller = controller;
+        this.navigator = navigator;
         this.fontManager = FontManager.getInstance();
         this.buttonFactory = new ButtonFactory();
     }
 
     /**
-     * Displays the settings page.
+     * Displays the settings page. The page is built the first time it is shown and reused afterwards.
      */
     public void show() {
+        if (scene == null) {
+            scene = createScene();
+        } else {
+            refreshControls();
+        }
+        stage.setScene(scene);
+        stage.show();
+    }
+
+    /**
+     * Builds the scene of the settings page.
+     *
+     * @return the scene
+     */
+    private Scene createScene() {
         // Load the background image
-        ImageView backgroundImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm()));
+        ImageView backgroundImageView = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME, (int) stage.getWidth(), (int) stage.getHeight(), false));
         backgroundImageView.setFitWidth(stage.getWidth()); // Set to scene width
         backgroundImageView.setFitHeight(stage.getHeight()); // Set to scene height
         backgroundImageView.setPreserveRatio(false); // Stretch to fill
@@ -68,8 +101,7 @@ public class Settings {
         StackPane backButton = buttonFactory.createCustomButton("Back", "Sugar Bomb", 16, 80, 30, "/com/example/demo/images/ButtonText_Small_Round.png");
         backButton.setOnMouseClicked(e -> {
             // Navigate back to the main menu
-            MainMenu mainMenu = new MainMenu(stage, controller);
-            mainMenu.show();
+            navigator.showMainMenu();
         });
         backButton.setId("backButton");
 
@@ -147,7 +179,7 @@ public class Settings {
         countdownSfxVolumeSlider.valueProperty().addListener((observable, oldValue, newValue) -> settingsManager.setCountdownSoundVolume(newValue.doubleValue()));
 
         // --- Mute All Toggle Button ---
-        ImageView muteToggleImageView = new ImageView();
+        muteToggleImageView = new ImageView();
         updateMuteToggleImage(muteToggleImageView, settingsManager.isAllMuted());
 
         // Set initial size for the toggle button
@@ -204,6 +236,27 @@ public class Settings {
         // Add the label and toggle button to the HBox
         muteAllHBox.getChildren().addAll(muteAllLabel, muteToggleButton);
 
+        // --- Renderer Toggle Button ---
+        rendererButton = buttonFactory.createCustomButton(settingsManager.getRenderMode().getDisplayName(), "Sugar Bomb", 16, 150, 40, "/com/example/demo/images/ButtonText_Small_Round.png");
+        rendererButton.setId("rendererButton");
+        rendererButton.setOnMouseClicked(e -> {
+            RenderMode nextMode = settingsManager.getRenderMode().next();
+            settingsManager.setRenderMode(nextMode);
+            updateRendererButtonText(rendererButton, nextMode);
+        });
+
+        // Create an HBox for the "Renderer" label and toggle button
+        HBox rendererHBox = new HBox(110);
+        rendererHBox.setAlignment(Pos.CENTER_LEFT);
+        rendererHBox.setPadding(new Insets(0, 0, 0, 40)); // top, right, bottom, left
+
+        // Create the "Renderer" label
+        Label rendererLabel = new Label("Renderer:");
+        rendererLabel.setTextFill(Color.DARKGRAY);
+        rendererLabel.setFont(fontManager.getFont("Cartoon cookies", 25));
+
+        rendererHBox.getChildren().addAll(rendererLabel, rendererButton);
+
         // Add the "Mute All" HBox to controlsBox
         controlsBox.getChildren().addAll(musicVolumeSlider, sfxVolumeSlider, countdownSfxVolumeSlider);
 
@@ -215,7 +268,7 @@ public class Settings {
         // --- Content all boxes containing contentHBox and muteAllHBox
         VBox allVBox = new VBox(10);
         allVBox.setAlignment(Pos.CENTER);
-        allVBox.getChildren().addAll(contentHBox, muteAllHBox);
+        allVBox.getChildren().addAll(contentHBox, muteAllHBox, rendererHBox);
 
         // --- Defaults Button ---
         StackPane defaultsButton = buttonFactory.createCustomButton("Defaults", "Sugar Bomb", 16, 120, 40, "/com/example/demo/images/ButtonText_Small_Round.png");
@@ -227,6 +280,8 @@ public class Settings {
             musicVolumeSlider.setValue(SettingsManager.DEFAULT_MUSIC_VOLUME);
             sfxVolumeSlider.setValue(SettingsManager.DEFAULT_SOUND_EFFECT_VOLUME);
             countdownSfxVolumeSlider.setValue(SettingsManager.DEFAULT_COUNTDOWN_SOUND_VOLUME);
+            settingsManager.setRenderMode(SettingsManager.DEFAULT_RENDER_MODE);
+            updateRendererButtonText(rendererButton, SettingsManager.DEFAULT_RENDER_MODE);
         });
 
         // --- Bottom HBox containing Save and Defaults Buttons ---
@@ -268,12 +323,22 @@ public class Settings {
             settingsScene.getStylesheets().add(cssResource.toExternalForm());
         }
 
-        // Set the scene on the stage
-        stage.setScene(settingsScene);
-        stage.show();
-
         // Initialize sliders state based on current mute state
         updateSlidersState();
+        return settingsScene;
+    }
+
+    /**
+     * Shows the current volumes, mute state and render mode, which may have changed since the page was built.
+     */
+    private void refreshControls() {
+        SettingsManager settingsManager = SettingsManager.getInstance();
+        musicVolumeSlider.setValue(settingsManager.getMusicVolume());
+        sfxVolumeSlider.setValue(settingsManager.getSoundEffectVolume());
+        countdownSfxVolumeSlider.setValue(settingsManager.getCountdownSoundVolume());
+        updateMuteToggleImage(muteToggleImageView, settingsManager.isAllMuted());
+        updateRendererButtonText(rendererButton, settingsManager.getRenderMode());
+        updateSlidersState();
     }
 
     /**
@@ -284,8 +349,23 @@ public class Settings {
      */
     private void updateMuteToggleImage(ImageView imageView, boolean isMuted) {
         String imagePath = isMuted ? AUDIO_OFF_IMAGE : AUDIO_ON_IMAGE;
-        Image muteImage = new Image(Objects.requireNonNull(getClass().getResource(imagePath)).toExternalForm());
-        imageView.setImage(muteImage);
+        // Shared decoded images, as the toggle image is set again every time the page is shown
+        imageView.setImage(ImageCache.getInstance().getImage(imagePath, 50, 50, true));
+    }
+
+    /**
+     * Shows the selected render mode on the renderer toggle button.
+     *
+     * @param rendererButton the toggle button created by the ButtonFactory
+     * @param renderMode     the selected render mode
+     */
+    private void updateRendererButtonText(StackPane rendererButton, RenderMode renderMode) {
+        // The ButtonFactory stacks the button label on top of its background image
+        for (Node child : rendererButton.getChildren()) {
+            if (child instanceof Label label) {
+                label.setText(renderMode.getDisplayName());
+            }
+        }
     }
 
     /**
@@ -0,0 +1,154 @@
+// File: com/example/demo/mainmenu/SplashScreen.java
+
+package com.example.demo.mainmenu;
+
+import com.example.demo.assetmanager.AssetPreloader;
+import com.example.demo.level.LevelOne;
+import com.example.demo.level.LevelThree;
+import com.example.demo.level.LevelTwo;
+import com.example.demo.mainmenumanager.PlaneOption;
+import com.example.demo.mainmenumanager.SettingsManager;
+import com.example.demo.plane.AllyPlane;
+import com.example.demo.plane.BossPlane;
+import com.example.demo.plane.EnemyPlane;
+import com.example.demo.plane.IntermediatePlane;
+import com.example.demo.plane.MasterPlane;
+import com.example.demo.plane.UserPlane;
+import com.example.demo.projectile.AllyProjectile;
+import com.example.demo.projectile.BossProjectile;
+import com.example.demo.projectile.EnemyProjectile;
+import com.example.demo.projectile.UserProjectile;
+import com.example.demo.shield.BossShieldImage;
+import com.example.demo.shield.UserShieldImage;
+import com.example.demo.styles.FontManager;
+import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.stage.Stage;
+
+/**
+ * Lightweight screen shown while the game's assets load in the background.
+ * Every page and level background, the sprites, the fonts and the audio are decoded before the main menu opens,
+ * so switching pages or starting a level never waits for a decode.
+ * The screen itself uses no images or custom fonts, so it appears at once.
+ */
+public class SplashScreen {
+    private static final String TITLE = "Sky Battle";
+    private static final double PROGRESS_BAR_WIDTH = 400;
+
+    private final Stage stage;
+    private final MenuNavigator navigator;
+
+    private ProgressBar progressBar;
+    private Label statusLabel;
+
+    /**
+     * Constructor for SplashScreen.
+     *
+     * @param stage     the primary stage for this application
+     * @param navigator the navigator that opens the main menu once loading finishes
+     */
+    public SplashScreen(Stage stage, MenuNavigator navigator) {
+        this.stage = stage;
+        this.navigator = navigator;
+    }
+
+    /**
+     * Displays the splash screen and starts loading. The main menu is shown once loading has finished,
+     * even if some assets failed to load.
+     */
+    public void show() {
+        Label titleLabel = new Label(TITLE);
+        titleLabel.setFont(Font.font("Arial", 60));
+        titleLabel.setTextFill(Color.WHITE);
+
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(PROGRESS_BAR_WIDTH);
+
+        statusLabel = new Label("Loading...");
+        statusLabel.setFont(Font.font("Arial", 16));
+        statusLabel.setTextFill(Color.LIGHTGRAY);
+
+        VBox layout = new VBox(30, titleLabel, progressBar, statusLabel);
+        layout.setAlignment(Pos.CENTER);
+        layout.setStyle("-fx-background-color: black;");
+
+        stage.setScene(new Scene(layout, stage.getWidth(), stage.getHeight()));
+        stage.show();
+
+        AssetPreloader preloader = createPreloader((int) stage.getWidth(), (int) stage.getHeight());
+        preloader.start((completed, total, assetName) -> Platform.runLater(() -> showProgress(completed, total)))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        // Whatever did not load is decoded on first use instead
+                        System.err.println("Preloading assets failed: " + error);
+                    }
+                    Platform.runLater(this::openMainMenu);
+                });
+    }
+
+    /**
+     * Registers every asset the menus and levels use, at the size they are displayed at.
+     *
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     * @return the preloader
+     */
+    static AssetPreloader createPreloader(int screenWidth, int screenHeight) {
+        AssetPreloader preloader = new AssetPreloader()
+                // Page and level backgrounds, the largest images by far
+                .addImage(MainMenu.BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, false)
+                .addImage(StorePage.BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, false)
+                .addImage(Settings.BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, false)
+                .addImage(ScoreboardPage.BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, false)
+                .addImage(InstructionsPage.BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, false)
+                .addImage(LevelOne.BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, false)
+                .addImage(LevelTwo.BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, false)
+                .addImage(LevelThree.BACKGROUND_IMAGE_NAME, screenWidth, screenHeight, false)
+                // Actor sprites, with their collision masks, then the shields drawn over planes
+                .addSprite(EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT)
+                .addSprite(IntermediatePlane.IMAGE_NAME, IntermediatePlane.IMAGE_HEIGHT)
+                .addSprite(MasterPlane.IMAGE_NAME, MasterPlane.IMAGE_HEIGHT)
+                .addSprite(BossPlane.IMAGE_NAME, BossPlane.IMAGE_HEIGHT)
+                .addSprite(AllyPlane.IMAGE_NAME, AllyPlane.IMAGE_HEIGHT)
+                .addSprite(UserProjectile.IMAGE_NAME, UserProjectile.IMAGE_HEIGHT)
+                .addSprite(EnemyProjectile.IMAGE_NAME, EnemyProjectile.IMAGE_HEIGHT)
+                .addSprite(BossProjectile.IMAGE_NAME, BossProjectile.IMAGE_HEIGHT)
+                .addSprite(AllyProjectile.IMAGE_NAME, AllyProjectile.IMAGE_HEIGHT)
+                .addImage(BossShieldImage.IMAGE_NAME, BossShieldImage.SHIELD_SIZE, BossShieldImage.SHIELD_SIZE, false)
+                .addImage(UserShieldImage.IMAGE_NAME, UserShieldImage.SHIELD_SIZE, UserShieldImage.SHIELD_SIZE, true)
+                // Fonts, then the sound effects and background music
+                .addTask("fonts", FontManager::getInstance)
+                .addTask("audio", SettingsManager::getInstance);
+        // The player's planes, in game and as store previews
+        for (String planeImageName : StorePage.PLANE_IMAGE_NAMES) {
+            preloader.addSprite(planeImageName, UserPlane.IMAGE_HEIGHT)
+                    .addImage(planeImageName, PlaneOption.PREVIEW_SIZE, PlaneOption.PREVIEW_SIZE, true);
+        }
+        return preloader;
+    }
+
+    /**
+     * Updates the progress bar and status text.
+     *
+     * @param completed the number of assets loaded so far
+     * @param total     the number of assets to load
+     */
+    private void showProgress(int completed, int total) {
+        progressBar.setProgress((double) completed / total);
+        statusLabel.setText("Loading " + completed + " / " + total);
+    }
+
+    /**
+     * Starts the background music and replaces the splash screen with the main menu.
+     */
+    private void openMainMenu() {
+        SettingsManager.getInstance().playMusic();
+        navigator.showMainMenu();
+    }
+}
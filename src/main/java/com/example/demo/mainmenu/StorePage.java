@@ -1,5 +1,6 @@
 package com.example.demo.mainmenu;
 
+import com.example.demo.assetmanager.ImageCache;
 import com.example.demo.controller.Controller;
 import com.example.demo.mainmenumanager.PlaneOption;
 import com.example.demo.mainmenumanager.StoreManager;
@@ -10,7 +11,6 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
@@ -23,36 +23,67 @@ import java.util.*;
  * Manages the display and interactions of the store page.
  */
 public class StorePage {
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background4.jpeg"; // Background image for store
+    public static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background4.jpeg"; // Background image for store
+    static final String[] PLANE_IMAGE_NAMES = { "userplane.png", "userplane1.png", "userplane2.png", "userplane3.png",
+            "userplane4.png", "userplane5.png", "userplane6.png" }; // Add more plane images as needed
 
     private final Stage stage;
     private final Controller controller;
 
     private final FontManager fontManager;
     private final ButtonFactory buttonFactory;
+    private final MenuNavigator navigator;
+    private Scene scene;
     private Label selectionMessageLabel;
 
     private final List<PlaneOption> planeOptions = new ArrayList<>();
 
     /**
-     * Constructor for StorePage.
+     * Constructor for StorePage, navigating to other pages through a navigator of its own.
      *
      * @param stage      the primary stage for this application
      * @param controller the controller to manage interactions
      */
     public StorePage(Stage stage, Controller controller) {
+        this(stage, controller, new MenuNavigator(stage, controller));
+    }
+
+    /**
+     * Constructor for StorePage.
+     *
+     * @param stage      the primary stage for this application
+     * @param controller the controller to manage interactions
+     * @param navigator  the navigator used to open other pages
+     */
+    public StorePage(Stage stage, Controller controller, MenuNavigator navigator) {
         this.stage = stage;
         this.controller = controller;
+        this.navigator = navigator;
         this.fontManager = FontManager.getInstance();
         this.buttonFactory = new ButtonFactory();
     }
 
     /**
-     * Displays the store page.
+     * Displays the store page. The page is built the first time it is shown and reused afterwards.
      */
     public void show() {
+        if (scene == null) {
+            scene = createScene();
+        } else {
+            refreshSelection();
+        }
+        stage.setScene(scene);
+        stage.show();
+    }
+
+    /**
+     * Builds the scene of the store page.
+     *
+     * @return the scene
+     */
+    private Scene createScene() {
         // Load the background image
-        ImageView backgroundImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_NAME)).toExternalForm()));
+        ImageView backgroundImageView = new ImageView(ImageCache.getInstance().getImage(BACKGROUND_IMAGE_NAME, (int) stage.getWidth(), (int) stage.getHeight(), false));
         backgroundImageView.setFitWidth(stage.getWidth());
         backgroundImageView.setFitHeight(stage.getHeight());
         backgroundImageView.setPreserveRatio(false);
@@ -66,6 +97,7 @@ public class StorePage {
 
         // --- Planes Display Area ---
         ScrollPane scrollPane = createPlanesScrollPane();
+        refreshSelection();
 
         // --- Main Layout ---
         VBox mainBox = new VBox(40);
@@ -90,8 +122,7 @@ public class StorePage {
             scene.getStylesheets().add(cssResource.toExternalForm());
         }
 
-        stage.setScene(scene);
-        stage.show();
+        return scene;
     }
 
     /**
@@ -103,8 +134,7 @@ public class StorePage {
         StackPane backButton = buttonFactory.createCustomButton("Back", "Sugar Bomb", 16, 80, 30, "/com/example/demo/images/ButtonText_Small_Round.png");
         backButton.setOnMouseClicked(e -> {
             // Navigate back to the main menu
-            MainMenu mainMenu = new MainMenu(stage, controller);
-            mainMenu.show();
+            navigator.showMainMenu();
         });
 
         // Position the back button at top-left
@@ -138,10 +168,6 @@ public class StorePage {
         selectionMessageLabel.getStyleClass().add("title-text");
         selectionMessageLabel.setId("selectionMessage");
 
-        // Initialize the selection message based on current selection
-        int selectedPlaneNumber = StoreManager.getInstance().getSelectedPlaneNumber();
-        updateSelectionMessage(selectedPlaneNumber);
-
         titleVBox.getChildren().addAll(storeTitle, storeText, selectionMessageLabel);
 
         return titleVBox;
@@ -162,9 +188,7 @@ public class StorePage {
         planesBox.setMaxWidth(600); // Adjust as needed
 
         // Load plane images into planesBox
-        String[] planeImages = { "userplane.png", "userplane1.png", "userplane2.png", "userplane3.png", "userplane4.png",
-                "userplane5.png", "userplane6.png" }; // Add more plane images as needed
-        for (String planeImage : planeImages) {
+        for (String planeImage : PLANE_IMAGE_NAMES) {
             PlaneOption planeOption = new PlaneOption(planeImage, this::handlePlaneSelection);
             planeOptions.add(planeOption);
             planesBox.getChildren().add(planeOption);
@@ -201,6 +225,16 @@ public class StorePage {
      * @param selectedPlaneNumber The number of the selected plane.
      */
     private void handlePlaneSelection(int selectedPlaneNumber) {
+        // Save the selected plane number in StoreManager
+        StoreManager.getInstance().setSelectedPlaneNumber(selectedPlaneNumber);
+        refreshSelection();
+    }
+
+    /**
+     * Marks the plane selected in the StoreManager and shows it in the selection message.
+     */
+    private void refreshSelection() {
+        int selectedPlaneNumber = StoreManager.getInstance().getSelectedPlaneNumber();
         // Deselect all other planes
         for (PlaneOption planeOption : planeOptions) {
             if (planeOption.getPlaneNumber() != selectedPlaneNumber) {
@@ -212,9 +246,6 @@ public class StorePage {
 
         // Update the selection message
         updateSelectionMessage(selectedPlaneNumber);
-
-        // Save the selected plane number in StoreManager
-        StoreManager.getInstance().setSelectedPlaneNumber(selectedPlaneNumber);
     }
 
     /**
@@ -6,14 +6,17 @@ import java.util.Map;
 import java.util.prefs.Preferences;
 
 /**
- * Manages the fastest times for game levels.
+ * Manages the fastest times for game levels, in milliseconds.
  * Implements a singleton pattern to ensure a single instance.
+ * Times saved in whole seconds by earlier versions are converted the first time they are loaded.
  */
 public class FastestTimesManager {
     private static FastestTimesManager instance;
     private Map<String, Long> fastestTimes;
     private Preferences prefs;
-    private static final String PREF_FASTEST_TIMES = "fastestTimes";
+    private static final String PREF_FASTEST_TIMES = "fastestTimesMillis";
+    private static final String PREF_FASTEST_TIMES_SECONDS = "fastestTimes";
+    private static final long MILLIS_PER_SECOND = 1000L;
 
     /**
      * Clears all fastest times from the manager.
@@ -21,6 +24,7 @@ public class FastestTimesManager {
     public void clearAllFastestTimes() {
         fastestTimes.clear();
         prefs.remove(PREF_FASTEST_TIMES); // Clear persisted data
+        prefs.remove(PREF_FASTEST_TIMES_SECONDS);
     }
     /**
      * Private constructor to enforce singleton pattern.
@@ -46,9 +50,30 @@ public class FastestTimesManager {
 
     /**
      * Loads the fastest times from Preferences into the map.
+     * If only times in whole seconds are stored, they are converted to milliseconds and saved in the new format.
      */
-    private void loadFastestTimes() {
-        String storedTimes = prefs.get(PREF_FASTEST_TIMES, "");
+    void loadFastestTimes() {
+        fastestTimes.clear();
+        String storedTimes = prefs.get(PREF_FASTEST_TIMES, null);
+        if (storedTimes == null) {
+            String storedSeconds = prefs.get(PREF_FASTEST_TIMES_SECONDS, null);
+            if (storedSeconds != null) {
+                parseFastestTimes(storedSeconds, MILLIS_PER_SECOND);
+                saveFastestTimes();
+                prefs.remove(PREF_FASTEST_TIMES_SECONDS);
+            }
+            return;
+        }
+        parseFastestTimes(storedTimes, 1);
+    }
+
+    /**
+     * Parses stored fastest times into the map.
+     *
+     * @param storedTimes the stored times, as {@code level=time;} entries
+     * @param scale the factor that converts a stored time to milliseconds
+     */
+    private void parseFastestTimes(String storedTimes, long scale) {
         if (!storedTimes.isEmpty()) {
             String[] entries = storedTimes.split(";");
             for (String entry : entries) {
@@ -58,7 +83,7 @@ public class FastestTimesManager {
                         String levelName = keyValue[0];
                         try {
                             long time = Long.parseLong(keyValue[1]);
-                            fastestTimes.put(levelName, time);
+                            fastestTimes.put(levelName, time * scale);
                         } catch (NumberFormatException e) {
                             System.err.println("Invalid time format for level: " + levelName);
                         }
@@ -83,7 +108,7 @@ public class FastestTimesManager {
      * Retrieves the fastest time for a specific level.
      *
      * @param levelName the name of the level
-     * @return the fastest time for the level, or Long.MAX_VALUE if not found
+     * @return the fastest time for the level in milliseconds, or Long.MAX_VALUE if not found
      */
     public long getFastestTime(String levelName) {
         return fastestTimes.getOrDefault(levelName, Long.MAX_VALUE);
@@ -93,7 +118,7 @@ public class FastestTimesManager {
      * Updates the fastest time for a specific level if the new time is better.
      *
      * @param levelName the name of the level
-     * @param newTime the new time to be considered
+     * @param newTime the new time to be considered, in milliseconds
      */
     public void updateFastestTime(String levelName, long newTime) {
         if (!fastestTimes.containsKey(levelName) || newTime < fastestTimes.get(levelName)) {
@@ -105,7 +130,7 @@ public class FastestTimesManager {
     /**
      * Retrieves all fastest times (used for the scoreboard).
      *
-     * @return a map of all fastest times
+     * @return a map of all fastest times in milliseconds
      */
     public Map<String, Long> getAllFastestTimes() {
         return new HashMap<>(fastestTimes);
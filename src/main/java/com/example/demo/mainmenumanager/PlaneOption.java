@@ -1,19 +1,18 @@
 package com.example.demo.mainmenumanager;
 
+import com.example.demo.assetmanager.ImageCache;
 import com.example.demo.styles.FontManager;
 import javafx.animation.ScaleTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Cursor;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 
-import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -21,6 +20,11 @@ import java.util.function.Consumer;
  * Handles UI components and selection logic for the plane.
  */
 public class PlaneOption extends StackPane {
+    /**
+     * The width and height the plane preview is displayed at.
+     */
+    public static final int PREVIEW_SIZE = 150;
+
     private final FontManager fontManager;
     private final String planeImageName;
     private final int planeNumber;
@@ -64,9 +68,9 @@ public class PlaneOption extends StackPane {
      * @return Configured ImageView.
      */
     private ImageView createPlaneImageView() {
-        ImageView imageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResource("/com/example/demo/images/" + planeImageName)).toExternalForm()));
-        imageView.setFitWidth(150); // Adjust as needed
-        imageView.setFitHeight(150); // Adjust as needed
+        ImageView imageView = new ImageView(ImageCache.getInstance().getImage(planeImageName, PREVIEW_SIZE, PREVIEW_SIZE, true));
+        imageView.setFitWidth(PREVIEW_SIZE); // Adjust as needed
+        imageView.setFitHeight(PREVIEW_SIZE); // Adjust as needed
         imageView.setPreserveRatio(true);
         imageView.setSmooth(true);
         return imageView;
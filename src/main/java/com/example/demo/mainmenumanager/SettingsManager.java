@@ -1,10 +1,10 @@
 package com.example.demo.mainmenumanager;
 
+import com.example.demo.assetmanager.SoundEffectEngine;
+import com.example.demo.renderer.RenderMode;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.prefs.Preferences;
 
 /**
@@ -20,9 +20,16 @@ public class SettingsManager {
     private double countdownSoundVolume; // Countdown sound volume
     private Preferences prefs;
 
-    // Track active sound effect players
-    private List<MediaPlayer> activeSoundEffects;
-    private List<MediaPlayer> activeCountdownPlayers;
+    // Preloaded sound effect clips, kept apart so muting effects does not cut off the countdown
+    private SoundEffectEngine soundEffects;
+    private SoundEffectEngine countdownSounds;
+
+    // Sound effect files and how many copies of each may play at once
+    private static final String BULLET_SOUND = "bullet.mp3";
+    private static final String VICTORY_SOUND = "victory.mp3";
+    private static final String DEFEAT_SOUND = "defeat.mp3";
+    private static final String COUNTDOWN_SOUND = "countdown.mp3";
+    private static final int VOICES_PER_EFFECT = 4;
 
     // Define default volume levels
     public static final double DEFAULT_MUSIC_VOLUME = 0.3;
@@ -36,6 +43,10 @@ public class SettingsManager {
     // Track if all sounds are muted
     private boolean allMuted = false;
 
+    // How actors are drawn during a level
+    private RenderMode renderMode;
+    public static final RenderMode DEFAULT_RENDER_MODE = RenderMode.SCENE_GRAPH;
+
     /**
      * Private constructor to enforce singleton pattern.
      * Initializes volume settings and loads preferences.
@@ -48,8 +59,8 @@ public class SettingsManager {
         countdownSoundVolume = prefs.getDouble("countdownSoundVolume", DEFAULT_COUNTDOWN_SOUND_VOLUME); // Load countdown volume
         // Load the saved mute state
         allMuted = prefs.getBoolean("allMuted", false);
-        activeSoundEffects = new ArrayList<>();
-        activeCountdownPlayers = new ArrayList<>();
+        renderMode = loadRenderMode();
+        initializeSoundEffects();
         initializeBackgroundMusic();
 
         if (allMuted) {
@@ -65,13 +76,25 @@ public class SettingsManager {
      *
      * @return the singleton instance of SettingsManager
      */
-    public static SettingsManager getInstance() {
+    public static synchronized SettingsManager getInstance() {
         if (instance == null) {
             instance = new SettingsManager();
         }
         return instance;
     }
 
+    /**
+     * Decodes every sound effect once so playing one never loads a file.
+     */
+    private void initializeSoundEffects() {
+        soundEffects = new SoundEffectEngine(VOICES_PER_EFFECT);
+        soundEffects.preload(BULLET_SOUND);
+        soundEffects.preload(VICTORY_SOUND);
+        soundEffects.preload(DEFEAT_SOUND);
+        countdownSounds = new SoundEffectEngine(VOICES_PER_EFFECT);
+        countdownSounds.preload(COUNTDOWN_SOUND);
+    }
+
     /**
      * Initializes the background music player.
      * Loads the background music file and sets it to loop indefinitely.
@@ -148,20 +171,7 @@ public class SettingsManager {
      */
     public void playSoundEffect(String fileName) {
         if (allMuted || soundEffectsMuted) return; // Do not play if muted
-        URL soundUrl = getClass().getResource("/com/example/demo/audios/" + fileName);
-        if (soundUrl != null) {
-            Media sound = new Media(soundUrl.toString());
-            MediaPlayer soundPlayer = new MediaPlayer(sound);
-            soundPlayer.setVolume(soundEffectVolume);
-            activeSoundEffects.add(soundPlayer);
-            soundPlayer.setOnEndOfMedia(() -> {
-                activeSoundEffects.remove(soundPlayer);
-                soundPlayer.dispose();
-            });
-            soundPlayer.play();
-        } else {
-            System.err.println("Sound effect file not found: " + fileName);
-        }
+        soundEffects.play(fileName, soundEffectVolume);
     }
 
     /**
@@ -187,46 +197,47 @@ public class SettingsManager {
      * Plays the victory sound effect.
      */
     public void playVictorySound() {
-        playSoundEffect("victory.mp3");
+        playSoundEffect(VICTORY_SOUND);
     }
 
     /**
      * Plays the defeat sound effect.
      */
     public void playDefeatSound() {
-        playSoundEffect("defeat.mp3");
+        playSoundEffect(DEFEAT_SOUND);
     }
 
     /**
      * Stops and clears all active sound effects.
      */
     public void stopAllSoundEffects() {
-        for (MediaPlayer soundPlayer : activeSoundEffects) {
-            soundPlayer.stop();
-            soundPlayer.dispose();
-        }
-        activeSoundEffects.clear();
+        soundEffects.stopAll();
     }
 
     /**
      * Plays the countdown sound effect.
      */
     public void playCountdownSound() {
-        URL soundUrl = getClass().getResource("/com/example/demo/audios/countdown.mp3");
-        if (soundUrl != null) {
-            Media sound = new Media(soundUrl.toString());
-            MediaPlayer countdownPlayer = new MediaPlayer(sound);
-            countdownPlayer.setVolume(allMuted ? 0 : (countdownSoundMuted ? 0 : countdownSoundVolume));
-            // Add to activeCountdownPlayers list to maintain reference
-            activeCountdownPlayers.add(countdownPlayer);
-            countdownPlayer.setOnEndOfMedia(() -> {
-                countdownPlayer.dispose();
-                activeCountdownPlayers.remove(countdownPlayer);
-            });
-            countdownPlayer.play();
-        } else {
-            System.err.println("Countdown sound file not found: /com/example/demo/audios/countdown.mp3");
-        }
+        if (allMuted || countdownSoundMuted) return; // Do not play if muted
+        countdownSounds.play(COUNTDOWN_SOUND, countdownSoundVolume);
+    }
+
+    /**
+     * Returns the engine playing general sound effects, for its playback counters.
+     *
+     * @return the sound effect engine
+     */
+    public SoundEffectEngine getSoundEffectEngine() {
+        return soundEffects;
+    }
+
+    /**
+     * Returns the engine playing the countdown sound, for its playback counters.
+     *
+     * @return the countdown sound engine
+     */
+    public SoundEffectEngine getCountdownSoundEngine() {
+        return countdownSounds;
     }
 
     /**
@@ -259,14 +270,9 @@ public class SettingsManager {
             if (mediaPlayer != null) {
                 mediaPlayer.setVolume(0);
             }
-            // Mute all active sound effects
-            for (MediaPlayer soundPlayer : activeSoundEffects) {
-                soundPlayer.setVolume(0);
-            }
-            // Mute all active countdown sounds
-            for (MediaPlayer countdownPlayer : activeCountdownPlayers) {
-                countdownPlayer.setVolume(0);
-            }
+            // Clips cannot change volume while playing, so cut off active effects instead
+            soundEffects.stopAll();
+            countdownSounds.stopAll();
         }
     }
 
@@ -281,14 +287,7 @@ public class SettingsManager {
             if (mediaPlayer != null) {
                 mediaPlayer.setVolume(musicVolume);
             }
-            // Restore sound effects volume
-            for (MediaPlayer soundPlayer : activeSoundEffects) {
-                soundPlayer.setVolume(soundEffectsMuted ? 0 : soundEffectVolume);
-            }
-            // Restore countdown sounds volume
-            for (MediaPlayer countdownPlayer : activeCountdownPlayers) {
-                countdownPlayer.setVolume(countdownSoundMuted ? 0 : countdownSoundVolume);
-            }
+            // Sound effects pick up the restored volume the next time they play
         }
     }
 
@@ -313,22 +312,52 @@ public class SettingsManager {
     }
 
     /**
-     * Mutes all active sound effects except the victory sound.
+     * Loads the saved render mode, falling back to the default if none or an unknown one is saved.
+     *
+     * @return the saved render mode
+     */
+    private RenderMode loadRenderMode() {
+        String saved = prefs.get("renderMode", DEFAULT_RENDER_MODE.name());
+        try {
+            return RenderMode.valueOf(saved);
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_RENDER_MODE;
+        }
+    }
+
+    /**
+     * Sets how actors are drawn and saves it to preferences.
+     * Takes effect from the next level that is loaded.
+     *
+     * @param renderMode the new render mode
+     */
+    public void setRenderMode(RenderMode renderMode) {
+        this.renderMode = renderMode;
+        prefs.put("renderMode", renderMode.name());
+    }
+
+    /**
+     * Gets how actors are drawn.
+     *
+     * @return the current render mode
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Mutes sound effects and stops the ones still playing.
+     * The countdown sound is not affected.
      */
     public void muteAllSoundEffects() {
         soundEffectsMuted = true;
-        for (MediaPlayer soundPlayer : activeSoundEffects) {
-            soundPlayer.setVolume(0);
-        }
+        soundEffects.stopAll();
     }
 
     /**
-     * Unmutes all active sound effects by restoring their original volume.
+     * Unmutes sound effects so they play again at the saved volume.
      */
     public void unmuteAllSoundEffects() {
         soundEffectsMuted = false;
-        for (MediaPlayer soundPlayer : activeSoundEffects) {
-            soundPlayer.setVolume(soundEffectVolume);
-        }
     }
 }
\ No newline at end of file
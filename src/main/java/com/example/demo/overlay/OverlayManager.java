@@ -4,8 +4,12 @@ package com.example.demo.overlay;
 import com.example.demo.mainmenumanager.SettingsManager;
 import com.example.demo.styles.TimeFormatter;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.effect.GaussianBlur;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Manages the different overlays in the game, such as pause, win, game over, countdown, and exit overlays.
  */
@@ -23,6 +27,7 @@ public class OverlayManager {
     private final Runnable backToMainMenuCallback;
 
     private ActiveOverlay activeOverlay = ActiveOverlay.NONE;
+    private Consumer<ActiveOverlay> activeOverlayListener;
     private Runnable startGameCallback;
 
     /**
@@ -78,6 +83,31 @@ public class OverlayManager {
         return activeOverlay;
     }
 
+    /**
+     * Sets the listener told about every change of the active overlay.
+     * The listener is called with the current overlay straight away.
+     *
+     * @param activeOverlayListener the listener, or {@code null} to remove it
+     */
+    public void setActiveOverlayListener(Consumer<ActiveOverlay> activeOverlayListener) {
+        this.activeOverlayListener = activeOverlayListener;
+        if (activeOverlayListener != null) {
+            activeOverlayListener.accept(activeOverlay);
+        }
+    }
+
+    /**
+     * Changes the active overlay and tells the listener, if any.
+     *
+     * @param activeOverlay the new active overlay
+     */
+    private void setActiveOverlay(ActiveOverlay activeOverlay) {
+        this.activeOverlay = activeOverlay;
+        if (activeOverlayListener != null) {
+            activeOverlayListener.accept(activeOverlay);
+        }
+    }
+
     /**
      * Hides all overlays to ensure none are visible at the start.
      */
@@ -87,7 +117,7 @@ public class OverlayManager {
         winOverlay.hideWinOverlay();
         gameOverOverlay.hideGameOverOverlay();
         countdownOverlay.hideCountdown();
-        activeOverlay = ActiveOverlay.NONE;
+        setActiveOverlay(ActiveOverlay.NONE);
     }
 
     /**
@@ -105,18 +135,28 @@ public class OverlayManager {
         pauseGameCallback.run();
 
         // Apply blur effect to all nodes except the countdownOverlay
-        root.getChildren().forEach(node -> {
-            if (node != countdownOverlay) {
+        getNodesUnderOverlays().forEach(node -> {
+            if (node != countdownOverlay && node != root) {
                 node.setEffect(new GaussianBlur(10));
             }
         });
 
         // Start the countdown
         countdownOverlay.startCountdown();
-        activeOverlay = ActiveOverlay.COUNTDOWN;
+        setActiveOverlay(ActiveOverlay.COUNTDOWN);
         SettingsManager.getInstance().muteAllSoundEffects();
     }
 
+    /**
+     * Returns the nodes the countdown blurs: the other layers of the scene when overlays have a layer of their own,
+     * or the other children of the root they were added to.
+     *
+     * @return the nodes sharing a parent with the overlays or their layer
+     */
+    private List<Node> getNodesUnderOverlays() {
+        return root.getParent() instanceof Group scene ? scene.getChildren() : root.getChildren();
+    }
+
     /**
      * Callback method when the countdown finishes.
      */
@@ -125,8 +165,8 @@ public class OverlayManager {
             return;
         }
         // Remove blur effect
-        root.getChildren().forEach(node -> {
-            if (node != countdownOverlay) {
+        getNodesUnderOverlays().forEach(node -> {
+            if (node != countdownOverlay && node != root) {
                 node.setEffect(null);
             }
         });
@@ -139,7 +179,7 @@ public class OverlayManager {
             startGameCallback.run();
         }
         SettingsManager.getInstance().unmuteAllSoundEffects();
-        activeOverlay = ActiveOverlay.NONE;
+        setActiveOverlay(ActiveOverlay.NONE);
     }
 
     /**
@@ -149,7 +189,7 @@ public class OverlayManager {
         if (activeOverlay == ActiveOverlay.NONE) {
             exitOverlay.initializeButtons(resumeGameCallback, backToMainMenuCallback, this::hideExitOverlay);
             exitOverlay.showExitOverlay();
-            activeOverlay = ActiveOverlay.EXIT;
+            setActiveOverlay(ActiveOverlay.EXIT);
         }
     }
 
@@ -159,7 +199,7 @@ public class OverlayManager {
     public void hideExitOverlay() {
         if (activeOverlay == ActiveOverlay.EXIT) {
             exitOverlay.hideExitOverlay();
-            activeOverlay = ActiveOverlay.NONE;
+            setActiveOverlay(ActiveOverlay.NONE);
         }
     }
 
@@ -171,7 +211,7 @@ public class OverlayManager {
             pauseOverlay.setVisible(true);
             pauseOverlay.setMouseTransparent(false); // Allow interactions with the overlay
             pauseOverlay.toFront(); // Bring to front
-            activeOverlay = ActiveOverlay.PAUSE;
+            setActiveOverlay(ActiveOverlay.PAUSE);
         }
     }
 
@@ -184,7 +224,7 @@ public class OverlayManager {
         }
         pauseOverlay.setVisible(false);
         pauseOverlay.setMouseTransparent(true); // Disable interactions when not visible
-        activeOverlay = ActiveOverlay.NONE;
+        setActiveOverlay(ActiveOverlay.NONE);
     }
 
     /**
@@ -194,21 +234,21 @@ public class OverlayManager {
      * @param nextLevelCallback the callback to proceed to the next level
      * @param restartCallback the callback to restart the current level
      * @param levelName the name of the current level
-     * @param currentTimeSeconds the current time in seconds
-     * @param fastestTimeSeconds the fastest time in seconds
+     * @param currentTimeMillis the current time in milliseconds
+     * @param fastestTimeMillis the fastest time in milliseconds
      * @param achievementMessage the achievement message to display
      */
     public void showWinOverlay(Runnable backToMainMenuCallback, Runnable nextLevelCallback, Runnable restartCallback,
-                               String levelName, long currentTimeSeconds, long fastestTimeSeconds, String achievementMessage) {
+                               String levelName, long currentTimeMillis, long fastestTimeMillis, String achievementMessage) {
         if (activeOverlay == ActiveOverlay.NONE) {
             winOverlay.initializeButtons(backToMainMenuCallback, nextLevelCallback, restartCallback, levelName);
             // Format times
-            String currentTime = TimeFormatter.formatTime(currentTimeSeconds);
-            String fastestTime = TimeFormatter.formatTime(fastestTimeSeconds);
+            String currentTime = TimeFormatter.formatMillis(currentTimeMillis);
+            String fastestTime = TimeFormatter.formatMillis(fastestTimeMillis);
             winOverlay.setTimes(currentTime, fastestTime);
             winOverlay.setAchievementMessage(achievementMessage); // Set the achievement message
             winOverlay.showWinOverlay();
-            activeOverlay = ActiveOverlay.WIN;
+            setActiveOverlay(ActiveOverlay.WIN);
         }
     }
 
@@ -220,7 +260,7 @@ public class OverlayManager {
             return;
         }
         winOverlay.hideWinOverlay();
-        activeOverlay = ActiveOverlay.NONE;
+        setActiveOverlay(ActiveOverlay.NONE);
     }
 
     /**
@@ -229,18 +269,18 @@ public class OverlayManager {
      * @param backToMainMenuCallback the callback to return to the main menu
      * @param restartCallback the callback to restart the current level
      * @param levelName the name of the current level
-     * @param currentTimeSeconds the current time in seconds
+     * @param currentTimeMillis the current time in milliseconds
      * @param fastestTimeDisplay the display string for the fastest time
      */
     public void showGameOverOverlay(Runnable backToMainMenuCallback, Runnable restartCallback,
-                                    String levelName, long currentTimeSeconds, String fastestTimeDisplay) {
+                                    String levelName, long currentTimeMillis, String fastestTimeDisplay) {
         if (activeOverlay == ActiveOverlay.NONE) {
             gameOverOverlay.initializeButtons(backToMainMenuCallback, restartCallback, levelName);
             // Format times
-            String currentTime = TimeFormatter.formatTime(currentTimeSeconds);
+            String currentTime = TimeFormatter.formatMillis(currentTimeMillis);
             gameOverOverlay.setTimes(currentTime, fastestTimeDisplay);
             gameOverOverlay.showGameOverOverlay();
-            activeOverlay = ActiveOverlay.GAME_OVER;
+            setActiveOverlay(ActiveOverlay.GAME_OVER);
         }
     }
 
@@ -252,6 +292,6 @@ public class OverlayManager {
             return;
         }
         gameOverOverlay.hideGameOverOverlay();
-        activeOverlay = ActiveOverlay.NONE;
+        setActiveOverlay(ActiveOverlay.NONE);
     }
 }
\ No newline at end of file
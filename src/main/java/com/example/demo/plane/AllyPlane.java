@@ -1,10 +1,11 @@
 package com.example.demo.plane;
 
 import com.example.demo.ActiveActorDestructible;
-import com.example.demo.projectile.AllyProjectile;
+import com.example.demo.gamemanager.RandomService;
 
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 /**
  * Class representing an ally plane in the game.
@@ -12,12 +13,12 @@ import java.util.function.Consumer;
  */
 public class AllyPlane extends FighterPlane {
 
-    private static final String IMAGE_NAME = "allyplane.png";
+    public static final String IMAGE_NAME = "allyplane.png";
     private static final double INITIAL_X_POSITION = 5.0;
     private static final double INITIAL_Y_POSITION = 400;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
     private static final double ALLY_FIRE_RATE = 0.1; // 10% chance to fire each frame
-    private static final int IMAGE_HEIGHT = 50;
+    public static final int IMAGE_HEIGHT = 50;
     private static final int VERTICAL_VELOCITY = 8;
     private static final int HEALTH = 10;
     private int health = HEALTH;
@@ -27,6 +28,7 @@ public class AllyPlane extends FighterPlane {
     private static final int Y_POSITION_UPPER_BOUND = 80;
     private static final int Y_POSITION_LOWER_BOUND = 580;
     private final List<Integer> movePattern;
+    private final RandomGenerator random;
     private int consecutiveMovesInSameDirection;
     private int indexOfCurrentMove;
     private Runnable onDeactivationCallback; // Callback for deactivation
@@ -39,7 +41,20 @@ public class AllyPlane extends FighterPlane {
      * @param onDeactivationCallback the callback to run when the plane is deactivated
      */
     public AllyPlane(Consumer<ActiveActorDestructible> addProjectileCallback, Runnable onDeactivationCallback) {
+        this(addProjectileCallback, onDeactivationCallback, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for AllyPlane drawing its moves and fire decisions from a given generator.
+     *
+     * @param addProjectileCallback the callback to add projectiles
+     * @param onDeactivationCallback the callback to run when the plane is deactivated
+     * @param random the generator deciding how the plane moves and fires
+     */
+    public AllyPlane(Consumer<ActiveActorDestructible> addProjectileCallback, Runnable onDeactivationCallback,
+                     RandomGenerator random) {
         super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+        this.random = random;
         this.addProjectileCallback = addProjectileCallback;
         this.onDeactivationCallback = onDeactivationCallback;
         movePattern = new ArrayList<>();
@@ -84,7 +99,7 @@ public class AllyPlane extends FighterPlane {
         }
         double projectileY = getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
 
-        ActiveActorDestructible projectile = new AllyProjectile(projectileY);
+        ActiveActorDestructible projectile = getProjectilePools().acquireAllyProjectile(projectileY);
         addProjectileCallback.accept(projectile); // Add projectile to LevelParent's list
         return projectile;
     }
@@ -133,7 +148,7 @@ public class AllyPlane extends FighterPlane {
             movePattern.add(-VERTICAL_VELOCITY);
             movePattern.add(ZERO);
         }
-        Collections.shuffle(movePattern);
+        RandomService.shuffle(movePattern, random);
     }
 
     /**
@@ -146,7 +161,7 @@ public class AllyPlane extends FighterPlane {
         int currentMove = movePattern.get(indexOfCurrentMove);
         consecutiveMovesInSameDirection++;
         if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-            Collections.shuffle(movePattern);
+            RandomService.shuffle(movePattern, random);
             consecutiveMovesInSameDirection = 0;
             indexOfCurrentMove++;
         }
@@ -162,6 +177,6 @@ public class AllyPlane extends FighterPlane {
      * @return true if the plane fires, false otherwise
      */
     private boolean allyFiresInCurrentFrame() {
-        return Math.random() < ALLY_FIRE_RATE;
+        return random.nextDouble() < ALLY_FIRE_RATE;
     }
 }
\ No newline at end of file
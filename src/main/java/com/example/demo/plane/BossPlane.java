@@ -1,10 +1,11 @@
 package com.example.demo.plane;
 
 import com.example.demo.ActiveActorDestructible;
+import com.example.demo.gamemanager.RandomService;
 import com.example.demo.shield.BossShieldImage;
-import com.example.demo.projectile.BossProjectile;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Class representing a boss plane in the game.
@@ -12,13 +13,13 @@ import java.util.*;
  */
 public class BossPlane extends FighterPlane {
 
-    private static final String IMAGE_NAME = "bossplane.png";
+    public static final String IMAGE_NAME = "bossplane.png";
     private static final double INITIAL_X_POSITION = 1100.0;
     private static final double INITIAL_Y_POSITION = 400;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 40.0;
     private static final double BOSS_FIRE_RATE = .04;
     private static final double BOSS_SHIELD_PROBABILITY = .002;
-    private static final int IMAGE_HEIGHT = 40;
+    public static final int IMAGE_HEIGHT = 40;
     private static final int VERTICAL_VELOCITY = 8;
     private static final int HEALTH = 10; // initial 100
     private int health = HEALTH;
@@ -29,6 +30,7 @@ public class BossPlane extends FighterPlane {
     private static final int Y_POSITION_LOWER_BOUND = 640;
     private static final int MAX_FRAMES_WITH_SHIELD = 500;
     private final List<Integer> movePattern;
+    private final RandomGenerator random;
     private boolean isShielded;
     private int consecutiveMovesInSameDirection;
     private int indexOfCurrentMove;
@@ -40,7 +42,17 @@ public class BossPlane extends FighterPlane {
      * Initializes the move pattern and shield image.
      */
     public BossPlane() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor for BossPlane drawing its moves, fire and shield decisions from a given generator.
+     *
+     * @param random the generator deciding how the boss moves, fires and shields
+     */
+    public BossPlane(RandomGenerator random) {
         super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+        this.random = random;
         movePattern = new ArrayList<>();
         consecutiveMovesInSameDirection = 0;
         indexOfCurrentMove = 0;
@@ -49,6 +61,7 @@ public class BossPlane extends FighterPlane {
         initializeMovePattern();
         bossShieldImage = new BossShieldImage(0, 0); // Position will be updated later
         bossShieldImage.setVisible(false); // Initially hidden
+        bossShieldImage.getTransforms().add(getRenderOffset()); // Shield is drawn with the boss
     }
 
     /**
@@ -101,7 +114,7 @@ public class BossPlane extends FighterPlane {
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+        return bossFiresInCurrentFrame() ? getProjectilePools().acquireBossProjectile(getProjectileInitialPosition()) : null;
     }
 
     /**
@@ -122,8 +135,8 @@ public class BossPlane extends FighterPlane {
     private void updateShieldPosition() {
         double bossX = getLayoutX() + getTranslateX();
         double bossY = getLayoutY() + getTranslateY();
-        bossShieldImage.setLayoutX(bossX - (bossShieldImage.getFitWidth() - getBoundsInParent().getWidth()) / 2);
-        bossShieldImage.setLayoutY(bossY - (bossShieldImage.getFitHeight() - getBoundsInParent().getHeight()) / 2);
+        bossShieldImage.setLayoutX(bossX - (bossShieldImage.getFitWidth() - getWorldWidth()) / 2);
+        bossShieldImage.setLayoutY(bossY - (bossShieldImage.getFitHeight() - getWorldHeight()) / 2);
     }
 
     /**
@@ -136,7 +149,7 @@ public class BossPlane extends FighterPlane {
             movePattern.add(-VERTICAL_VELOCITY);
             movePattern.add(ZERO);
         }
-        Collections.shuffle(movePattern);
+        RandomService.shuffle(movePattern, random);
     }
 
     /**
@@ -159,7 +172,7 @@ public class BossPlane extends FighterPlane {
         int currentMove = movePattern.get(indexOfCurrentMove);
         consecutiveMovesInSameDirection++;
         if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-            Collections.shuffle(movePattern);
+            RandomService.shuffle(movePattern, random);
             consecutiveMovesInSameDirection = 0;
             indexOfCurrentMove++;
         }
@@ -175,7 +188,7 @@ public class BossPlane extends FighterPlane {
      * @return true if the plane fires, false otherwise
      */
     private boolean bossFiresInCurrentFrame() {
-        return Math.random() < BOSS_FIRE_RATE;
+        return random.nextDouble() < BOSS_FIRE_RATE;
     }
 
     /**
@@ -193,7 +206,7 @@ public class BossPlane extends FighterPlane {
      * @return true if the shield should be activated, false otherwise
      */
     private boolean shieldShouldBeActivated() {
-        return Math.random() < BOSS_SHIELD_PROBABILITY;
+        return random.nextDouble() < BOSS_SHIELD_PROBABILITY;
     }
 
     /**
@@ -1,7 +1,9 @@
 package com.example.demo.plane;
 
 import com.example.demo.ActiveActorDestructible;
-import com.example.demo.projectile.EnemyProjectile;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Class representing an enemy plane in the game.
@@ -9,12 +11,13 @@ import com.example.demo.projectile.EnemyProjectile;
  */
 public class EnemyPlane extends FighterPlane {
 
-    private static final String IMAGE_NAME = "enemyplane.png";
-    private static final int IMAGE_HEIGHT = 50;
+    public static final String IMAGE_NAME = "enemyplane.png";
+    public static final int IMAGE_HEIGHT = 50;
     private static final int HORIZONTAL_VELOCITY = -6;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 5.0;
     private static final int INITIAL_HEALTH = 1;
     private static final double FIRE_RATE = .01;
+    private final RandomGenerator random;
 
     /**
      * Constructor for EnemyPlane.
@@ -23,7 +26,19 @@ public class EnemyPlane extends FighterPlane {
      * @param initialYPos the initial Y position of the enemy plane
      */
     public EnemyPlane(double initialXPos, double initialYPos) {
+        this(initialXPos, initialYPos, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for EnemyPlane drawing its fire decisions from a given generator.
+     *
+     * @param initialXPos the initial X position of the enemy plane
+     * @param initialYPos the initial Y position of the enemy plane
+     * @param random      the generator deciding when the plane fires
+     */
+    public EnemyPlane(double initialXPos, double initialYPos, RandomGenerator random) {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+        this.random = random;
     }
 
     /**
@@ -43,10 +58,10 @@ public class EnemyPlane extends FighterPlane {
     @Override
     public ActiveActorDestructible fireProjectile() {
         // Determine if the enemy fires a projectile based on FIRE_RATE
-        if (Math.random() < FIRE_RATE) {
+        if (random.nextDouble() < FIRE_RATE) {
             double projectileXPosition = getProjectileXPosition();
             double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-            return new EnemyProjectile(projectileXPosition, projectileYPosition);
+            return getProjectilePools().acquireEnemyProjectile(projectileXPosition, projectileYPosition);
         }
         return null;
     }
@@ -1,7 +1,7 @@
 package com.example.demo.plane;
 
 import com.example.demo.ActiveActorDestructible;
-import javafx.geometry.Bounds;
+import com.example.demo.projectile.ProjectilePools;
 
 /**
  * Abstract class representing a fighter plane in the game.
@@ -10,6 +10,7 @@ import javafx.geometry.Bounds;
 public abstract class FighterPlane extends ActiveActorDestructible {
 
     private int health;
+    private ProjectilePools projectilePools;
 
     /**
      * Constructor for FighterPlane.
@@ -25,6 +26,29 @@ public abstract class FighterPlane extends ActiveActorDestructible {
         this.health = health;
     }
 
+    /**
+     * Sets the pools the plane takes its projectiles from.
+     * The level the plane joins hands it the level's own pools.
+     *
+     * @param projectilePools the projectile pools of the level
+     */
+    public void setProjectilePools(ProjectilePools projectilePools) {
+        this.projectilePools = projectilePools;
+    }
+
+    /**
+     * Gets the pools the plane takes its projectiles from.
+     * A plane that has not joined a level gets pools of its own.
+     *
+     * @return the projectile pools
+     */
+    protected ProjectilePools getProjectilePools() {
+        if (projectilePools == null) {
+            projectilePools = new ProjectilePools();
+        }
+        return projectilePools;
+    }
+
     /**
      * Abstract method to fire a projectile.
      *
@@ -50,8 +74,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the X position for the projectile
      */
     protected double getProjectileXPosition() {
-        Bounds bounds = localToScene(getBoundsInLocal());
-        return bounds.getMinX();
+        return getWorldMinX();
     }
 
     /**
@@ -61,8 +84,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the Y position for the projectile
      */
     protected double getProjectileYPosition(double yPositionOffset) {
-        Bounds bounds = localToScene(getBoundsInLocal());
-        return bounds.getMinY() + bounds.getHeight() / 2 + yPositionOffset;
+        return getWorldMinY() + getWorldHeight() / 2 + yPositionOffset;
     }
 
     /**
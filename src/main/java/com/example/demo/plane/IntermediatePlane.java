@@ -1,7 +1,9 @@
 package com.example.demo.plane;
 
 import com.example.demo.ActiveActorDestructible;
-import com.example.demo.projectile.EnemyProjectile;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Class representing an intermediate plane in the game.
@@ -9,12 +11,13 @@ import com.example.demo.projectile.EnemyProjectile;
  */
 public class IntermediatePlane extends FighterPlane {
 
-    private static final String IMAGE_NAME = "intermediateplane.png";
-    private static final int IMAGE_HEIGHT = 150;
+    public static final String IMAGE_NAME = "intermediateplane.png";
+    public static final int IMAGE_HEIGHT = 150;
     private static final int HORIZONTAL_VELOCITY = -5;
     private static final double PROJECTILE_Y_POSITION_OFFSET = 5.0;
     private static final int INITIAL_HEALTH = 3;
     private static final double FIRE_RATE = 0.01;
+    private final RandomGenerator random;
     private int health = INITIAL_HEALTH;
 
     /**
@@ -24,7 +27,19 @@ public class IntermediatePlane extends FighterPlane {
      * @param initialYPos the initial Y position of the intermediate plane
      */
     public IntermediatePlane(double initialXPos, double initialYPos) {
+        this(initialXPos, initialYPos, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for IntermediatePlane drawing its fire decisions from a given generator.
+     *
+     * @param initialXPos the initial X position of the intermediate plane
+     * @param initialYPos the initial Y position of the intermediate plane
+     * @param random      the generator deciding when the plane fires
+     */
+    public IntermediatePlane(double initialXPos, double initialYPos, RandomGenerator random) {
         super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+        this.random = random;
     }
 
     /**
@@ -43,10 +58,10 @@ public class IntermediatePlane extends FighterPlane {
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        if (Math.random() < FIRE_RATE) {
+        if (random.nextDouble() < FIRE_RATE) {
             double projectileXPosition = getProjectileXPosition();
             double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-            return new EnemyProjectile(projectileXPosition, projectileYPosition);
+            return getProjectilePools().acquireEnemyProjectile(projectileXPosition, projectileYPosition);
         }
         return null;
     }
@@ -2,8 +2,6 @@ package com.example.demo.plane;
 
 import com.example.demo.ActiveActorDestructible;
 import com.example.demo.shield.UserShieldImage;
-import com.example.demo.projectile.UserProjectile;
-import javafx.geometry.Bounds;
 
 /**
  * Class representing the user's plane in the game.
@@ -16,7 +14,7 @@ public class UserPlane extends FighterPlane {
     private static final double Y_LOWER_BOUND = 675.0;
     private static final double INITIAL_X_POSITION = 5.0;
     private static final double INITIAL_Y_POSITION = 300.0;
-    private static final int IMAGE_HEIGHT = 40;
+    public static final int IMAGE_HEIGHT = 40;
     private static final int VERTICAL_VELOCITY = 8;
     private static final int PROJECTILE_X_POSITION = 110;
     private static final int PROJECTILE_Y_POSITION_OFFSET = 20;
@@ -44,6 +42,7 @@ public class UserPlane extends FighterPlane {
         isShielded = false;
         userShieldImage = new UserShieldImage(0, 0); // Position will be updated later
         userShieldImage.setVisible(false); // Initially hidden
+        userShieldImage.getTransforms().add(getRenderOffset()); // Shield is drawn with the plane
     }
 
     /**
@@ -127,19 +126,14 @@ public class UserPlane extends FighterPlane {
      * Updates the shield position to match the user's plane position.
      */
     private void updateShieldPosition() {
-        // Get the current bounds of the UserPlane in the parent coordinate space
-        Bounds bounds = getBoundsInParent();
-
-        // Calculate the center position
-        double centerX = bounds.getMinX() + bounds.getWidth() / 2;
-        double centerY = bounds.getMinY() + bounds.getHeight() / 2;
+        // Calculate the center position from the plane's world-space bounds
+        double centerX = getWorldMinX() + getWorldWidth() / 2;
+        double centerY = getWorldMinY() + getWorldHeight() / 2;
 
         // Position the shield so that its center aligns with the UserPlane's center
         userShieldImage.setLayoutX(centerX - userShieldImage.getFitWidth() / 2);
         userShieldImage.setLayoutY(centerY - userShieldImage.getFitHeight() / 2);
-
-        // Ensure the shield is rendered above the UserPlane
-        userShieldImage.toFront();
+        // The shield is drawn above the plane by being in the shields layer, so it is never reordered here
     }
 
     /**
@@ -169,7 +163,7 @@ public class UserPlane extends FighterPlane {
     public ActiveActorDestructible fireProjectile() {
         double projectileX = getLayoutX() + PROJECTILE_X_POSITION; // X offset
         double projectileY = getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET; // Y offset
-        return new UserProjectile(projectileX, projectileY);
+        return getProjectilePools().acquireUserProjectile(projectileX, projectileY);
     }
 
     /**
@@ -6,10 +6,10 @@ package com.example.demo.projectile;
  */
 public class AllyProjectile extends Projectile {
 
-    private static final String IMAGE_NAME = "allyfire.png"; // Changed to ally's fire image
-    private static final int IMAGE_HEIGHT = 10;
+    public static final String IMAGE_NAME = "allyfire.png"; // Changed to ally's fire image
+    public static final int IMAGE_HEIGHT = 10;
     private static final int HORIZONTAL_VELOCITY = 15;
-    private static final int INITIAL_X_POSITION = 180;
+    public static final int INITIAL_X_POSITION = 180;
 
     /**
      * Constructor for AllyProjectile.
@@ -39,6 +39,16 @@ public class AllyProjectile extends Projectile {
         updatePosition();
     }
 
+    /**
+     * Gets the horizontal distance the projectile travels per tick.
+     *
+     * @return the horizontal velocity
+     */
+    @Override
+    public double getVelocityX() {
+        return HORIZONTAL_VELOCITY;
+    }
+
     /**
      * Takes damage and marks the projectile as destroyed.
      */
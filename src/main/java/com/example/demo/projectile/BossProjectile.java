@@ -6,10 +6,10 @@ package com.example.demo.projectile;
  */
 public class BossProjectile extends Projectile {
 
-    private static final String IMAGE_NAME = "fireball.png";
-    private static final int IMAGE_HEIGHT = 35;
+    public static final String IMAGE_NAME = "fireball.png";
+    public static final int IMAGE_HEIGHT = 35;
     private static final int HORIZONTAL_VELOCITY = -15;
-    private static final int INITIAL_X_POSITION = 950;
+    public static final int INITIAL_X_POSITION = 950;
 
     /**
      * Constructor for BossProjectile.
@@ -38,6 +38,16 @@ public class BossProjectile extends Projectile {
         updatePosition();
     }
 
+    /**
+     * Gets the horizontal distance the projectile travels per tick.
+     *
+     * @return the horizontal velocity
+     */
+    @Override
+    public double getVelocityX() {
+        return HORIZONTAL_VELOCITY;
+    }
+
     /**
      * Moves the actor horizontally by the specified velocity.
      * @param velocity the amount to move the actor horizontally
@@ -8,6 +8,10 @@ import com.example.demo.ActiveActorDestructible;
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+    private boolean pooled;
+    private ProjectileStore store;
+    private int storeSlot = -1;
+
     /**
      * Constructor for Projectile.
      *
@@ -20,6 +24,86 @@ public abstract class Projectile extends ActiveActorDestructible {
         super(imageName, imageHeight, initialXPos, initialYPos);
     }
 
+    /**
+     * Resets the projectile so it can be fired again from the given position.
+     * Clears the destroyed state, the cause of destruction, any accumulated translation
+     * and the interpolation state left over from its previous flight.
+     *
+     * @param xPosition the X position to fire from
+     * @param yPosition the Y position to fire from
+     */
+    public void reset(double xPosition, double yPosition) {
+        revive();
+        setLayoutX(xPosition);
+        setLayoutY(yPosition);
+        setTranslateX(0);
+        setTranslateY(0);
+        capturePreviousPosition();
+    }
+
+    /**
+     * Checks if the projectile is currently idle in a pool.
+     *
+     * @return true if the projectile is waiting in a pool, false if it is in play
+     */
+    boolean isPooled() {
+        return pooled;
+    }
+
+    /**
+     * Marks the projectile as idle in a pool or in play.
+     *
+     * @param pooled true when the projectile is returned to a pool
+     */
+    void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    /**
+     * Gets the store simulating this projectile.
+     *
+     * @return the store, or null if the projectile moves itself
+     */
+    ProjectileStore getStore() {
+        return store;
+    }
+
+    /**
+     * Gets the entry of this projectile in its store.
+     *
+     * @return the entry index, or -1 if the projectile is not stored
+     */
+    int getStoreSlot() {
+        return storeSlot;
+    }
+
+    /**
+     * Records which store entry simulates this projectile.
+     *
+     * @param store the store, or null when the projectile leaves its store
+     * @param slot  the entry index, or -1 when the projectile leaves its store
+     */
+    void attachToStore(ProjectileStore store, int slot) {
+        this.store = store;
+        this.storeSlot = slot;
+    }
+
+    /**
+     * Gets the horizontal distance the projectile travels per tick.
+     *
+     * @return the horizontal velocity
+     */
+    public abstract double getVelocityX();
+
+    /**
+     * Gets the vertical distance the projectile travels per tick.
+     *
+     * @return the vertical velocity, 0 unless overridden
+     */
+    public double getVelocityY() {
+        return 0;
+    }
+
     /**
      * Takes damage and marks the projectile as destroyed.
      */
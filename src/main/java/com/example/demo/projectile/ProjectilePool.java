@@ -0,0 +1,141 @@
+package com.example.demo.projectile;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+/**
+ * Pool of reusable projectiles of a single type.
+ * Projectiles are acquired when fired and released once they have left the scene,
+ * so firing in steady state reuses existing instances instead of allocating new ones.
+ *
+ * @param <T> the type of projectile held by the pool
+ */
+public class ProjectilePool<T extends Projectile> {
+
+    private final Supplier<T> factory;
+    private final Deque<T> idleProjectiles = new ArrayDeque<>();
+    private final int maxIdle;
+
+    private int createdCount;
+    private int acquiredCount;
+    private int releasedCount;
+    private int inUseCount;
+    private int peakInUseCount;
+
+    /**
+     * Constructor for ProjectilePool.
+     *
+     * @param factory creates a new projectile when the pool is empty
+     * @param maxIdle the maximum number of idle projectiles kept for reuse
+     */
+    public ProjectilePool(Supplier<T> factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Takes a projectile from the pool, creating one only if none is idle,
+     * and resets it to the given position.
+     *
+     * @param xPosition the X position to fire from
+     * @param yPosition the Y position to fire from
+     * @return a live projectile ready to be added to the scene
+     */
+    public T acquire(double xPosition, double yPosition) {
+        T projectile = idleProjectiles.pollFirst();
+        if (projectile == null) {
+            projectile = factory.get();
+            createdCount++;
+        }
+        projectile.setPooled(false);
+        projectile.reset(xPosition, yPosition);
+        acquiredCount++;
+        inUseCount++;
+        peakInUseCount = Math.max(peakInUseCount, inUseCount);
+        return projectile;
+    }
+
+    /**
+     * Returns a projectile to the pool once it is no longer in the scene or in any actor list.
+     * Releasing a projectile that is already idle has no effect.
+     *
+     * @param projectile the projectile to return
+     */
+    public void release(T projectile) {
+        if (projectile.isPooled()) {
+            return;
+        }
+        projectile.setPooled(true);
+        releasedCount++;
+        inUseCount = Math.max(0, inUseCount - 1);
+        if (idleProjectiles.size() < maxIdle) {
+            idleProjectiles.addFirst(projectile);
+        }
+    }
+
+    /**
+     * Gets the number of projectiles this pool has ever created.
+     *
+     * @return the created count
+     */
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Gets the number of times a projectile has been acquired.
+     *
+     * @return the acquired count
+     */
+    public int getAcquiredCount() {
+        return acquiredCount;
+    }
+
+    /**
+     * Gets the number of times a projectile has been released.
+     *
+     * @return the released count
+     */
+    public int getReleasedCount() {
+        return releasedCount;
+    }
+
+    /**
+     * Gets the number of idle projectiles waiting to be reused.
+     *
+     * @return the idle count
+     */
+    public int getIdleCount() {
+        return idleProjectiles.size();
+    }
+
+    /**
+     * Gets the number of projectiles currently in play.
+     *
+     * @return the in-use count
+     */
+    public int getInUseCount() {
+        return inUseCount;
+    }
+
+    /**
+     * Gets the highest number of projectiles that were in play at the same time.
+     *
+     * @return the peak in-use count
+     */
+    public int getPeakInUseCount() {
+        return peakInUseCount;
+    }
+
+    /**
+     * Summarises the pool size metrics on a single line.
+     *
+     * @return the pool metrics
+     */
+    @Override
+    public String toString() {
+        return "created=" + createdCount + ", idle=" + idleProjectiles.size() + ", inUse=" + inUseCount
+                + ", peakInUse=" + peakInUseCount + ", acquired=" + acquiredCount + ", released=" + releasedCount;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.demo.projectile;
+
+/**
+ * Holds one projectile pool per projectile type.
+ * Planes acquire their projectiles here and the level releases them once they leave the scene.
+ * Each level owns its own pools and only uses them from the thread that runs its simulation,
+ * so the pools need no locking and are dropped together with the level.
+ */
+public class ProjectilePools {
+
+    private static final int MAX_IDLE_PER_TYPE = 256;
+
+    private final ProjectilePool<UserProjectile> userProjectilePool =
+            new ProjectilePool<>(() -> new UserProjectile(0, 0), MAX_IDLE_PER_TYPE);
+    private final ProjectilePool<EnemyProjectile> enemyProjectilePool =
+            new ProjectilePool<>(() -> new EnemyProjectile(0, 0), MAX_IDLE_PER_TYPE);
+    private final ProjectilePool<BossProjectile> bossProjectilePool =
+            new ProjectilePool<>(() -> new BossProjectile(0), MAX_IDLE_PER_TYPE);
+    private final ProjectilePool<AllyProjectile> allyProjectilePool =
+            new ProjectilePool<>(() -> new AllyProjectile(0), MAX_IDLE_PER_TYPE);
+
+    /**
+     * Constructs an empty set of projectile pools.
+     */
+    public ProjectilePools() {
+    }
+
+    /**
+     * Acquires a user projectile at the given position.
+     *
+     * @param xPosition the X position to fire from
+     * @param yPosition the Y position to fire from
+     * @return a live user projectile
+     */
+    public UserProjectile acquireUserProjectile(double xPosition, double yPosition) {
+        return userProjectilePool.acquire(xPosition, yPosition);
+    }
+
+    /**
+     * Acquires an enemy projectile at the given position.
+     *
+     * @param xPosition the X position to fire from
+     * @param yPosition the Y position to fire from
+     * @return a live enemy projectile
+     */
+    public EnemyProjectile acquireEnemyProjectile(double xPosition, double yPosition) {
+        return enemyProjectilePool.acquire(xPosition, yPosition);
+    }
+
+    /**
+     * Acquires a boss projectile at the boss firing column.
+     *
+     * @param yPosition the Y position to fire from
+     * @return a live boss projectile
+     */
+    public BossProjectile acquireBossProjectile(double yPosition) {
+        return bossProjectilePool.acquire(BossProjectile.INITIAL_X_POSITION, yPosition);
+    }
+
+    /**
+     * Acquires an ally projectile at the ally firing column.
+     *
+     * @param yPosition the Y position to fire from
+     * @return a live ally projectile
+     */
+    public AllyProjectile acquireAllyProjectile(double yPosition) {
+        return allyProjectilePool.acquire(AllyProjectile.INITIAL_X_POSITION, yPosition);
+    }
+
+    /**
+     * Returns a projectile to the pool of its type.
+     * The projectile must already be removed from the scene and from every actor list.
+     *
+     * @param projectile the projectile to return
+     */
+    public void release(Projectile projectile) {
+        if (projectile instanceof UserProjectile userProjectile) {
+            userProjectilePool.release(userProjectile);
+        } else if (projectile instanceof EnemyProjectile enemyProjectile) {
+            enemyProjectilePool.release(enemyProjectile);
+        } else if (projectile instanceof BossProjectile bossProjectile) {
+            bossProjectilePool.release(bossProjectile);
+        } else if (projectile instanceof AllyProjectile allyProjectile) {
+            allyProjectilePool.release(allyProjectile);
+        }
+    }
+
+    /**
+     * Gets the pool of user projectiles.
+     *
+     * @return the user projectile pool
+     */
+    public ProjectilePool<UserProjectile> getUserProjectilePool() {
+        return userProjectilePool;
+    }
+
+    /**
+     * Gets the pool of enemy projectiles.
+     *
+     * @return the enemy projectile pool
+     */
+    public ProjectilePool<EnemyProjectile> getEnemyProjectilePool() {
+        return enemyProjectilePool;
+    }
+
+    /**
+     * Gets the pool of boss projectiles.
+     *
+     * @return the boss projectile pool
+     */
+    public ProjectilePool<BossProjectile> getBossProjectilePool() {
+        return bossProjectilePool;
+    }
+
+    /**
+     * Gets the pool of ally projectiles.
+     *
+     * @return the ally projectile pool
+     */
+    public ProjectilePool<AllyProjectile> getAllyProjectilePool() {
+        return allyProjectilePool;
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.demo.projectile;
+
+import com.example.demo.ActiveActorDestructible;
+import javafx.geometry.Bounds;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays simulation state for every projectile in play.
+ * Positions, velocities and sizes live in primitive arrays and are advanced in one loop per tick,
+ * without touching the projectiles' JavaFX properties. The nodes are only moved when a frame is rendered,
+ * and collision checks read projectile bounds from here instead of from the scene graph.
+ * Projectiles that are destroyed or returned to their pool are dropped at the start of the next tick.
+ */
+public class ProjectileStore {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Projectile[] projectiles = new Projectile[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] velocityX = new double[INITIAL_CAPACITY];
+    private double[] velocityY = new double[INITIAL_CAPACITY];
+    private double[] offsetX = new double[INITIAL_CAPACITY];
+    private double[] offsetY = new double[INITIAL_CAPACITY];
+    private double[] width = new double[INITIAL_CAPACITY];
+    private double[] height = new double[INITIAL_CAPACITY];
+    private boolean[] alive = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Starts simulating a projectile from its current position.
+     * Adding a projectile that is already stored here resets its entry.
+     *
+     * @param projectile the projectile to add
+     */
+    public void add(Projectile projectile) {
+        int slot = slotOf(projectile);
+        if (slot < 0) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            projectiles[slot] = projectile;
+            projectile.attachToStore(this, slot);
+        }
+        Bounds local = projectile.getBoundsInLocal();
+        x[slot] = projectile.getLayoutX() + projectile.getTranslateX();
+        y[slot] = projectile.getLayoutY() + projectile.getTranslateY();
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+        velocityX[slot] = projectile.getVelocityX();
+        velocityY[slot] = projectile.getVelocityY();
+        offsetX[slot] = local.getMinX();
+        offsetY[slot] = local.getMinY();
+        width[slot] = local.getWidth();
+        height[slot] = local.getHeight();
+        alive[slot] = true;
+    }
+
+    /**
+     * Advances every projectile by one tick.
+     * Entries whose projectile was destroyed, pooled or moved to another store are dropped first.
+     */
+    public void advance() {
+        compact();
+        for (int i = 0; i < size; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            x[i] += velocityX[i];
+            y[i] += velocityY[i];
+        }
+    }
+
+    /**
+     * Moves the projectile nodes part-way between their previous and current simulated positions.
+     * Called once per rendered frame.
+     *
+     * @param alpha how far the display is between the previous tick (0) and the current tick (1)
+     */
+    public void render(double alpha) {
+        for (int i = 0; i < size; i++) {
+            Projectile projectile = projectiles[i];
+            if (!alive[i] || projectile.isDestroyed()) {
+                continue;
+            }
+            projectile.setLayoutX(previousX[i] + (x[i] - previousX[i]) * alpha - projectile.getTranslateX());
+            projectile.setLayoutY(previousY[i] + (y[i] - previousY[i]) * alpha - projectile.getTranslateY());
+        }
+    }
+
+    /**
+     * Returns the entry of an actor in this store.
+     *
+     * @param actor the actor to look up
+     * @return the entry index, or -1 if the actor is not a projectile stored here
+     */
+    public int slotOf(ActiveActorDestructible actor) {
+        if (actor instanceof Projectile projectile && projectile.getStore() == this) {
+            return projectile.getStoreSlot();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the left edge of an entry's bounds.
+     *
+     * @param slot the entry index
+     * @return the minimum X
+     */
+    public double getMinX(int slot) {
+        return x[slot] + offsetX[slot];
+    }
+
+    /**
+     * Returns the top edge of an entry's bounds.
+     *
+     * @param slot the entry index
+     * @return the minimum Y
+     */
+    public double getMinY(int slot) {
+        return y[slot] + offsetY[slot];
+    }
+
+    /**
+     * Returns the right edge of an entry's bounds.
+     *
+     * @param slot the entry index
+     * @return the maximum X
+     */
+    public double getMaxX(int slot) {
+        return getMinX(slot) + width[slot];
+    }
+
+    /**
+     * Returns the bottom edge of an entry's bounds.
+     *
+     * @param slot the entry index
+     * @return the maximum Y
+     */
+    public double getMaxY(int slot) {
+        return getMinY(slot) + height[slot];
+    }
+
+    /**
+     * Returns how far an entry moved horizontally during the last tick.
+     *
+     * @param slot the entry index
+     * @return the horizontal displacement
+     */
+    public double getDisplacementX(int slot) {
+        return x[slot] - previousX[slot];
+    }
+
+    /**
+     * Returns how far an entry moved vertically during the last tick.
+     *
+     * @param slot the entry index
+     * @return the vertical displacement
+     */
+    public double getDisplacementY(int slot) {
+        return y[slot] - previousY[slot];
+    }
+
+    /**
+     * Returns the number of stored projectiles, including ones dropped at the next tick.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes dead entries by moving the last entry into each gap.
+     */
+    private void compact() {
+        int i = 0;
+        while (i < size) {
+            Projectile projectile = projectiles[i];
+            alive[i] = projectile.getStore() == this && projectile.getStoreSlot() == i
+                    && !projectile.isDestroyed() && !projectile.isPooled();
+            if (alive[i]) {
+                i++;
+                continue;
+            }
+            if (projectile.getStore() == this) {
+                projectile.attachToStore(null, -1);
+            }
+            int last = --size;
+            if (i != last) {
+                move(last, i);
+            }
+            projectiles[last] = null;
+        }
+    }
+
+    /**
+     * Copies an entry to another index and points its projectile at the new index.
+     *
+     * @param from the entry to move
+     * @param to   the index to move it to
+     */
+    private void move(int from, int to) {
+        projectiles[to] = projectiles[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        previousX[to] = previousX[from];
+        previousY[to] = previousY[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        offsetX[to] = offsetX[from];
+        offsetY[to] = offsetY[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        alive[to] = alive[from];
+        if (projectiles[to].getStore() == this) {
+            projectiles[to].attachToStore(this, to);
+        }
+    }
+
+    /**
+     * Grows the arrays so they can hold the given number of entries.
+     *
+     * @param capacity the required capacity
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= projectiles.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, projectiles.length * 2);
+        projectiles = Arrays.copyOf(projectiles, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        previousX = Arrays.copyOf(previousX, newCapacity);
+        previousY = Arrays.copyOf(previousY, newCapacity);
+        velocityX = Arrays.copyOf(velocityX, newCapacity);
+        velocityY = Arrays.copyOf(velocityY, newCapacity);
+        offsetX = Arrays.copyOf(offsetX, newCapacity);
+        offsetY = Arrays.copyOf(offsetY, newCapacity);
+        width = Arrays.copyOf(width, newCapacity);
+        height = Arrays.copyOf(height, newCapacity);
+        alive = Arrays.copyOf(alive, newCapacity);
+    }
+}
@@ -6,8 +6,8 @@ package com.example.demo.projectile;
  */
 public class UserProjectile extends Projectile {
 
-    private static final String IMAGE_NAME = "userfire.png";
-    private static final int IMAGE_HEIGHT = 15;
+    public static final String IMAGE_NAME = "userfire.png";
+    public static final int IMAGE_HEIGHT = 15;
     private static final int HORIZONTAL_VELOCITY = 15;
 
     /**
@@ -38,6 +38,16 @@ public class UserProjectile extends Projectile {
         updatePosition();
     }
 
+    /**
+     * Gets the horizontal distance the projectile travels per tick.
+     *
+     * @return the horizontal velocity
+     */
+    @Override
+    public double getVelocityX() {
+        return HORIZONTAL_VELOCITY;
+    }
+
     /**
      * Takes damage and marks the projectile as destroyed.
      */
@@ -0,0 +1,157 @@
+package com.example.demo.renderer;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Renderer that draws every actor onto a single canvas each frame.
+ * Actor nodes are never added to the scene graph, so spawning and removing actors
+ * costs no scene graph changes, and only one node has to be drawn however many actors there are.
+ * Each actor is drawn with the image it already shares through the image cache,
+ * at the position and size of its bounds, layer by layer and in the order actors were added.
+ */
+public class CanvasRenderer implements Renderer {
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final List<Set<Node>> layers;
+
+    /**
+     * Constructs a new CanvasRenderer and adds its canvas to the root group.
+     *
+     * @param root   the root group of the level's scene
+     * @param width  the width of the screen
+     * @param height the height of the screen
+     */
+    public CanvasRenderer(Group root, double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.canvas.setMouseTransparent(true);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.layers = new ArrayList<>(RenderLayer.values().length);
+        for (int i = 0; i < RenderLayer.values().length; i++) {
+            layers.add(new LinkedHashSet<>());
+        }
+        root.getChildren().add(canvas);
+    }
+
+    @Override
+    public void add(Node node, RenderLayer layer) {
+        layers.get(layer.ordinal()).add(node);
+    }
+
+    @Override
+    public void remove(Node node) {
+        for (Set<Node> layer : layers) {
+            if (layer.remove(node)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<? extends Node> nodes) {
+        for (Node node : nodes) {
+            remove(node);
+        }
+    }
+
+    @Override
+    public boolean contains(Node node) {
+        for (Set<Node> layer : layers) {
+            if (layer.contains(node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void render() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        drawLayers();
+    }
+
+    /**
+     * Draws every node, layer by layer and in the order they were added.
+     */
+    protected void drawLayers() {
+        for (Set<Node> layer : layers) {
+            for (Node node : layer) {
+                draw(node, 0, 0);
+            }
+        }
+    }
+
+    /**
+     * Draws a node, or the image views inside a group, offset by the position of its parents.
+     *
+     * @param node    the node to draw
+     * @param offsetX the X position of the node's parent
+     * @param offsetY the Y position of the node's parent
+     */
+    private void draw(Node node, double offsetX, double offsetY) {
+        if (!node.isVisible()) {
+            return;
+        }
+        if (node instanceof ImageView imageView) {
+            if (imageView.getImage() == null) {
+                return;
+            }
+            Bounds bounds = imageView.getBoundsInParent();
+            drawImage(imageView.getImage(), offsetX + bounds.getMinX(), offsetY + bounds.getMinY(),
+                    bounds.getWidth(), bounds.getHeight(), imageView.getOpacity());
+        } else if (node instanceof Parent parent) {
+            double childOffsetX = offsetX + parent.getLayoutX() + parent.getTranslateX();
+            double childOffsetY = offsetY + parent.getLayoutY() + parent.getTranslateY();
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                draw(child, childOffsetX, childOffsetY);
+            }
+        }
+    }
+
+    /**
+     * Draws one image onto the canvas.
+     *
+     * @param image   the image to draw
+     * @param x       the X position of its left edge
+     * @param y       the Y position of its top edge
+     * @param width   the width to draw it at
+     * @param height  the height to draw it at
+     * @param opacity the opacity to draw it with
+     */
+    protected void drawImage(Image image, double x, double y, double width, double height, double opacity) {
+        graphics.setGlobalAlpha(opacity);
+        graphics.drawImage(image, x, y, width, height);
+        graphics.setGlobalAlpha(1);
+    }
+
+    /**
+     * Returns the graphics context of the canvas.
+     *
+     * @return the graphics context
+     */
+    protected GraphicsContext getGraphics() {
+        return graphics;
+    }
+
+    /**
+     * Returns the canvas actors are drawn onto.
+     *
+     * @return the canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.renderer;
+
+/**
+ * Draw order of actors, from back to front.
+ * Enemy planes are drawn under projectiles, and the user's side and shields over both.
+ */
+public enum RenderLayer {
+    PLANES, PROJECTILES, PLAYER, SHIELDS
+}
@@ -0,0 +1,94 @@
+package com.example.demo.renderer;
+
+import javafx.scene.Group;
+
+import java.util.Map;
+
+/**
+ * The ways actors can be drawn during a level.
+ */
+public enum RenderMode {
+    /**
+     * Every actor is its own node in the scene graph.
+     */
+    SCENE_GRAPH("Scene Graph"),
+
+    /**
+     * Every actor is drawn onto one shared canvas each frame.
+     */
+    CANVAS("Canvas"),
+
+    /**
+     * The simulation runs on its own thread and every frame is drawn onto one shared canvas
+     * from a snapshot, so slow ticks and JavaFX layout passes no longer hold each other up.
+     */
+    THREADED_CANVAS("Threaded");
+
+    private final String displayName;
+
+    RenderMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the name shown in the settings page.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Creates the renderer for this mode.
+     *
+     * @param root   the root group of the level's scene
+     * @param width  the width of the screen
+     * @param height the height of the screen
+     * @return a new renderer
+     */
+    public Renderer createRenderer(Group root, double width, double height) {
+        return switch (this) {
+            case SCENE_GRAPH -> new SceneGraphRenderer(root);
+            case CANVAS -> new CanvasRenderer(root, width, height);
+            case THREADED_CANVAS -> new SnapshotRenderer(root, width, height);
+        };
+    }
+
+    /**
+     * Creates the renderer for this mode, for a scene with a group per layer.
+     * Canvas renderers add their canvas to the back layer's group and draw every layer onto it.
+     *
+     * @param layers the group each layer's actors are added to
+     * @param width  the width of the screen
+     * @param height the height of the screen
+     * @return a new renderer
+     */
+    public Renderer createRenderer(Map<RenderLayer, Group> layers, double width, double height) {
+        Group backLayer = layers.get(RenderLayer.values()[0]);
+        return switch (this) {
+            case SCENE_GRAPH -> new SceneGraphRenderer(layers);
+            case CANVAS -> new CanvasRenderer(backLayer, width, height);
+            case THREADED_CANVAS -> new SnapshotRenderer(backLayer, width, height);
+        };
+    }
+
+    /**
+     * Checks whether levels drawn in this mode run their simulation on a background thread.
+     *
+     * @return true if the simulation leaves the JavaFX Application Thread
+     */
+    public boolean isThreaded() {
+        return this == THREADED_CANVAS;
+    }
+
+    /**
+     * Returns the mode after this one, wrapping around, for cycling through the modes in the settings page.
+     *
+     * @return the next mode
+     */
+    public RenderMode next() {
+        RenderMode[] modes = values();
+        return modes[(ordinal() + 1) % modes.length];
+    }
+}
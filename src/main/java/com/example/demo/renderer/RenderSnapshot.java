@@ -0,0 +1,98 @@
+package com.example.demo.renderer;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.Arrays;
+
+/**
+ * The images of one frame and where to draw them, copied out of the actor nodes.
+ * A snapshot holds no reference to any node, so it can be drawn on the JavaFX Application Thread
+ * while the simulation keeps moving the actors on its own thread.
+ * Its arrays only grow, so a snapshot that is reused frame after frame stops allocating once it is large enough.
+ */
+final class RenderSnapshot {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int VALUES_PER_IMAGE = 5;
+
+    private Image[] images = new Image[INITIAL_CAPACITY];
+    // x, y, width, height and opacity of each image
+    private double[] values = new double[INITIAL_CAPACITY * VALUES_PER_IMAGE];
+    private int size;
+    private volatile long frame;
+
+    /**
+     * Empties the snapshot so the next frame can be recorded into it.
+     */
+    void clear() {
+        Arrays.fill(images, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Records one image to draw.
+     *
+     * @param image   the image to draw
+     * @param x       the X position of its left edge
+     * @param y       the Y position of its top edge
+     * @param width   the width to draw it at
+     * @param height  the height to draw it at
+     * @param opacity the opacity to draw it with
+     */
+    void add(Image image, double x, double y, double width, double height, double opacity) {
+        if (size == images.length) {
+            images = Arrays.copyOf(images, size * 2);
+            values = Arrays.copyOf(values, size * 2 * VALUES_PER_IMAGE);
+        }
+        int base = size * VALUES_PER_IMAGE;
+        images[size] = image;
+        values[base] = x;
+        values[base + 1] = y;
+        values[base + 2] = width;
+        values[base + 3] = height;
+        values[base + 4] = opacity;
+        size++;
+    }
+
+    /**
+     * Draws every recorded image in the order it was recorded.
+     *
+     * @param graphics the graphics context to draw onto
+     */
+    void draw(GraphicsContext graphics) {
+        for (int i = 0; i < size; i++) {
+            int base = i * VALUES_PER_IMAGE;
+            graphics.setGlobalAlpha(values[base + 4]);
+            graphics.drawImage(images[i], values[base], values[base + 1], values[base + 2], values[base + 3]);
+        }
+        graphics.setGlobalAlpha(1);
+    }
+
+    /**
+     * Returns the number of recorded images.
+     *
+     * @return the number of images
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of the frame recorded in this snapshot.
+     *
+     * @return the frame number, 0 if no frame was recorded yet
+     */
+    long getFrame() {
+        return frame;
+    }
+
+    /**
+     * Sets the number of the frame recorded in this snapshot.
+     *
+     * @param frame the frame number
+     */
+    void setFrame(long frame) {
+        this.frame = frame;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.renderer;
+
+import javafx.scene.Node;
+
+import java.util.Collection;
+
+/**
+ * Draws the actors of a level.
+ * Levels add and remove actor nodes through a renderer instead of touching the scene graph directly,
+ * so the way actors are drawn can be switched in the settings.
+ */
+public interface Renderer {
+
+    /**
+     * Starts drawing a node.
+     *
+     * @param node  the actor or shield to draw
+     * @param layer the layer to draw it on
+     */
+    void add(Node node, RenderLayer layer);
+
+    /**
+     * Stops drawing a node.
+     *
+     * @param node the node to remove
+     */
+    void remove(Node node);
+
+    /**
+     * Stops drawing several nodes at once.
+     *
+     * @param nodes the nodes to remove
+     */
+    void removeAll(Collection<? extends Node> nodes);
+
+    /**
+     * Checks if a node is being drawn.
+     *
+     * @param node the node to look for
+     * @return true if the node was added and not removed
+     */
+    boolean contains(Node node);
+
+    /**
+     * Draws the current frame. Called once per displayed frame, after actors have been moved.
+     */
+    void render();
+
+    /**
+     * Shows the last frame drawn by {@link #render()}. Called on the JavaFX Application Thread once per pulse.
+     * Renderers that draw directly in {@link #render()} have nothing left to do here.
+     */
+    default void present() {
+    }
+}
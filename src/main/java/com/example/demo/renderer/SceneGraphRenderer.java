@@ -0,0 +1,95 @@
+package com.example.demo.renderer;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renderer that keeps every actor as a node in the level's scene graph and lets JavaFX draw them.
+ * Each layer has its own group, so the draw order comes from the scene's structure,
+ * and adding or removing an actor only touches the children of its layer.
+ */
+public class SceneGraphRenderer implements Renderer {
+
+    private final Map<RenderLayer, Group> layers;
+    private final Set<Group> groups;
+    private final Set<Group> touched = new HashSet<>();
+
+    /**
+     * Constructs a new SceneGraphRenderer that adds every layer to the same group.
+     * Nodes are then drawn in the order they were added.
+     *
+     * @param root the root group of the level's scene
+     */
+    public SceneGraphRenderer(Group root) {
+        this(sameGroupForEveryLayer(root));
+    }
+
+    /**
+     * Constructs a new SceneGraphRenderer.
+     *
+     * @param layers the group each layer's nodes are added to
+     */
+    public SceneGraphRenderer(Map<RenderLayer, Group> layers) {
+        this.layers = new EnumMap<>(layers);
+        this.groups = new LinkedHashSet<>(layers.values());
+    }
+
+    /**
+     * Maps every layer to one group.
+     *
+     * @param root the group
+     * @return the layers
+     */
+    private static Map<RenderLayer, Group> sameGroupForEveryLayer(Group root) {
+        Map<RenderLayer, Group> layers = new EnumMap<>(RenderLayer.class);
+        for (RenderLayer layer : RenderLayer.values()) {
+            layers.put(layer, root);
+        }
+        return layers;
+    }
+
+    @Override
+    public void add(Node node, RenderLayer layer) {
+        layers.get(layer).getChildren().add(node);
+    }
+
+    @Override
+    public void remove(Node node) {
+        if (contains(node)) {
+            ((Group) node.getParent()).getChildren().remove(node);
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<? extends Node> nodes) {
+        // Only the layers the nodes are in are scanned, each once
+        for (Node node : nodes) {
+            if (contains(node)) {
+                touched.add((Group) node.getParent());
+            }
+        }
+        for (Group group : touched) {
+            group.getChildren().removeAll(nodes);
+        }
+        touched.clear();
+    }
+
+    @Override
+    public boolean contains(Node node) {
+        Parent parent = node.getParent();
+        return parent instanceof Group && groups.contains(parent);
+    }
+
+    @Override
+    public void render() {
+        // JavaFX draws the scene graph itself
+    }
+}
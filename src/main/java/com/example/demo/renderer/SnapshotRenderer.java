@@ -0,0 +1,87 @@
+package com.example.demo.renderer;
+
+import javafx.scene.Group;
+import javafx.scene.image.Image;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Canvas renderer for a simulation running on its own thread.
+ * {@link #render()} runs on the simulation thread and only records the frame into a {@link RenderSnapshot};
+ * {@link #present()} runs on the JavaFX Application Thread and draws the newest recorded frame onto the canvas.
+ * <p>
+ * The two threads exchange snapshots through a single atomic slot. The simulation owns the snapshot it is recording,
+ * the JavaFX thread owns the one it is drawing, and the finished frame waiting in the slot belongs to neither,
+ * so publishing or picking up a frame is one atomic swap and neither thread ever waits for the other.
+ * Frames the JavaFX thread has no pulse for are simply replaced by newer ones.
+ */
+public class SnapshotRenderer extends CanvasRenderer {
+
+    private final AtomicReference<RenderSnapshot> published = new AtomicReference<>(new RenderSnapshot());
+    private RenderSnapshot recording = new RenderSnapshot();
+    private RenderSnapshot presented = new RenderSnapshot();
+    private long frame;
+
+    /**
+     * Constructs a new SnapshotRenderer and adds its canvas to the root group.
+     *
+     * @param root   the root group of the level's scene
+     * @param width  the width of the screen
+     * @param height the height of the screen
+     */
+    public SnapshotRenderer(Group root, double width, double height) {
+        super(root, width, height);
+    }
+
+    /**
+     * Records the current frame and publishes it, replacing any frame not yet presented.
+     * Called on the thread that moves the actors.
+     */
+    @Override
+    public void render() {
+        recording.clear();
+        drawLayers();
+        recording.setFrame(++frame);
+        recording = published.getAndSet(recording);
+    }
+
+    /**
+     * Draws the newest published frame onto the canvas if it has not been drawn yet.
+     * Called on the JavaFX Application Thread.
+     */
+    @Override
+    public void present() {
+        if (!takeLatest()) {
+            return;
+        }
+        getGraphics().clearRect(0, 0, getCanvas().getWidth(), getCanvas().getHeight());
+        presented.draw(getGraphics());
+    }
+
+    /**
+     * Swaps the newest published frame in for presenting.
+     *
+     * @return true if a frame newer than the last presented one was taken
+     */
+    boolean takeLatest() {
+        if (published.get().getFrame() <= presented.getFrame()) {
+            return false;
+        }
+        presented = published.getAndSet(presented);
+        return true;
+    }
+
+    /**
+     * Returns the frame last taken for presenting.
+     *
+     * @return the presented snapshot
+     */
+    RenderSnapshot getPresented() {
+        return presented;
+    }
+
+    @Override
+    protected void drawImage(Image image, double x, double y, double width, double height, double opacity) {
+        recording.add(image, x, y, width, height, opacity);
+    }
+}
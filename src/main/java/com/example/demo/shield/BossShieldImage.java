@@ -1,17 +1,16 @@
 package com.example.demo.shield;
 
-import javafx.scene.image.Image;
+import com.example.demo.assetmanager.ImageCache;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 /**
  * Class representing the boss shield image in the game.
  * Manages the display and visibility of the boss shield.
  */
 public class BossShieldImage extends ImageView {
 
-    private static final int SHIELD_SIZE = 200;
+    public static final String IMAGE_NAME = "shield.png";
+    public static final int SHIELD_SIZE = 200;
 
     /**
      * Constructor for BossShieldImage.
@@ -22,8 +21,7 @@ public class BossShieldImage extends ImageView {
     public BossShieldImage(double xPosition, double yPosition) {
         this.setLayoutX(xPosition);
         this.setLayoutY(yPosition);
-        Image shieldImg = new Image(Objects.requireNonNull(getClass().getResource("/com/example/demo/images/shield.png")).toExternalForm());
-        this.setImage(shieldImg);
+        this.setImage(ImageCache.getInstance().getImage(IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE, false));
         this.setVisible(false);
         this.setFitHeight(SHIELD_SIZE);
         this.setFitWidth(SHIELD_SIZE);
@@ -1,17 +1,16 @@
 package com.example.demo.shield;
 
-import javafx.scene.image.Image;
+import com.example.demo.assetmanager.ImageCache;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 /**
  * Class representing the user shield image in the game.
  * Manages the display and visibility of the user shield.
  */
 public class UserShieldImage extends ImageView {
 
-    private static final int SHIELD_SIZE = 100;
+    public static final String IMAGE_NAME = "usershield.png";
+    public static final int SHIELD_SIZE = 100;
 
     /**
      * Constructor for UserShieldImage.
@@ -22,8 +21,7 @@ public class UserShieldImage extends ImageView {
     public UserShieldImage(double xPosition, double yPosition) {
         this.setLayoutX(xPosition);
         this.setLayoutY(yPosition);
-        Image shieldImg = new Image(Objects.requireNonNull(getClass().getResource("/com/example/demo/images/usershield.png")).toExternalForm());
-        this.setImage(shieldImg);
+        this.setImage(ImageCache.getInstance().getImage(IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE, true));
         this.setVisible(false); // Initially hidden
         this.setFitHeight(SHIELD_SIZE);
         this.setFitWidth(SHIELD_SIZE);
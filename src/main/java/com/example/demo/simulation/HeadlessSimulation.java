@@ -0,0 +1,218 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.RandomService;
+import com.example.demo.level.LevelParent;
+import com.example.demo.mainmenumanager.StoreManager;
+import javafx.application.Platform;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Runs levels in headless mode as fast as the CPU allows.
+ * Nothing is shown or played, and no fastest times are saved, so thousands of games
+ * can be simulated for balancing and regression checks.
+ * <p>
+ * Actors are still JavaFX nodes, so the JavaFX toolkit must be started (for example with the
+ * Monocle headless platform on machines without a display), but no window is ever opened.
+ */
+public class HeadlessSimulation {
+
+    /**
+     * Default tick limit, ten minutes of game time.
+     */
+    public static final long DEFAULT_MAX_TICKS = 12_000;
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double RANDOM_MOVE_CHANCE = 0.1;
+    private static final double RANDOM_FIRE_CHANCE = 0.3;
+
+    private final double screenHeight;
+    private final double screenWidth;
+    private final long maxTicks;
+
+    /**
+     * Constructs a new HeadlessSimulation with the game's screen size and the default tick limit.
+     */
+    public HeadlessSimulation() {
+        this(SCREEN_HEIGHT, SCREEN_WIDTH, DEFAULT_MAX_TICKS);
+    }
+
+    /**
+     * Constructs a new HeadlessSimulation.
+     *
+     * @param screenHeight The height of the simulated screen.
+     * @param screenWidth  The width of the simulated screen.
+     * @param maxTicks     The number of ticks after which an unfinished game is stopped.
+     */
+    public HeadlessSimulation(double screenHeight, double screenWidth, long maxTicks) {
+        this.screenHeight = screenHeight;
+        this.screenWidth = screenWidth;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Plays one game of a level with a fresh random seed until it is won, lost or reaches the tick limit.
+     *
+     * @param levelClassName The fully qualified class name of the level.
+     * @param input          The source of player commands.
+     * @return The outcome of the game.
+     */
+    public SimulationResult run(String levelClassName, InputSource input) {
+        return run(levelClassName, input, createLevel(levelClassName, new RandomService()));
+    }
+
+    /**
+     * Plays one game of a level until it is won, lost or reaches the tick limit.
+     * The same seed and input always play the same game.
+     *
+     * @param levelClassName The fully qualified class name of the level.
+     * @param input          The source of player commands.
+     * @param seed           The seed of the level's gameplay randomness.
+     * @return The outcome of the game.
+     */
+    public SimulationResult run(String levelClassName, InputSource input, long seed) {
+        return run(levelClassName, input, createLevel(levelClassName, new RandomService(seed)));
+    }
+
+    /**
+     * Plays a recorded run again as fast as the CPU allows.
+     * The level is created with the recorded plane and seed, and the recorded commands are given on their ticks,
+     * so the result matches the recorded run.
+     *
+     * @param replay The recorded run.
+     * @return The outcome of the replayed game.
+     */
+    public SimulationResult replay(Replay replay) {
+        return run(replay.getLevelClassName(), new ReplayInputSource(replay), createLevel(replay));
+    }
+
+    /**
+     * Creates a level set up to play a recorded run: with the recorded plane and random seed.
+     * The seed is given to the level when it is created, so actors built by its constructor follow it too.
+     * The plane selected in the store is restored once the level is created.
+     *
+     * @param replay       The recorded run.
+     * @param screenHeight The height of the screen.
+     * @param screenWidth  The width of the screen.
+     * @param headless     true to create the level without a window.
+     * @return The level.
+     * @throws IllegalArgumentException If the level cannot be created.
+     */
+    static LevelParent createLevel(Replay replay, double screenHeight, double screenWidth, boolean headless) {
+        StoreManager store = StoreManager.getInstance();
+        int selectedPlane = store.getSelectedPlaneNumber();
+        store.setSelectedPlaneNumber(replay.getPlaneNumber());
+        try {
+            return createLevel(replay.getLevelClassName(), screenHeight, screenWidth, headless,
+                    new RandomService(replay.getSeed()));
+        } finally {
+            store.setSelectedPlaneNumber(selectedPlane);
+        }
+    }
+
+    /**
+     * Creates a headless level set up to play a recorded run.
+     *
+     * @param replay The recorded run.
+     * @return The headless level.
+     */
+    private LevelParent createLevel(Replay replay) {
+        return createLevel(replay, screenHeight, screenWidth, true);
+    }
+
+    /**
+     * Plays one game of an already created level.
+     *
+     * @param levelClassName The fully qualified class name of the level.
+     * @param input          The source of player commands.
+     * @param level          The headless level.
+     * @return The outcome of the game.
+     */
+    private SimulationResult run(String levelClassName, InputSource input, LevelParent level) {
+        level.startHeadless();
+        while (!level.isGameOver() && level.getTickCount() < maxTicks) {
+            input.poll(level.getTickCount(), level::handleInput);
+            level.step();
+        }
+        SimulationResult result = new SimulationResult(levelClassName, level.isGameWon(), level.isGameOver(),
+                level.getTickCount(), level.getUser().getHealth(), level.getUser().getNumberOfKills());
+        level.stopGame();
+        return result;
+    }
+
+    /**
+     * Creates a headless instance of a level.
+     *
+     * @param levelClassName The fully qualified class name of the level.
+     * @param randomService  The source of the level's gameplay randomness.
+     * @return The headless level.
+     * @throws IllegalArgumentException If the level cannot be created.
+     */
+    private LevelParent createLevel(String levelClassName, RandomService randomService) {
+        return createLevel(levelClassName, screenHeight, screenWidth, true, randomService);
+    }
+
+    /**
+     * Creates an instance of a level.
+     *
+     * @param levelClassName The fully qualified class name of the level.
+     * @param screenHeight   The height of the screen.
+     * @param screenWidth    The width of the screen.
+     * @param headless       true to create the level without a window.
+     * @param randomService  The source of the level's gameplay randomness, already seeded
+     *                       so that actors created by the level's constructor follow the seed.
+     * @return The level.
+     * @throws IllegalArgumentException If the level cannot be created.
+     */
+    static LevelParent createLevel(String levelClassName, double screenHeight, double screenWidth, boolean headless,
+                                   RandomService randomService) {
+        try {
+            Class<?> levelClass = Class.forName(levelClassName);
+            Constructor<?> constructor = levelClass.getConstructor(double.class, double.class, boolean.class, RandomService.class);
+            return (LevelParent) constructor.newInstance(screenHeight, screenWidth, headless, randomService);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Cannot create level: " + levelClassName, e);
+        }
+    }
+
+    /**
+     * Simulates many games of a level with random input and prints a summary.
+     * Arguments: level class name, number of games and base seed, all optional.
+     *
+     * @param args The command line arguments.
+     */
+    public static void main(String[] args) {
+        String levelClassName = args.length > 0 ? args[0] : "com.example.demo.level.LevelOne";
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+
+        Platform.startup(() -> {
+            try {
+                HeadlessSimulation simulation = new HeadlessSimulation();
+                int wins = 0;
+                int timeouts = 0;
+                long totalTicks = 0;
+                long startNanos = System.nanoTime();
+                for (int game = 0; game < games; game++) {
+                    InputSource input = new RandomInputSource(seed + game, RANDOM_MOVE_CHANCE, RANDOM_FIRE_CHANCE);
+                    SimulationResult result = simulation.run(levelClassName, input, seed + game);
+                    if (result.isWon()) {
+                        wins++;
+                    }
+                    if (!result.isFinished()) {
+                        timeouts++;
+                    }
+                    totalTicks += result.getTicks();
+                }
+                double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+                System.out.printf("%s: %d games, %d won, %d lost, %d timed out%n",
+                        levelClassName, games, wins, games - wins - timeouts, timeouts);
+                System.out.printf("%d ticks in %.2f s (%.0f ticks/s, mean %.0f ticks per game)%n",
+                        totalTicks, seconds, totalTicks / seconds, (double) totalTicks / Math.max(1, games));
+            } finally {
+                Platform.exit();
+            }
+        });
+    }
+}
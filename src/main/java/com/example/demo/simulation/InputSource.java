@@ -0,0 +1,19 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.InputCommand;
+
+import java.util.function.Consumer;
+
+/**
+ * Supplies player commands to a headless simulation, one tick at a time.
+ */
+public interface InputSource {
+
+    /**
+     * Emits the commands given on a tick.
+     *
+     * @param tick     The tick about to be simulated, starting at 0.
+     * @param commands Receives each command given on this tick, in order.
+     */
+    void poll(long tick, Consumer<InputCommand> commands);
+}
@@ -0,0 +1,42 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.InputCommand;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Input source that moves and fires at random, like a player mashing keys.
+ * The same seed always produces the same commands.
+ */
+public class RandomInputSource implements InputSource {
+
+    private static final InputCommand[] MOVES = {InputCommand.MOVE_UP, InputCommand.MOVE_DOWN, InputCommand.STOP};
+
+    private final Random random;
+    private final double moveChance;
+    private final double fireChance;
+
+    /**
+     * Constructs a new RandomInputSource.
+     *
+     * @param seed       The random seed.
+     * @param moveChance The chance, between 0 and 1, of changing direction on a tick.
+     * @param fireChance The chance, between 0 and 1, of firing on a tick.
+     */
+    public RandomInputSource(long seed, double moveChance, double fireChance) {
+        this.random = new Random(seed);
+        this.moveChance = moveChance;
+        this.fireChance = fireChance;
+    }
+
+    @Override
+    public void poll(long tick, Consumer<InputCommand> commands) {
+        if (random.nextDouble() < moveChance) {
+            commands.accept(MOVES[random.nextInt(MOVES.length)]);
+        }
+        if (random.nextDouble() < fireChance) {
+            commands.accept(InputCommand.FIRE);
+        }
+    }
+}
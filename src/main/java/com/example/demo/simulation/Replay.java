@@ -0,0 +1,271 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.InputCommand;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A recorded run: everything needed to play the same game again.
+ * Levels are deterministic given their random seed, the selected plane and the commands given on each tick,
+ * so a replay holds only those, plus the tick the run ended on.
+ * <p>
+ * Replays are stored in a compact binary format, all numbers big-endian:
+ * <pre>
+ * int     magic ("SBRP")
+ * byte    format version
+ * long    random seed
+ * varint  selected plane number
+ * UTF     level class name
+ * varint  end tick
+ * varint  number of commands
+ * per command:
+ *   varint  ticks since the previous command (the first counts from tick 0)
+ *   byte    command
+ * </pre>
+ * Varints use 7 bits per byte, lowest group first, with the top bit set on every byte but the last,
+ * so the common case of a few ticks between commands costs two bytes per command.
+ */
+public final class Replay {
+
+    /**
+     * The file extension replays are saved with.
+     */
+    public static final String FILE_EXTENSION = ".sbr";
+
+    private static final int MAGIC = 0x53425250;
+    private static final int VERSION = 1;
+    private static final InputCommand[] COMMANDS = InputCommand.values();
+
+    private final String levelClassName;
+    private final long seed;
+    private final int planeNumber;
+    private final long endTick;
+    private final long[] ticks;
+    private final InputCommand[] commands;
+
+    /**
+     * Constructs a new Replay.
+     *
+     * @param levelClassName The fully qualified class name of the level.
+     * @param seed           The seed of the level's gameplay randomness.
+     * @param planeNumber    The plane selected in the store.
+     * @param endTick        The tick the run ended on.
+     * @param ticks          The tick of each command, in order.
+     * @param commands       The commands, in the order they were given.
+     * @throws IllegalArgumentException If the ticks and commands do not match up.
+     */
+    public Replay(String levelClassName, long seed, int planeNumber, long endTick, long[] ticks, InputCommand[] commands) {
+        if (ticks.length != commands.length) {
+            throw new IllegalArgumentException("Expected one tick per command but got " + ticks.length
+                    + " ticks for " + commands.length + " commands");
+        }
+        for (int i = 0; i < ticks.length; i++) {
+            if (ticks[i] < (i == 0 ? 0 : ticks[i - 1])) {
+                throw new IllegalArgumentException("Command ticks must not decrease: " + ticks[i] + " at " + i);
+            }
+        }
+        this.levelClassName = levelClassName;
+        this.seed = seed;
+        this.planeNumber = planeNumber;
+        this.endTick = endTick;
+        this.ticks = ticks.clone();
+        this.commands = commands.clone();
+    }
+
+    /**
+     * Reads a replay from a file.
+     *
+     * @param file The replay file.
+     * @return The replay.
+     * @throws IOException If the file cannot be read or is not a replay.
+     */
+    public static Replay read(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a replay from a stream.
+     *
+     * @param stream The stream, positioned at the start of the replay.
+     * @return The replay.
+     * @throws IOException If the stream cannot be read or does not hold a replay.
+     */
+    public static Replay read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+        long seed = in.readLong();
+        int planeNumber = (int) readVarLong(in);
+        String levelClassName = in.readUTF();
+        long endTick = readVarLong(in);
+        int count = (int) readVarLong(in);
+        long[] ticks = new long[count];
+        InputCommand[] commands = new InputCommand[count];
+        long tick = 0;
+        for (int i = 0; i < count; i++) {
+            tick += readVarLong(in);
+            int command = in.readUnsignedByte();
+            if (command >= COMMANDS.length) {
+                throw new IOException("Unknown command " + command + " at tick " + tick);
+            }
+            ticks[i] = tick;
+            commands[i] = COMMANDS[command];
+        }
+        return new Replay(levelClassName, seed, planeNumber, endTick, ticks, commands);
+    }
+
+    /**
+     * Writes the replay to a file, replacing it if it exists.
+     *
+     * @param file The replay file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Writes the replay to a stream.
+     *
+     * @param stream The stream to write to.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        writeVarLong(out, planeNumber);
+        out.writeUTF(levelClassName);
+        writeVarLong(out, endTick);
+        writeVarLong(out, commands.length);
+        long previousTick = 0;
+        for (int i = 0; i < commands.length; i++) {
+            writeVarLong(out, ticks[i] - previousTick);
+            out.writeByte(commands[i].ordinal());
+            previousTick = ticks[i];
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes a non-negative number as a varint.
+     *
+     * @param out   The stream to write to.
+     * @param value The number.
+     * @throws IOException If the stream cannot be written.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a varint.
+     *
+     * @param in The stream to read from.
+     * @return The number.
+     * @throws IOException If the stream ends early or the number is too long.
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Replay ended inside a number");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in replay");
+    }
+
+    /**
+     * Returns the fully qualified class name of the replayed level.
+     *
+     * @return The level class name.
+     */
+    public String getLevelClassName() {
+        return levelClassName;
+    }
+
+    /**
+     * Returns the seed of the level's gameplay randomness.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the plane that was selected in the store.
+     *
+     * @return The plane number.
+     */
+    public int getPlaneNumber() {
+        return planeNumber;
+    }
+
+    /**
+     * Returns the tick the recorded run ended on.
+     *
+     * @return The end tick.
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Returns the number of recorded commands.
+     *
+     * @return The command count.
+     */
+    public int getCommandCount() {
+        return commands.length;
+    }
+
+    /**
+     * Returns the tick a command was given on.
+     *
+     * @param index The index of the command.
+     * @return The tick, counted as the number of steps simulated before the command.
+     */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Returns a recorded command.
+     *
+     * @param index The index of the command.
+     * @return The command.
+     */
+    public InputCommand getCommand(int index) {
+        return commands[index];
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.InputCommand;
+
+import java.util.function.Consumer;
+
+/**
+ * Input source that gives the commands of a {@link Replay} on the ticks they were recorded on.
+ * Ticks must be polled in increasing order, as both headless simulations and the game loop do.
+ */
+public class ReplayInputSource implements InputSource {
+
+    private final Replay replay;
+    private int next;
+
+    /**
+     * Constructs a new ReplayInputSource.
+     *
+     * @param replay The replay to play.
+     */
+    public ReplayInputSource(Replay replay) {
+        this.replay = replay;
+    }
+
+    @Override
+    public void poll(long tick, Consumer<InputCommand> commands) {
+        while (next < replay.getCommandCount() && replay.getTick(next) <= tick) {
+            commands.accept(replay.getCommand(next));
+            next++;
+        }
+    }
+
+    /**
+     * Checks whether every command of the replay has been given.
+     *
+     * @return true if the replay has no commands left.
+     */
+    public boolean isFinished() {
+        return next == replay.getCommandCount();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.simulation;
+
+import com.example.demo.level.LevelParent;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Plays back a saved replay, either headless as fast as the CPU allows or in a window at normal speed.
+ * <p>
+ * Usage: {@code ReplayPlayer <replay file> [--realtime]}
+ */
+public class ReplayPlayer {
+
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final String TITLE = "Sky Battle";
+
+    /**
+     * Entry point of the replay player.
+     *
+     * @param args The replay file, optionally followed by {@code --realtime}.
+     * @throws IOException If the replay cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayPlayer <replay file> [--realtime]");
+            return;
+        }
+        Replay replay = Replay.read(Path.of(args[0]));
+        boolean realtime = args.length > 1 && args[1].equals("--realtime");
+        System.out.printf("%s: seed %d, plane %d, %d commands over %d ticks%n", replay.getLevelClassName(),
+                replay.getSeed(), replay.getPlaneNumber(), replay.getCommandCount(), replay.getEndTick());
+
+        if (realtime) {
+            Platform.startup(() -> playInWindow(replay));
+        } else {
+            Platform.startup(() -> {
+                try {
+                    playHeadless(replay);
+                } finally {
+                    Platform.exit();
+                }
+            });
+        }
+    }
+
+    /**
+     * Replays a run headless and checks that it ends on the recorded tick.
+     *
+     * @param replay The recorded run.
+     */
+    private static void playHeadless(Replay replay) {
+        long startNanos = System.nanoTime();
+        SimulationResult result = new HeadlessSimulation().replay(replay);
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.println(result);
+        System.out.printf("%d ticks in %.2f s (%.0f ticks/s)%n", result.getTicks(), seconds, result.getTicks() / seconds);
+        if (result.getTicks() != replay.getEndTick()) {
+            System.err.println("Replay diverged: ended on tick " + result.getTicks()
+                    + " but the recorded run ended on tick " + replay.getEndTick());
+        }
+    }
+
+    /**
+     * Replays a run in a window at normal speed. The player exits when the level ends.
+     *
+     * @param replay The recorded run.
+     */
+    private static void playInWindow(Replay replay) {
+        Stage stage = new Stage();
+        stage.setTitle(TITLE);
+        stage.setResizable(false);
+        stage.setWidth(SCREEN_WIDTH);
+        stage.setHeight(SCREEN_HEIGHT);
+
+        LevelParent level = HeadlessSimulation.createLevel(replay, SCREEN_HEIGHT, SCREEN_WIDTH, false);
+        level.setInputSource(new ReplayInputSource(replay));
+        level.addObserver((observable, action) -> {
+            level.stopGame();
+            Platform.exit();
+        });
+        stage.setScene(level.initializeScene());
+        stage.show();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.InputCommand;
+
+import java.util.Arrays;
+
+/**
+ * Records the commands given during a run so it can be saved as a {@link Replay}.
+ * Commands are kept in growing arrays, so recording a command does not allocate in the common case.
+ */
+public class ReplayRecorder {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] ticks = new long[INITIAL_CAPACITY];
+    private InputCommand[] commands = new InputCommand[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Records a command.
+     *
+     * @param tick    The number of steps simulated before the command took effect.
+     * @param command The command.
+     */
+    public void record(long tick, InputCommand command) {
+        if (size == ticks.length) {
+            ticks = Arrays.copyOf(ticks, size * 2);
+            commands = Arrays.copyOf(commands, size * 2);
+        }
+        ticks[size] = tick;
+        commands[size] = command;
+        size++;
+    }
+
+    /**
+     * Returns the number of recorded commands.
+     *
+     * @return The command count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Builds the replay of the recorded run.
+     *
+     * @param levelClassName The fully qualified class name of the level.
+     * @param seed           The seed of the level's gameplay randomness.
+     * @param planeNumber    The plane selected in the store.
+     * @param endTick        The tick the run ended on.
+     * @return The replay.
+     */
+    public Replay toReplay(String levelClassName, long seed, int planeNumber, long endTick) {
+        return new Replay(levelClassName, seed, planeNumber, endTick,
+                Arrays.copyOf(ticks, size), Arrays.copyOf(commands, size));
+    }
+}
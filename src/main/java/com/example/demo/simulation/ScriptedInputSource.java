@@ -0,0 +1,66 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.InputCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Input source that replays a fixed script of commands at given ticks.
+ * Useful for regression checks that must play the same game every time.
+ */
+public class ScriptedInputSource implements InputSource {
+
+    private final Map<Long, List<InputCommand>> script = new TreeMap<>();
+
+    /**
+     * Adds a command to the script.
+     *
+     * @param tick    The tick on which the command is given.
+     * @param command The command.
+     * @return This source, for chaining.
+     */
+    public ScriptedInputSource at(long tick, InputCommand command) {
+        script.computeIfAbsent(tick, t -> new ArrayList<>()).add(command);
+        return this;
+    }
+
+    /**
+     * Parses a script with one {@code <tick> <command>} pair per line, e.g. {@code 40 FIRE}.
+     * Blank lines and lines starting with {@code #} are ignored.
+     *
+     * @param text The script text.
+     * @return The parsed input source.
+     * @throws IllegalArgumentException If a line cannot be parsed.
+     */
+    public static ScriptedInputSource parse(String text) {
+        ScriptedInputSource source = new ScriptedInputSource();
+        for (String line : text.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected '<tick> <command>' but got: " + line);
+            }
+            try {
+                source.at(Long.parseLong(parts[0]), InputCommand.valueOf(parts[1]));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid script line: " + line, e);
+            }
+        }
+        return source;
+    }
+
+    @Override
+    public void poll(long tick, Consumer<InputCommand> commands) {
+        List<InputCommand> scripted = script.get(tick);
+        if (scripted != null) {
+            scripted.forEach(commands);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.GameLoop;
+
+import java.util.Objects;
+
+/**
+ * The outcome of one headless game.
+ */
+public class SimulationResult {
+
+    private final String levelClassName;
+    private final boolean won;
+    private final boolean finished;
+    private final long ticks;
+    private final int userHealth;
+    private final int kills;
+
+    /**
+     * Constructs a new SimulationResult.
+     *
+     * @param levelClassName The class name of the simulated level.
+     * @param won            true if the level was won.
+     * @param finished       true if the game ended before the tick limit.
+     * @param ticks          The number of simulated ticks.
+     * @param userHealth     The user's health at the end of the game.
+     * @param kills          The number of kills the user made.
+     */
+    public SimulationResult(String levelClassName, boolean won, boolean finished, long ticks, int userHealth, int kills) {
+        this.levelClassName = levelClassName;
+        this.won = won;
+        this.finished = finished;
+        this.ticks = ticks;
+        this.userHealth = userHealth;
+        this.kills = kills;
+    }
+
+    /**
+     * Returns the class name of the simulated level.
+     *
+     * @return The level class name.
+     */
+    public String getLevelClassName() {
+        return levelClassName;
+    }
+
+    /**
+     * Checks if the level was won.
+     *
+     * @return true if the level was won.
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Checks if the game ended before the tick limit.
+     *
+     * @return true if the game was won or lost, false if it timed out.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns the number of simulated ticks.
+     *
+     * @return The tick count.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns how much game time the simulation covered.
+     *
+     * @return The simulated time in milliseconds.
+     */
+    public long getSimulatedMillis() {
+        return ticks * GameLoop.getStepMillis();
+    }
+
+    /**
+     * Returns the user's health at the end of the game.
+     *
+     * @return The remaining health.
+     */
+    public int getUserHealth() {
+        return userHealth;
+    }
+
+    /**
+     * Returns the number of kills the user made.
+     *
+     * @return The kill count.
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SimulationResult result)) {
+            return false;
+        }
+        return won == result.won && finished == result.finished && ticks == result.ticks
+                && userHealth == result.userHealth && kills == result.kills
+                && levelClassName.equals(result.levelClassName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(levelClassName, won, finished, ticks, userHealth, kills);
+    }
+
+    @Override
+    public String toString() {
+        String outcome = !finished ? "TIMEOUT" : won ? "WON" : "LOST";
+        return String.format("%s %s after %d ticks (health %d, kills %d)",
+                levelClassName, outcome, ticks, userHealth, kills);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.styles;
 
+import com.example.demo.assetmanager.ImageCache;
 import javafx.animation.FadeTransition;
 import javafx.animation.ScaleTransition;
 import javafx.geometry.Pos;
@@ -11,8 +12,6 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.util.Duration;
 
-import java.util.Objects;
-
 /**
  * Factory class for creating custom buttons with various styles and effects.
  */
@@ -40,7 +39,7 @@ public class ButtonFactory {
      */
     public StackPane createCustomButton(String text, String fontName, double fontSize, double width, double height, String imagePath) {
         // Load the button background image
-        ImageView buttonImageView = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(imagePath)).toExternalForm()));
+        ImageView buttonImageView = new ImageView(ImageCache.getInstance().getImage(imagePath, (int) width, (int) height, false));
         buttonImageView.setFitWidth(width);
         buttonImageView.setFitHeight(height);
         buttonImageView.setPreserveRatio(false);
@@ -97,7 +96,7 @@ public class ButtonFactory {
      */
     public StackPane createStickerButton(String imagePath, double fitWidth, double fitHeight) {
         // Load the button background image
-        Image buttonImage = new Image(Objects.requireNonNull(getClass().getResource(imagePath)).toExternalForm());
+        Image buttonImage = ImageCache.getInstance().getImage(imagePath, (int) fitWidth, (int) fitHeight, false);
 
         ImageView buttonImageView = new ImageView(buttonImage);
         buttonImageView.setFitWidth(fitWidth);
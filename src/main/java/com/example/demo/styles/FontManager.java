@@ -1,18 +1,34 @@
 package com.example.demo.styles;
 
 import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
 
 import java.io.InputStream;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Singleton class responsible for managing custom fonts in the application.
  * Loads and provides access to custom fonts.
+ * Every font handed out is cached by family, weight and size, so building the same labels again,
+ * for example when a page or overlay is shown, reuses the fonts instead of resolving them every time.
+ * The cache may be used from any thread.
  */
 public class FontManager {
+    private static final String[] FONT_PATHS = {
+            "/com/example/demo/fonts/Cartoon cookies.ttf",
+            "/com/example/demo/fonts/Sugar Bomb.ttf",
+            "/com/example/demo/fonts/Pixel Digivolve.otf"
+    };
+    private static final String DEFAULT_FAMILY = "Arial";
+
     private static FontManager instance;
-    private final Map<String, Font> customFonts = new HashMap<>();
+    private final Map<String, Font> customFonts = new ConcurrentHashMap<>();
+    private final Map<String, Font> fonts = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
 
     /**
      * Private constructor to prevent instantiation.
@@ -28,7 +44,7 @@ public class FontManager {
      *
      * @return the singleton instance of FontManager
      */
-    public static FontManager getInstance() {
+    public static synchronized FontManager getInstance() {
         if (instance == null) {
             instance = new FontManager();
         }
@@ -36,32 +52,33 @@ public class FontManager {
     }
 
     /**
-     * Loads custom fonts from predefined paths.
+     * Loads the bundled custom fonts in parallel.
      * Adds the loaded fonts to the customFonts map.
      */
     private void loadCustomFonts() {
-        String[] fontPaths = {
-                "/com/example/demo/fonts/Cartoon cookies.ttf",
-                "/com/example/demo/fonts/Sugar Bomb.ttf",
-                "/com/example/demo/fonts/Pixel Digivolve.otf"
-        };
+        Arrays.stream(FONT_PATHS).parallel().forEach(this::loadCustomFont);
+    }
 
-        for (String fontPath : fontPaths) {
-            try (InputStream fontStream = getClass().getResourceAsStream(fontPath)) {
-                if (fontStream == null) {
-                    System.err.println("Font not found: " + fontPath);
-                    continue;
-                }
-                Font font = Font.loadFont(fontStream, 10);
-                if (font == null) {
-                    System.err.println("Failed to load font: " + fontPath);
-                } else {
-                    customFonts.put(font.getName(), font);
-                }
-            } catch (Exception e) {
-                System.err.println("Error loading font: " + fontPath);
-                e.printStackTrace();
+    /**
+     * Loads one custom font from the classpath and adds it to the customFonts map.
+     *
+     * @param fontPath the resource path of the font file
+     */
+    private void loadCustomFont(String fontPath) {
+        try (InputStream fontStream = getClass().getResourceAsStream(fontPath)) {
+            if (fontStream == null) {
+                System.err.println("Font not found: " + fontPath);
+                return;
             }
+            Font font = Font.loadFont(fontStream, 10);
+            if (font == null) {
+                System.err.println("Failed to load font: " + fontPath);
+            } else {
+                customFonts.put(font.getName(), font);
+            }
+        } catch (Exception e) {
+            System.err.println("Error loading font: " + fontPath);
+            e.printStackTrace();
         }
     }
 
@@ -74,12 +91,79 @@ public class FontManager {
      * @return the Font object, or a default font if not found
      */
     public Font getFont(String name, double size) {
-        Font font = customFonts.get(name);
+        return getFont(name, FontWeight.NORMAL, size);
+    }
+
+    /**
+     * Retrieves a loaded font by its name, at the given weight.
+     * If the font is not found, a default font is returned.
+     *
+     * @param name   the name of the font
+     * @param weight the desired font weight
+     * @param size   the desired font size
+     * @return the shared Font object, or a default font if not found
+     */
+    public Font getFont(String name, FontWeight weight, double size) {
+        String key = name + '|' + weight + '|' + size;
+        Font font = fonts.get(key);
         if (font != null) {
-            return Font.font(font.getFamily(), size);
-        } else {
-            System.err.println("Font not found: " + name + ". Using default font.");
-            return Font.font("Arial", size);
+            hitCount.incrementAndGet();
+            return font;
+        }
+        return fonts.computeIfAbsent(key, k -> createFont(name, weight, size));
+    }
+
+    /**
+     * Resolves a font and updates the miss counter.
+     *
+     * @param name   the name of the font
+     * @param weight the desired font weight
+     * @param size   the desired font size
+     * @return the Font object, or a default font if not found
+     */
+    private Font createFont(String name, FontWeight weight, double size) {
+        missCount.incrementAndGet();
+        Font customFont = customFonts.get(name);
+        if (customFont != null) {
+            return Font.font(customFont.getFamily(), weight, size);
         }
+        System.err.println("Font not found: " + name + ". Using default font.");
+        return Font.font(DEFAULT_FAMILY, weight, size);
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of requests that had to resolve a font.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of distinct fonts currently cached.
+     *
+     * @return the number of cached fonts
+     */
+    public int getCachedFontCount() {
+        return fonts.size();
+    }
+
+    /**
+     * Removes every cached font and resets the counters. The custom fonts stay loaded.
+     */
+    public void clearCache() {
+        fonts.clear();
+        hitCount.set(0);
+        missCount.set(0);
     }
 }
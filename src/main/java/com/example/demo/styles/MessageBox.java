@@ -2,17 +2,15 @@
 
 package com.example.demo.styles;
 
+import com.example.demo.assetmanager.ImageCache;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.TextAlignment;
 
-import java.util.Objects;
-
 /**
  * Class representing a message box within an overlay.
  * Encapsulates the layout and styling of the message display area.
@@ -45,7 +43,7 @@ public class MessageBox extends StackPane {
         // Load background image
         ImageView background;
         try {
-            background = new ImageView(new Image(Objects.requireNonNull(getClass().getResource("/com/example/demo/images/box1.png")).toExternalForm()));
+            background = new ImageView(ImageCache.getInstance().getImage("box1.png", (int) boxWidth, (int) boxHeight, false));
             background.setFitWidth(boxWidth);
             background.setFitHeight(boxHeight);
         } catch (Exception e) {
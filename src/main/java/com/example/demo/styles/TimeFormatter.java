@@ -1,6 +1,6 @@
 package com.example.demo.styles;
 /**
- * This class responsible formats time from seconds to MM:SS
+ * This class responsible formats time from seconds to MM:SS, or from milliseconds to MM:SS.mmm
  */
 public class TimeFormatter {
     /**
@@ -14,4 +14,17 @@ public class TimeFormatter {
         long seconds = totalSeconds % 60;
         return String.format("%02d:%02d", minutes, seconds);
     }
+
+    /**
+     * Formats time from milliseconds to MM:SS.mmm.
+     *
+     * @param totalMillis the total milliseconds to format
+     * @return the formatted time string
+     */
+    public static String formatMillis(long totalMillis) {
+        long minutes = totalMillis / 60_000;
+        long seconds = totalMillis / 1000 % 60;
+        long millis = totalMillis % 1000;
+        return String.format("%02d:%02d.%03d", minutes, seconds, millis);
+    }
 }
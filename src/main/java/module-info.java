@@ -19,4 +19,7 @@ module com.example.demo {
     opens com.example.demo.levelview to javafx.fxml;
     opens com.example.demo.styles to javafx.fxml;
     opens com.example.demo.mainmenumanager to javafx.fxml;
+    opens com.example.demo.assetmanager to javafx.fxml;
+    opens com.example.demo.simulation to javafx.fxml;
+    opens com.example.demo.renderer to javafx.fxml;
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.example.demo.assetmanager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AssetPreloaderTest {
+
+    @Test
+    public void testEveryAssetIsLoadedAndReported() throws Exception {
+        List<String> loaded = new ArrayList<>();
+        List<Integer> progress = new ArrayList<>();
+        AssetPreloader preloader = new AssetPreloader()
+                .addTask("first", () -> loaded.add("first"))
+                .addTask("second", () -> loaded.add("second"));
+
+        CompletableFuture<Void> done = preloader.start(Runnable::run,
+                (completed, total, assetName) -> {
+                    assertEquals(2, total);
+                    progress.add(completed);
+                });
+
+        done.get(1, TimeUnit.SECONDS);
+        assertEquals(List.of("first", "second"), loaded);
+        assertEquals(List.of(1, 2), progress, "Progress should be reported once per asset");
+        assertEquals(2, preloader.getCompletedCount());
+        assertEquals(0, preloader.getFailedCount());
+    }
+
+    @Test
+    public void testFailedAssetDoesNotStopTheOthers() throws Exception {
+        List<String> loaded = new ArrayList<>();
+        AssetPreloader preloader = new AssetPreloader()
+                .addTask("broken", () -> {
+                    throw new IllegalStateException("missing file");
+                })
+                .addTask("working", () -> loaded.add("working"));
+
+        preloader.start(Runnable::run, (completed, total, assetName) -> { }).get(1, TimeUnit.SECONDS);
+
+        assertEquals(List.of("working"), loaded);
+        assertEquals(2, preloader.getCompletedCount(), "A failed asset still counts towards the progress");
+        assertEquals(1, preloader.getFailedCount());
+    }
+
+    @Test
+    public void testThreadPoolLoadsOffTheCallingThread() throws Exception {
+        Thread caller = Thread.currentThread();
+        List<Thread> loaderThreads = new ArrayList<>();
+        AssetPreloader preloader = new AssetPreloader()
+                .addTask("asset", () -> loaderThreads.add(Thread.currentThread()));
+
+        preloader.start((completed, total, assetName) -> { }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, loaderThreads.size());
+        assertNotSame(caller, loaderThreads.get(0));
+        assertTrue(loaderThreads.get(0).isDaemon(), "Loader threads must not keep the game running");
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.assetmanager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionMaskTest {
+
+    private static final int OPAQUE = 0xFF000000;
+
+    /**
+     * Builds a mask with a solid rectangle inside an otherwise transparent image.
+     */
+    private CollisionMask rectangleMask(int width, int height, int left, int top, int right, int bottom) {
+        int[] argb = new int[width * height];
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x++) {
+                argb[y * width + x] = OPAQUE;
+            }
+        }
+        return CollisionMask.fromArgb(width, height, argb);
+    }
+
+    @Test
+    public void testTightBoxIgnoresTransparentMargins() {
+        CollisionMask mask = rectangleMask(100, 40, 10, 5, 90, 30);
+
+        assertEquals(10, mask.getTightMinX());
+        assertEquals(5, mask.getTightMinY());
+        assertEquals(90, mask.getTightMaxX());
+        assertEquals(30, mask.getTightMaxY());
+        assertTrue(mask.isSolid(10, 5));
+        assertFalse(mask.isSolid(9, 5), "Transparent margin pixels should not be solid");
+    }
+
+    @Test
+    public void testSemiTransparentPixelsBelowThresholdAreNotSolid() {
+        int[] argb = {0x40FFFFFF, 0x80FFFFFF};
+        CollisionMask mask = CollisionMask.fromArgb(2, 1, argb);
+
+        assertFalse(mask.isSolid(0, 0));
+        assertTrue(mask.isSolid(1, 0));
+    }
+
+    @Test
+    public void testOverlapsAcrossWordBoundaries() {
+        CollisionMask wide = rectangleMask(200, 10, 130, 0, 131, 10);
+        CollisionMask dot = rectangleMask(3, 3, 1, 1, 2, 2);
+
+        assertTrue(wide.overlaps(dot, 129, 2), "The dot's solid pixel lands on column 130");
+        assertFalse(wide.overlaps(dot, 128, 2), "The dot's solid pixel lands on column 129");
+        assertFalse(wide.overlaps(dot, 130, 2), "The dot's solid pixel lands on column 131");
+    }
+
+    @Test
+    public void testMarginsOverlappingDoNotCount() {
+        CollisionMask first = rectangleMask(100, 40, 10, 5, 90, 30);
+        CollisionMask second = rectangleMask(100, 40, 10, 5, 90, 30);
+
+        assertFalse(first.overlaps(second, 85, 0), "Only the transparent margins overlap");
+        assertTrue(first.overlaps(second, 79, 0), "The solid parts share one column");
+    }
+
+    @Test
+    public void testEmptyMaskNeverOverlaps() {
+        CollisionMask empty = CollisionMask.fromArgb(4, 4, new int[16]);
+        CollisionMask full = rectangleMask(4, 4, 0, 0, 4, 4);
+
+        assertTrue(empty.isEmpty());
+        assertFalse(full.overlaps(empty, 0, 0));
+    }
+
+    @Test
+    public void testMatchesSize() {
+        CollisionMask mask = rectangleMask(40, 20, 0, 0, 40, 20);
+
+        assertTrue(mask.matchesSize(40.3, 20));
+        assertFalse(mask.matchesSize(80, 40), "A scaled sprite should not use the mask");
+    }
+}
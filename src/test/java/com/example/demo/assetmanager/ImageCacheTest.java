@@ -0,0 +1,102 @@
+package com.example.demo.assetmanager;
+
+import com.example.demo.plane.EnemyPlane;
+import com.example.demo.plane.IntermediatePlane;
+import com.example.demo.projectile.UserProjectile;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageCacheTest {
+
+    private ImageCache imageCache;
+
+    @BeforeAll
+    public static void initializeJavaFX() throws InterruptedException {
+        // Initialize JavaFX runtime
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        imageCache = ImageCache.getInstance();
+        imageCache.clear();
+    }
+
+    @Test
+    public void testSingletonInstance() {
+        assertSame(imageCache, ImageCache.getInstance(), "ImageCache should be a singleton");
+    }
+
+    @Test
+    public void testSameSpriteSharesImage() {
+        Image first = imageCache.getImage(EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT);
+        Image second = imageCache.getImage(EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT);
+
+        assertSame(first, second, "Repeated requests should return the same decoded image");
+        assertEquals(1, imageCache.getMissCount(), "Only the first request should decode the image");
+        assertEquals(1, imageCache.getHitCount(), "The second request should be served from the cache");
+        assertTrue(imageCache.getByteSize() > 0, "Decoded size should be tracked");
+    }
+
+    @Test
+    public void testPreloadWarmsCache() {
+        imageCache.preload(UserProjectile.IMAGE_NAME, UserProjectile.IMAGE_HEIGHT);
+        assertEquals(1, imageCache.getMissCount(), "Preloading should decode the image once");
+
+        imageCache.getImage(UserProjectile.IMAGE_NAME, UserProjectile.IMAGE_HEIGHT);
+        assertEquals(1, imageCache.getMissCount(), "A preloaded sprite should not be decoded again");
+        assertEquals(1, imageCache.getHitCount(), "A preloaded sprite should count as a hit");
+        assertEquals(1, imageCache.getCachedImageCount());
+    }
+
+    @Test
+    public void testLoadWithMaskBuildsTheMask() {
+        Image image = imageCache.load(EnemyPlane.IMAGE_NAME, 0, EnemyPlane.IMAGE_HEIGHT, true, true);
+
+        assertEquals(1, imageCache.getCollisionMaskCount(), "A sprite loaded with a mask should have it built at load time");
+        CollisionMask mask = imageCache.getCollisionMask(image);
+        assertNotNull(mask);
+        assertEquals(1, imageCache.getCollisionMaskCount(), "Looking the mask up should not build another");
+    }
+
+    @Test
+    public void testLoadWithoutMaskBuildsNone() {
+        imageCache.load("/com/example/demo/images/background1.jpg", 1300, 750, false);
+
+        assertEquals(0, imageCache.getCollisionMaskCount(), "Images loaded without a mask should not get one");
+    }
+
+    @Test
+    public void testSpriteDecodedAtDisplayHeight() {
+        Image image = imageCache.getImage(IntermediatePlane.IMAGE_NAME, IntermediatePlane.IMAGE_HEIGHT);
+
+        assertEquals(IntermediatePlane.IMAGE_HEIGHT, image.getHeight(), "Sprite should be decoded at its display height");
+        assertEquals(image.getWidth() * image.getHeight() * 4, imageCache.getByteSize(), "Byte size should reflect the decoded size");
+    }
+
+    @Test
+    public void testStretchedImageDecodedAtTargetSize() {
+        Image image = imageCache.getImage("/com/example/demo/images/background1.jpg", 1300, 750, false);
+
+        assertEquals(1300, image.getWidth(), "Stretched image should be decoded at the target width");
+        assertEquals(750, image.getHeight(), "Stretched image should be decoded at the target height");
+    }
+
+    @Test
+    public void testDifferentSizesAreCachedSeparately() {
+        Image small = imageCache.getImage(EnemyPlane.IMAGE_NAME, 50);
+        Image large = imageCache.getImage(EnemyPlane.IMAGE_NAME, 100);
+
+        assertNotSame(small, large, "Different display sizes should be decoded separately");
+        assertEquals(2, imageCache.getCachedImageCount());
+    }
+}
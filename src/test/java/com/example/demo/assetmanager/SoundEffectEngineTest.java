@@ -0,0 +1,88 @@
+package com.example.demo.assetmanager;
+
+import javafx.scene.media.AudioClip;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SoundEffectEngineTest {
+
+    private final List<AudioClip> clips = new ArrayList<>();
+
+    private AudioClip createClip(String fileName) {
+        if (fileName.equals("missing.mp3")) {
+            return null;
+        }
+        AudioClip clip = mock(AudioClip.class);
+        // A voice is busy once it has been played
+        doAnswer(invocation -> {
+            when(clip.isPlaying()).thenReturn(true);
+            return null;
+        }).when(clip).play(anyDouble());
+        clips.add(clip);
+        return clip;
+    }
+
+    @Test
+    public void testPreloadCreatesEveryVoiceOnce() {
+        SoundEffectEngine engine = new SoundEffectEngine(3, this::createClip);
+
+        assertTrue(engine.preload("bullet.mp3"));
+        assertTrue(engine.preload("bullet.mp3"));
+        assertEquals(3, clips.size(), "Each voice should be loaded once");
+    }
+
+    @Test
+    public void testFreeVoicesAreUsedBeforeStealing() {
+        SoundEffectEngine engine = new SoundEffectEngine(2, this::createClip);
+
+        engine.play("bullet.mp3", 0.5);
+        engine.play("bullet.mp3", 0.5);
+
+        verify(clips.get(0)).play(0.5);
+        verify(clips.get(1)).play(0.5);
+        assertEquals(2, engine.getPlayCount());
+        assertEquals(0, engine.getStolenVoiceCount());
+    }
+
+    @Test
+    public void testOldestVoiceIsStolenWhenAllAreBusy() {
+        SoundEffectEngine engine = new SoundEffectEngine(2, this::createClip);
+
+        engine.play("bullet.mp3", 0.5);
+        engine.play("bullet.mp3", 0.5);
+        engine.play("bullet.mp3", 0.5);
+
+        verify(clips.get(0)).stop();
+        verify(clips.get(0), times(2)).play(0.5);
+        verify(clips.get(1), never()).stop();
+        assertEquals(1, engine.getStolenVoiceCount());
+        assertEquals(3, engine.getPlayLatency().getCount(), "Every play should record its latency");
+    }
+
+    @Test
+    public void testMissingEffectIsReportedOnce() {
+        SoundEffectEngine engine = new SoundEffectEngine(2, this::createClip);
+
+        assertFalse(engine.preload("missing.mp3"));
+        engine.play("missing.mp3", 0.5);
+
+        assertEquals(1, engine.getMissingEffectCount());
+        assertEquals(0, engine.getPlayCount());
+    }
+
+    @Test
+    public void testStopAllStopsEveryVoice() {
+        SoundEffectEngine engine = new SoundEffectEngine(2, this::createClip);
+        engine.preload("bullet.mp3");
+        engine.preload("victory.mp3");
+
+        engine.stopAll();
+
+        clips.forEach(clip -> verify(clip).stop());
+    }
+}
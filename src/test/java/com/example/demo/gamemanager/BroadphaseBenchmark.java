@@ -0,0 +1,175 @@
+package com.example.demo.gamemanager;
+
+import com.example.demo.ActiveActorDestructible;
+import com.example.demo.plane.EnemyPlane;
+import com.example.demo.projectile.UserProjectile;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the cost of finding user projectile hits on enemy planes with the original nested loops,
+ * the uniform grid and sweep and prune, with 100, 1,000 and 5,000 actors of each kind.
+ * Enemies fly left and projectiles fly right, as in the game; every tick moves them, rebuilds the broadphase
+ * and finds the first enemy hit by each projectile. Results are printed as p50/p99 per tick after a warm-up period,
+ * together with the number of hits. Both broadphases must report the same hits; the nested loops only test
+ * end-of-tick positions, so they miss the hits where a projectile passed through an enemy within a tick.
+ * Kept with the tests so it is not shipped with the game; run its main method from the test classpath.
+ */
+public class BroadphaseBenchmark {
+
+    private static final int[] ACTOR_COUNTS = {100, 1_000, 5_000};
+    private static final int WARMUP_TICKS = 200;
+    private static final int MEASURED_TICKS = 500;
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double ENEMY_VELOCITY = -6;
+    private static final double PROJECTILE_VELOCITY = 15;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    /**
+     * The ways of finding hits being compared.
+     */
+    private enum Method {
+        NESTED_LOOPS("Nested loops"),
+        GRID(BroadphaseMode.GRID.getDisplayName()),
+        SWEEP_AND_PRUNE(BroadphaseMode.SWEEP_AND_PRUNE.getDisplayName());
+
+        private final String displayName;
+
+        Method(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    private final List<ActiveActorDestructible> enemies = new ArrayList<>();
+    private final List<ActiveActorDestructible> projectiles = new ArrayList<>();
+    private final Broadphase enemyBroadphase;
+    private final Broadphase projectileBroadphase;
+    private final Method method;
+
+    /**
+     * Constructs a new BroadphaseBenchmark with randomly placed actors.
+     *
+     * @param method The way of finding hits.
+     * @param count  The number of enemies and of projectiles.
+     * @param seed   The seed placing the actors.
+     */
+    private BroadphaseBenchmark(Method method, int count, long seed) {
+        this.method = method;
+        BroadphaseMode mode = method == Method.GRID ? BroadphaseMode.GRID : BroadphaseMode.SWEEP_AND_PRUNE;
+        this.enemyBroadphase = mode.create(SCREEN_WIDTH, SCREEN_HEIGHT);
+        this.projectileBroadphase = mode.create(SCREEN_WIDTH, SCREEN_HEIGHT);
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            ActiveActorDestructible enemy = new EnemyPlane(0, random.nextDouble() * SCREEN_HEIGHT);
+            enemy.setTranslateX(random.nextDouble() * SCREEN_WIDTH);
+            enemies.add(enemy);
+            ActiveActorDestructible projectile = new UserProjectile(0, random.nextDouble() * SCREEN_HEIGHT);
+            projectile.setTranslateX(random.nextDouble() * SCREEN_WIDTH);
+            projectiles.add(projectile);
+        }
+    }
+
+    /**
+     * Moves every actor and finds the projectile hits of one tick.
+     *
+     * @return The number of projectiles that hit an enemy.
+     */
+    private int tick() {
+        move(enemies, ENEMY_VELOCITY);
+        move(projectiles, PROJECTILE_VELOCITY);
+        if (method == Method.NESTED_LOOPS) {
+            return countNestedLoopHits();
+        }
+        enemyBroadphase.build(enemies);
+        projectileBroadphase.build(projectiles);
+        int hits = 0;
+        for (int p = 0; p < projectileBroadphase.size(); p++) {
+            if (enemyBroadphase.query(projectileBroadphase, p) > 0) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Finds the projectile hits the way the collision passes did before the broadphase existed.
+     *
+     * @return The number of projectiles that hit an enemy.
+     */
+    private int countNestedLoopHits() {
+        int hits = 0;
+        for (ActiveActorDestructible projectile : projectiles) {
+            for (ActiveActorDestructible enemy : enemies) {
+                if (projectile.getBoundsInParent().intersects(enemy.getBoundsInParent())) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Moves actors horizontally, wrapping them around the screen edge.
+     * Wrapped actors start their sweep afresh, so jumping across the screen does not count as motion.
+     *
+     * @param actors   The actors to move.
+     * @param velocity The distance moved per tick.
+     */
+    private static void move(List<ActiveActorDestructible> actors, double velocity) {
+        for (ActiveActorDestructible actor : actors) {
+            actor.capturePreviousPosition();
+            double x = actor.getTranslateX() + velocity;
+            if (x < 0 || x > SCREEN_WIDTH) {
+                actor.setTranslateX(x < 0 ? x + SCREEN_WIDTH : x - SCREEN_WIDTH);
+                actor.capturePreviousPosition();
+            } else {
+                actor.setTranslateX(x);
+            }
+        }
+    }
+
+    /**
+     * Runs one case and prints its timings.
+     *
+     * @param method The way of finding hits.
+     * @param count  The number of enemies and of projectiles.
+     */
+    private static void runCase(Method method, int count) {
+        BroadphaseBenchmark benchmark = new BroadphaseBenchmark(method, count, 42);
+        Histogram tickTimes = new Histogram();
+        long totalHits = 0;
+        for (int tick = 0; tick < WARMUP_TICKS + MEASURED_TICKS; tick++) {
+            long start = System.nanoTime();
+            int hits = benchmark.tick();
+            if (tick >= WARMUP_TICKS) {
+                tickTimes.record(System.nanoTime() - start);
+                totalHits += hits;
+            }
+        }
+        System.out.printf("%-16s %6d actors: tick p50 %9.1f us, p99 %9.1f us | hits %d%n",
+                method.displayName, count,
+                tickTimes.getPercentile(50) / NANOS_PER_MICRO, tickTimes.getPercentile(99) / NANOS_PER_MICRO,
+                totalHits);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        Platform.startup(() -> {
+            for (int count : ACTOR_COUNTS) {
+                for (Method method : Method.values()) {
+                    runCase(method, count);
+                }
+            }
+            Platform.exit();
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.gamemanager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionMatrixTest {
+
+    private static final CollisionResponse NO_OP = (source, target) -> { };
+
+    @Test
+    public void testRulesKeepTheOrderTheyWereAdded() {
+        CollisionResponse first = (source, target) -> { };
+        CollisionResponse second = (source, target) -> { };
+        CollisionMatrix matrix = new CollisionMatrix()
+                .onFirstHit(CollisionLayer.USER_PROJECTILE, CollisionLayer.ENEMY, first)
+                .onFirstHit(CollisionLayer.USER_PROJECTILE, CollisionLayer.ENEMY_PROJECTILE, second);
+
+        List<CollisionMatrix.Rule> rules = matrix.getRules(CollisionLayer.USER_PROJECTILE);
+
+        assertEquals(2, rules.size());
+        assertSame(first, rules.get(0).getResponse());
+        assertEquals(CollisionLayer.ENEMY, rules.get(0).getTarget());
+        assertSame(second, rules.get(1).getResponse());
+        assertEquals(CollisionLayer.ENEMY_PROJECTILE, rules.get(1).getTarget());
+    }
+
+    @Test
+    public void testFirstHitAndEveryHitRules() {
+        CollisionMatrix matrix = new CollisionMatrix()
+                .onFirstHit(CollisionLayer.ENEMY_PROJECTILE, CollisionLayer.FRIENDLY, NO_OP)
+                .onEveryHit(CollisionLayer.FRIENDLY, CollisionLayer.ENEMY, NO_OP);
+
+        assertTrue(matrix.getRules(CollisionLayer.ENEMY_PROJECTILE).get(0).isFirstHitOnly());
+        assertFalse(matrix.getRules(CollisionLayer.FRIENDLY).get(0).isFirstHitOnly());
+    }
+
+    @Test
+    public void testLayersWithoutRulesAreNotInvolved() {
+        CollisionMatrix matrix = new CollisionMatrix()
+                .onFirstHit(CollisionLayer.USER_PROJECTILE, CollisionLayer.ENEMY, NO_OP);
+
+        assertTrue(matrix.getRules(CollisionLayer.ENEMY).isEmpty(), "Target-only layers should have no rules of their own");
+        assertTrue(matrix.involves(CollisionLayer.USER_PROJECTILE));
+        assertTrue(matrix.involves(CollisionLayer.ENEMY));
+        assertFalse(matrix.involves(CollisionLayer.ALLY_PROJECTILE));
+    }
+}
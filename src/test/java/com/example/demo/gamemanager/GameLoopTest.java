@@ -4,7 +4,11 @@ import javafx.application.Platform;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -99,4 +103,136 @@ public class GameLoopTest {
         gameLoop.stop();
         assertFalse(gameLoop.isRunning(), "GameLoop should not be running after stop");
     }
+
+    @Test
+    public void testFixedStepLoopUpdatesAndRenders() throws InterruptedException {
+        AtomicInteger updateCounter = new AtomicInteger(0);
+        AtomicInteger renderCounter = new AtomicInteger(0);
+        List<Double> alphas = new CopyOnWriteArrayList<>();
+
+        GameLoop gameLoop = new GameLoop(updateCounter::incrementAndGet, alpha -> {
+            renderCounter.incrementAndGet();
+            alphas.add(alpha);
+        });
+        assertEquals(GameLoop.Mode.FIXED_STEP, gameLoop.getMode(), "Loop should be in fixed-step mode");
+
+        Platform.runLater(gameLoop::start);
+        Thread.sleep(400);
+        Platform.runLater(gameLoop::stop);
+        Thread.sleep(100);
+
+        assertTrue(updateCounter.get() > 0, "Simulation should advance in fixed steps");
+        assertTrue(renderCounter.get() > 0, "Render method should be called every frame");
+        assertTrue(alphas.stream().allMatch(alpha -> alpha >= 0 && alpha < 1), "Interpolation factor should stay within [0, 1)");
+        assertFalse(gameLoop.isRunning(), "GameLoop should not be running after stop");
+    }
+
+    @Test
+    public void testFixedStepLoopPauseAndResume() throws InterruptedException {
+        AtomicInteger updateCounter = new AtomicInteger(0);
+        GameLoop gameLoop = new GameLoop(updateCounter::incrementAndGet, alpha -> { });
+
+        Platform.runLater(gameLoop::start);
+        Thread.sleep(300);
+        Platform.runLater(gameLoop::pause);
+        Thread.sleep(100);
+        int countAfterPause = updateCounter.get();
+        assertFalse(gameLoop.isRunning(), "GameLoop should not be running after pause");
+
+        Thread.sleep(300);
+        assertEquals(countAfterPause, updateCounter.get(), "Update method should not be called while paused");
+
+        Platform.runLater(gameLoop::resume);
+        Thread.sleep(300);
+        assertTrue(gameLoop.isRunning(), "GameLoop should be running after resume");
+        assertTrue(updateCounter.get() > countAfterPause, "Update method should resume after resume");
+        Platform.runLater(gameLoop::stop);
+    }
+
+    @Test
+    public void testBackgroundThreadLoopSimulatesOffTheFxThread() throws InterruptedException {
+        AtomicInteger updateCounter = new AtomicInteger(0);
+        AtomicInteger presentCounter = new AtomicInteger(0);
+        AtomicInteger updatesOnFxThread = new AtomicInteger(0);
+        AtomicInteger presentsOffFxThread = new AtomicInteger(0);
+
+        GameLoop gameLoop = GameLoop.onBackgroundThread(() -> {
+            updateCounter.incrementAndGet();
+            if (Platform.isFxApplicationThread()) {
+                updatesOnFxThread.incrementAndGet();
+            }
+        }, () -> {
+            presentCounter.incrementAndGet();
+            if (!Platform.isFxApplicationThread()) {
+                presentsOffFxThread.incrementAndGet();
+            }
+        });
+        assertEquals(GameLoop.Mode.BACKGROUND_THREAD, gameLoop.getMode(), "Loop should be in background thread mode");
+
+        gameLoop.start();
+        Thread.sleep(400);
+        gameLoop.pause();
+        assertFalse(gameLoop.isRunning(), "GameLoop should not be running after pause");
+        Thread.sleep(100);
+        int countAfterPause = updateCounter.get();
+        Thread.sleep(200);
+        gameLoop.stop();
+
+        assertTrue(countAfterPause > 0, "Simulation should advance on its own thread");
+        assertEquals(countAfterPause, updateCounter.get(), "Update method should not be called while paused");
+        assertTrue(presentCounter.get() > 0, "Frames should be presented on every pulse");
+        assertEquals(0, updatesOnFxThread.get(), "Simulation steps should never run on the JavaFX Application Thread");
+        assertEquals(0, presentsOffFxThread.get(), "Frames should only be presented on the JavaFX Application Thread");
+    }
+
+    @Test
+    public void testBackgroundThreadStopWaitsForTheRunningStep() throws InterruptedException {
+        CountDownLatch stepStarted = new CountDownLatch(1);
+        AtomicBoolean stepFinished = new AtomicBoolean(false);
+        GameLoop gameLoop = GameLoop.onBackgroundThread(() -> {
+            stepStarted.countDown();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stepFinished.set(true);
+        }, () -> { });
+
+        gameLoop.start();
+        assertTrue(stepStarted.await(2, TimeUnit.SECONDS), "A step should start");
+        gameLoop.stop();
+
+        assertTrue(stepFinished.get(), "stop() should only return once the running step has finished");
+    }
+
+    @Test
+    public void testBackgroundThreadPauseWaitsForTheRunningStep() throws InterruptedException {
+        CountDownLatch stepStarted = new CountDownLatch(1);
+        AtomicBoolean stepFinished = new AtomicBoolean(false);
+        AtomicInteger stepsAfterPause = new AtomicInteger();
+        AtomicBoolean paused = new AtomicBoolean(false);
+        GameLoop gameLoop = GameLoop.onBackgroundThread(() -> {
+            if (paused.get()) {
+                stepsAfterPause.incrementAndGet();
+            }
+            stepStarted.countDown();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stepFinished.set(true);
+        }, () -> { });
+
+        gameLoop.start();
+        assertTrue(stepStarted.await(2, TimeUnit.SECONDS), "A step should start");
+        gameLoop.pause();
+        paused.set(true);
+
+        assertTrue(stepFinished.get(), "pause() should only return once the running step has finished");
+        Thread.sleep(200);
+        assertEquals(0, stepsAfterPause.get(), "No step should run while the loop is paused");
+        gameLoop.stop();
+    }
 }
@@ -4,7 +4,9 @@ import javafx.application.Platform;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,4 +94,43 @@ public class GameTimerTest {
         Thread.sleep(2000);
         assertTrue(gameTimer.getElapsedTime() > elapsedTimeAfterStop, "Elapsed time should increment after restarting");
     }
+
+    @Test
+    public void testPauseIsCountedExactly() {
+        AtomicLong clock = new AtomicLong();
+        GameTimer gameTimer = new GameTimer(clock::get);
+
+        gameTimer.start();
+        clock.addAndGet(1_500_000_000L); // 1.5 s played
+        gameTimer.pause();
+        clock.addAndGet(10_000_000_000L); // 10 s paused
+        gameTimer.resume();
+        clock.addAndGet(250_000_000L); // 0.25 s played
+
+        assertEquals(1750, gameTimer.getElapsedMillis(), "Only the time played should be counted, to the millisecond");
+        assertEquals(1, gameTimer.getElapsedTime());
+    }
+
+    @Test
+    public void testSplits() {
+        AtomicLong clock = new AtomicLong();
+        GameTimer gameTimer = new GameTimer(clock::get);
+        gameTimer.start();
+
+        clock.addAndGet(12_345_000_000L);
+        gameTimer.split("Wave 1");
+        clock.addAndGet(1_001_000_000L);
+        gameTimer.split("Wave 2");
+
+        List<GameTimer.Split> splits = gameTimer.getSplits();
+        assertEquals(2, splits.size());
+        assertEquals("Wave 1", splits.get(0).getName());
+        assertEquals(12_345, splits.get(0).getDurationMillis());
+        assertEquals(13_346, splits.get(1).getElapsedMillis());
+        assertEquals(1_001, splits.get(1).getDurationMillis(), "A split should last from the previous split");
+
+        gameTimer.reset();
+        assertEquals(0, gameTimer.getElapsedMillis());
+        assertTrue(gameTimer.getSplits().isEmpty());
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.demo.gamemanager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HistogramTest {
+
+    private Histogram histogram;
+
+    @BeforeEach
+    public void setUp() {
+        histogram = new Histogram();
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50), "Empty histogram should report 0");
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(5, histogram.getPercentile(50), "Small values should be recorded exactly");
+        assertEquals(10, histogram.getPercentile(99));
+        assertEquals(10, histogram.getMax());
+        assertEquals(10, histogram.getLast());
+        assertEquals(5.5, histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    public void testLargeValuesWithinBucketPrecision() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.125, "p50 should be within bucket precision, was " + p50);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 should be within bucket precision and capped at max, was " + p99);
+        assertEquals(1_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void testReset() {
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+}
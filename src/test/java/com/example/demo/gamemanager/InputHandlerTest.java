@@ -110,6 +110,40 @@ public class InputHandlerTest {
         verify(mockLevelParent, times(1)).togglePause();
     }
 
+    @Test
+    public void testHandleKeyPressed_F3() {
+        // Simulate F3 key press
+        KeyEvent event = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.F3, false, false, false, false);
+
+        // Attach handlers once
+        inputHandler.attachInputHandlers(mockBackground);
+
+        // Capture and invoke the handler
+        ArgumentCaptor<EventHandler<KeyEvent>> captor = ArgumentCaptor.forClass(EventHandler.class);
+        verify(mockBackground).setOnKeyPressed(captor.capture());
+        captor.getValue().handle(event);
+
+        // Verify the profiler display is toggled
+        verify(mockLevelParent, times(1)).toggleProfilerDisplay();
+    }
+
+    @Test
+    public void testHandleKeyPressed_F4() {
+        // Simulate F4 key press
+        KeyEvent event = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.F4, false, false, false, false);
+
+        // Attach handlers once
+        inputHandler.attachInputHandlers(mockBackground);
+
+        // Capture and invoke the handler
+        ArgumentCaptor<EventHandler<KeyEvent>> captor = ArgumentCaptor.forClass(EventHandler.class);
+        verify(mockBackground).setOnKeyPressed(captor.capture());
+        captor.getValue().handle(event);
+
+        // Verify the profiler report is dumped
+        verify(mockLevelParent, times(1)).dumpProfile();
+    }
+
     @Test
     public void testHandleKeyReleased_UpOrDown() {
         // Simulate UP key release
@@ -134,4 +168,19 @@ public class InputHandlerTest {
         verify(mockUserPlane, times(2)).stop();
     }
 
+    @Test
+    public void testHandleCommand() {
+        // Apply each command directly, as a headless simulation does
+        inputHandler.handleCommand(InputCommand.MOVE_UP);
+        inputHandler.handleCommand(InputCommand.MOVE_DOWN);
+        inputHandler.handleCommand(InputCommand.STOP);
+        inputHandler.handleCommand(InputCommand.FIRE);
+
+        // Verify each command reaches the plane or level
+        verify(mockUserPlane, times(1)).moveUp();
+        verify(mockUserPlane, times(1)).moveDown();
+        verify(mockUserPlane, times(1)).stop();
+        verify(mockLevelParent, times(1)).fireProjectile();
+    }
+
 }
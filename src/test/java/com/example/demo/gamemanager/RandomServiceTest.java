@@ -0,0 +1,65 @@
+package com.example.demo.gamemanager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RandomServiceTest {
+
+    private List<Double> draw(RandomGenerator random, int count) {
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(random.nextDouble());
+        }
+        return values;
+    }
+
+    @Test
+    public void testSameSeedGivesSameNumbers() {
+        RandomService first = new RandomService(1234);
+        RandomService second = new RandomService(1234);
+
+        assertEquals(draw(first.get(RandomService.Stream.SPAWNING), 20), draw(second.get(RandomService.Stream.SPAWNING), 20));
+        assertEquals(1234, first.getSeed());
+    }
+
+    @Test
+    public void testStreamsAreIndependent() {
+        RandomService quiet = new RandomService(99);
+        RandomService busy = new RandomService(99);
+
+        // One subsystem drawing more often must not shift what another one sees
+        draw(busy.get(RandomService.Stream.ENEMY_FIRE), 500);
+
+        assertEquals(draw(quiet.get(RandomService.Stream.SPAWNING), 20), draw(busy.get(RandomService.Stream.SPAWNING), 20));
+        assertNotEquals(draw(quiet.get(RandomService.Stream.BOSS), 5), draw(quiet.get(RandomService.Stream.ALLY), 5),
+                "Different subsystems should not see the same numbers");
+    }
+
+    @Test
+    public void testReseedRestartsGeneratorsHandedOutEarlier() {
+        RandomService service = new RandomService(1);
+        RandomGenerator boss = service.get(RandomService.Stream.BOSS);
+        draw(boss, 10);
+
+        service.reseed(7);
+
+        assertEquals(draw(new RandomService(7).get(RandomService.Stream.BOSS), 10), draw(boss, 10));
+    }
+
+    @Test
+    public void testShuffleIsADeterministicPermutation() {
+        List<Integer> first = new ArrayList<>(List.of(1, 2, 3, 4, 5, 6, 7, 8));
+        List<Integer> second = new ArrayList<>(first);
+
+        RandomService.shuffle(first, new RandomService(5).get(RandomService.Stream.ALLY));
+        RandomService.shuffle(second, new RandomService(5).get(RandomService.Stream.ALLY));
+
+        assertEquals(first, second, "The same seed should shuffle the same way");
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), first.stream().sorted().toList());
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.gamemanager;
+
+import com.example.demo.ActiveActorDestructible;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SpatialGridTest {
+
+    private SpatialGrid grid;
+
+    @BeforeEach
+    public void setUp() {
+        grid = new SpatialGrid(1300, 750, 100);
+    }
+
+    private void stubBounds(ActiveActorDestructible actor, Bounds bounds) {
+        when(actor.getWorldMinX()).thenReturn(bounds.getMinX());
+        when(actor.getWorldMinY()).thenReturn(bounds.getMinY());
+        when(actor.getWorldMaxX()).thenReturn(bounds.getMaxX());
+        when(actor.getWorldMaxY()).thenReturn(bounds.getMaxY());
+    }
+
+    private ActiveActorDestructible actorAt(double x, double y, double width, double height) {
+        ActiveActorDestructible actor = mock(ActiveActorDestructible.class);
+        stubBounds(actor, new BoundingBox(x, y, width, height));
+        return actor;
+    }
+
+    @Test
+    public void testQueryFindsOverlappingActorsInListOrder() {
+        ActiveActorDestructible far = actorAt(1000, 600, 20, 20);
+        ActiveActorDestructible second = actorAt(150, 150, 50, 50);
+        ActiveActorDestructible first = actorAt(90, 90, 30, 30);
+        grid.build(List.of(far, first, second));
+
+        int hits = grid.query(100, 100, 180, 180);
+
+        assertEquals(2, hits, "Only the two overlapping actors should be reported");
+        assertSame(first, grid.getResultActor(0), "Results should follow list order");
+        assertSame(second, grid.getResultActor(1), "Results should follow list order");
+    }
+
+    @Test
+    public void testActorsOutsidePlayfieldAreStillFound() {
+        ActiveActorDestructible offscreen = actorAt(1400, -50, 100, 40);
+        grid.build(List.of(offscreen));
+
+        assertEquals(1, grid.query(1450, -30, 1460, -20), "Off-screen actors should be clamped into border cells");
+        assertEquals(0, grid.query(0, 0, 50, 50));
+    }
+
+    @Test
+    public void testTouchingEdgesCountAsIntersection() {
+        ActiveActorDestructible actor = actorAt(0, 0, 100, 100);
+        grid.build(List.of(actor));
+
+        assertEquals(1, grid.query(100, 100, 150, 150), "Edges touching should intersect like Bounds.intersects");
+    }
+
+    @Test
+    public void testFastActorCannotTunnelThroughThinActor() {
+        ActiveActorDestructible projectile = actorAt(100, 50, 10, 5);
+        when(projectile.getDisplacementX()).thenReturn(15.0);
+        ActiveActorDestructible wall = actorAt(96, 40, 3, 30);
+        ActiveActorDestructible below = actorAt(96, 200, 3, 30);
+        grid.build(List.of(wall, below));
+        Broadphase projectiles = new SweepAndPrune();
+        projectiles.build(List.of(projectile));
+
+        assertEquals(1, grid.query(projectiles, 0), "A projectile passing through a wall within one tick should hit it");
+        assertSame(wall, grid.getResultActor(0));
+        assertEquals(0, grid.query(100, 50, 110, 55), "Without motion the end positions do not touch");
+    }
+
+    @Test
+    public void testDeactivatedEntriesAreSkipped() {
+        ActiveActorDestructible actor = actorAt(10, 10, 10, 10);
+        grid.build(List.of(actor));
+        grid.deactivate(0);
+
+        assertEquals(0, grid.query(0, 0, 50, 50), "Deactivated entries should not be reported");
+    }
+
+    @Test
+    public void testMatchesBruteForce() {
+        Random random = new Random(42);
+        List<ActiveActorDestructible> actors = new ArrayList<>();
+        List<Bounds> bounds = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Bounds box = new BoundingBox(random.nextDouble() * 1500 - 100, random.nextDouble() * 900 - 75,
+                    random.nextDouble() * 160, random.nextDouble() * 60);
+            ActiveActorDestructible actor = mock(ActiveActorDestructible.class);
+            stubBounds(actor, box);
+            actors.add(actor);
+            bounds.add(box);
+        }
+        grid.build(actors);
+
+        for (int q = 0; q < 200; q++) {
+            Bounds query = new BoundingBox(random.nextDouble() * 1500 - 100, random.nextDouble() * 900 - 75,
+                    random.nextDouble() * 120, random.nextDouble() * 120);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < bounds.size(); i++) {
+                if (bounds.get(i).intersects(query)) {
+                    expected.add(i);
+                }
+            }
+            int hits = grid.query(query.getMinX(), query.getMinY(), query.getMaxX(), query.getMaxY());
+            List<Integer> actual = new ArrayList<>();
+            for (int i = 0; i < hits; i++) {
+                actual.add(grid.getResult(i));
+            }
+            assertEquals(expected, actual, "Grid query should match a brute-force scan");
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.demo.gamemanager;
+
+import com.example.demo.ActiveActorDestructible;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SweepAndPruneTest {
+
+    private SweepAndPrune sweepAndPrune;
+
+    @BeforeEach
+    public void setUp() {
+        sweepAndPrune = new SweepAndPrune();
+    }
+
+    private void stubBounds(ActiveActorDestructible actor, Bounds bounds) {
+        when(actor.getWorldMinX()).thenReturn(bounds.getMinX());
+        when(actor.getWorldMinY()).thenReturn(bounds.getMinY());
+        when(actor.getWorldMaxX()).thenReturn(bounds.getMaxX());
+        when(actor.getWorldMaxY()).thenReturn(bounds.getMaxY());
+    }
+
+    private ActiveActorDestructible actorAt(double x, double y, double width, double height) {
+        ActiveActorDestructible actor = mock(ActiveActorDestructible.class);
+        moveTo(actor, x, y, width, height);
+        return actor;
+    }
+
+    private void moveTo(ActiveActorDestructible actor, double x, double y, double width, double height) {
+        stubBounds(actor, new BoundingBox(x, y, width, height));
+    }
+
+    @Test
+    public void testQueryFindsOverlappingActorsInListOrder() {
+        ActiveActorDestructible far = actorAt(1000, 600, 20, 20);
+        ActiveActorDestructible second = actorAt(150, 150, 50, 50);
+        ActiveActorDestructible first = actorAt(90, 90, 30, 30);
+        sweepAndPrune.build(List.of(far, first, second));
+
+        int hits = sweepAndPrune.query(100, 100, 180, 180);
+
+        assertEquals(2, hits, "Only the two overlapping actors should be reported");
+        assertSame(first, sweepAndPrune.getResultActor(0), "Results should follow list order");
+        assertSame(second, sweepAndPrune.getResultActor(1), "Results should follow list order");
+    }
+
+    @Test
+    public void testWideActorLeftOfQueryIsFound() {
+        ActiveActorDestructible wide = actorAt(0, 0, 500, 20);
+        ActiveActorDestructible narrow = actorAt(300, 0, 10, 20);
+        sweepAndPrune.build(List.of(wide, narrow));
+
+        assertEquals(1, sweepAndPrune.query(400, 0, 410, 10), "Actors starting far to the left should still be found");
+    }
+
+    @Test
+    public void testTouchingEdgesCountAsIntersection() {
+        ActiveActorDestructible actor = actorAt(0, 0, 100, 100);
+        sweepAndPrune.build(List.of(actor));
+
+        assertEquals(1, sweepAndPrune.query(100, 100, 150, 150), "Edges touching should intersect like Bounds.intersects");
+    }
+
+    @Test
+    public void testFastActorCannotTunnelThroughThinActor() {
+        ActiveActorDestructible projectile = actorAt(100, 50, 10, 5);
+        when(projectile.getDisplacementX()).thenReturn(15.0);
+        ActiveActorDestructible wall = actorAt(96, 40, 3, 30);
+        ActiveActorDestructible below = actorAt(96, 200, 3, 30);
+        sweepAndPrune.build(List.of(wall, below));
+        Broadphase projectiles = new SweepAndPrune();
+        projectiles.build(List.of(projectile));
+
+        assertEquals(1, sweepAndPrune.query(projectiles, 0), "A projectile passing through a wall within one tick should hit it");
+        assertSame(wall, sweepAndPrune.getResultActor(0));
+        assertEquals(0, sweepAndPrune.query(100, 50, 110, 55), "Without motion the end positions do not touch");
+    }
+
+    @Test
+    public void testDeactivatedEntriesAreSkipped() {
+        ActiveActorDestructible actor = actorAt(10, 10, 10, 10);
+        sweepAndPrune.build(List.of(actor));
+        sweepAndPrune.deactivate(0);
+
+        assertEquals(0, sweepAndPrune.query(0, 0, 50, 50), "Deactivated entries should not be reported");
+    }
+
+    @Test
+    public void testRebuildAfterMovesRemovalsAndInsertions() {
+        ActiveActorDestructible a = actorAt(0, 0, 10, 10);
+        ActiveActorDestructible b = actorAt(100, 0, 10, 10);
+        ActiveActorDestructible c = actorAt(200, 0, 10, 10);
+        List<ActiveActorDestructible> actors = new ArrayList<>(List.of(a, b, c));
+        sweepAndPrune.build(actors);
+
+        moveTo(a, 300, 0, 10, 10);
+        actors.remove(b);
+        ActiveActorDestructible d = actorAt(50, 0, 10, 10);
+        actors.add(0, d);
+        sweepAndPrune.build(actors);
+
+        assertEquals(1, sweepAndPrune.query(295, 0, 305, 5));
+        assertSame(a, sweepAndPrune.getResultActor(0), "Moved actor should be found at its new position");
+        assertEquals(0, sweepAndPrune.query(95, 0, 105, 5), "Removed actor should no longer be found");
+        assertEquals(1, sweepAndPrune.query(45, 0, 55, 5));
+        assertSame(d, sweepAndPrune.getResultActor(0), "Actor inserted mid-list should be found");
+    }
+
+    @Test
+    public void testMatchesBruteForceOverSeveralTicks() {
+        Random random = new Random(42);
+        List<ActiveActorDestructible> actors = new ArrayList<>();
+        List<Bounds> bounds = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Bounds box = new BoundingBox(random.nextDouble() * 1500 - 100, random.nextDouble() * 900 - 75,
+                    random.nextDouble() * 160, random.nextDouble() * 60);
+            ActiveActorDestructible actor = mock(ActiveActorDestructible.class);
+            stubBounds(actor, box);
+            actors.add(actor);
+            bounds.add(box);
+        }
+
+        for (int tick = 0; tick < 5; tick++) {
+            sweepAndPrune.build(actors);
+            for (int q = 0; q < 100; q++) {
+                Bounds query = new BoundingBox(random.nextDouble() * 1500 - 100, random.nextDouble() * 900 - 75,
+                        random.nextDouble() * 120, random.nextDouble() * 120);
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < bounds.size(); i++) {
+                    if (bounds.get(i).intersects(query)) {
+                        expected.add(i);
+                    }
+                }
+                int hits = sweepAndPrune.query(query.getMinX(), query.getMinY(), query.getMaxX(), query.getMaxY());
+                List<Integer> actual = new ArrayList<>();
+                for (int i = 0; i < hits; i++) {
+                    actual.add(sweepAndPrune.getResult(i));
+                }
+                assertEquals(expected, actual, "Sweep and prune should match a brute-force scan");
+            }
+            // Move everything horizontally and drop a few actors, as happens between ticks
+            for (int i = 0; i < bounds.size(); i++) {
+                Bounds old = bounds.get(i);
+                Bounds moved = new BoundingBox(old.getMinX() + random.nextDouble() * 30 - 15, old.getMinY(),
+                        old.getWidth(), old.getHeight());
+                stubBounds(actors.get(i), moved);
+                bounds.set(i, moved);
+            }
+            for (int i = 0; i < 10; i++) {
+                int index = random.nextInt(actors.size());
+                actors.remove(index);
+                bounds.remove(index);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.level;
 
 import com.example.demo.ActiveActorDestructible;
+import com.example.demo.gamemanager.SceneLayer;
 import com.example.demo.overlay.OverlayManager;
 import com.example.demo.plane.EnemyPlane;
 import com.example.demo.plane.IntermediatePlane;
@@ -131,6 +132,45 @@ public class LevelFourTest {
         });
     }
 
+    @Test
+    public void testRemoveAllDestroyedActorsKeepsSurvivorOrder() throws InterruptedException {
+        runAndWait(() -> {
+            ActiveActorDestructible first = new EnemyPlane(800, 100);
+            ActiveActorDestructible destroyed = new EnemyPlane(800, 200);
+            ActiveActorDestructible last = new EnemyPlane(800, 300);
+            levelFour.addEnemyUnit(first);
+            levelFour.addEnemyUnit(destroyed);
+            levelFour.addEnemyUnit(last);
+            destroyed.destroy();
+
+            levelFour.removeAllDestroyedActors();
+
+            assertEquals(java.util.List.of(first, last), levelFour.getEnemyUnits(), "Survivors should keep their order");
+            assertFalse(levelFour.getLayer(SceneLayer.PLANES).getChildren().contains(destroyed), "Destroyed plane should leave the scene");
+            assertTrue(levelFour.getLayer(SceneLayer.PLANES).getChildren().contains(last), "Surviving plane should stay in the scene");
+        });
+    }
+
+    @Test
+    public void testIntermediatePlanePastLeftEdgePenetrates() throws InterruptedException {
+        runAndWait(() -> {
+            LevelFour headlessLevel = new LevelFour(600, 800, true);
+            headlessLevel.startHeadless();
+            UserPlane userPlane = headlessLevel.getUser();
+            int initialHealth = userPlane.getHealth();
+
+            // Intermediate planes move by layoutX, so their translateX stays at 0 while they fly off the left edge
+            IntermediatePlane intermediate = new IntermediatePlane(-1000, 150);
+            headlessLevel.addEnemyUnit(intermediate);
+            headlessLevel.step();
+
+            assertTrue(intermediate.isDestroyed(), "A plane past the left edge should count as penetrating");
+            assertEquals(ActiveActorDestructible.DestroyedBy.PENETRATION, intermediate.getDestroyedBy());
+            assertTrue(userPlane.getHealth() < initialHealth, "A penetrating plane should damage the player");
+            headlessLevel.stopGame();
+        });
+    }
+
     @Test
     public void testGameOver_Loss() throws InterruptedException {
         runAndWait(() -> {
@@ -0,0 +1,101 @@
+package com.example.demo.level;
+
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelPrefetcherTest {
+
+    private static final String LEVEL_TWO = "com.example.demo.level.LevelTwo";
+    private static final String LEVEL_THREE = "com.example.demo.level.LevelThree";
+
+    @BeforeAll
+    public static void setupJavaFX() {
+        // Initialize JavaFX toolkit
+        Platform.startup(() -> {
+            // No-op: Ensures JavaFX toolkit is initialized
+        });
+    }
+
+    @Test
+    public void testPrefetchedLevelIsTaken() throws InterruptedException {
+        runAndWait(() -> {
+            LevelPrefetcher prefetcher = new LevelPrefetcher(Runnable::run, Runnable::run);
+            prefetcher.prefetch(LEVEL_TWO, 750, 1300);
+            assertTrue(prefetcher.isReady(LEVEL_TWO), "The level should be built once both stages have run");
+
+            LevelParent level = prefetcher.take(LEVEL_TWO);
+            assertInstanceOf(LevelTwo.class, level);
+            assertFalse(prefetcher.isReady(LEVEL_TWO), "A level can only be taken once");
+            assertNull(prefetcher.take(LEVEL_TWO));
+        });
+    }
+
+    @Test
+    public void testAskingForAnotherLevelDropsThePrefetch() throws InterruptedException {
+        runAndWait(() -> {
+            LevelPrefetcher prefetcher = new LevelPrefetcher(Runnable::run, Runnable::run);
+            prefetcher.prefetch(LEVEL_THREE, 750, 1300);
+
+            // The player restarted the won level instead of going on
+            assertNull(prefetcher.take(LEVEL_TWO));
+            assertFalse(prefetcher.isReady(LEVEL_THREE), "The prefetched level should be dropped");
+        });
+    }
+
+    @Test
+    public void testCancelBeforeBuildingSkipsTheLevel() throws InterruptedException {
+        runAndWait(() -> {
+            List<Runnable> fxTasks = new ArrayList<>();
+            LevelPrefetcher prefetcher = new LevelPrefetcher(Runnable::run, fxTasks::add);
+            prefetcher.prefetch(LEVEL_TWO, 750, 1300);
+            assertEquals(1, fxTasks.size(), "Building the level should wait for the FX thread");
+
+            prefetcher.cancel();
+            fxTasks.forEach(Runnable::run);
+
+            assertFalse(prefetcher.isReady(LEVEL_TWO));
+            assertNull(prefetcher.take(LEVEL_TWO));
+        });
+    }
+
+    @Test
+    public void testUnknownLevelIsNotPrefetched() throws InterruptedException {
+        runAndWait(() -> {
+            LevelPrefetcher prefetcher = new LevelPrefetcher(Runnable::run, Runnable::run);
+            prefetcher.prefetch("com.example.demo.level.NoSuchLevel", 750, 1300);
+            assertNull(prefetcher.take("com.example.demo.level.NoSuchLevel"));
+        });
+    }
+
+    /**
+     * Runs a task on the JavaFX Application Thread and waits for it, rethrowing any assertion failure.
+     *
+     * @param action the task
+     */
+    private void runAndWait(Runnable action) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS), "FX task timed out");
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+    }
+}
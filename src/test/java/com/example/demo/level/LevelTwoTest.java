@@ -1,5 +1,6 @@
 package com.example.demo.level;
 
+import com.example.demo.gamemanager.SceneLayer;
 import com.example.demo.plane.BossPlane;
 import com.example.demo.plane.UserPlane;
 import com.example.demo.levelview.LevelViewLevelTwo;
@@ -53,7 +54,7 @@ public class LevelTwoTest {
     public void testInitializeFriendlyUnits() throws InterruptedException {
         runAndWait(() -> {
             assertNotNull(levelTwo.getUser(), "User plane should be initialized.");
-            assertTrue(levelTwo.getRoot().getChildren().contains(levelTwo.getUser()), "User plane should be added to the root group.");
+            assertTrue(levelTwo.getLayer(SceneLayer.PLAYER).getChildren().contains(levelTwo.getUser()), "User plane should be added to the player layer.");
         });
     }
 
@@ -144,7 +145,7 @@ public class LevelTwoTest {
 
             BossPlane boss = levelTwo.bossPlane;
             assertNotNull(boss, "Boss plane should be initialized.");
-            assertTrue(levelTwo.getRoot().getChildren().contains(boss.getShieldImage()), "Boss shield image should be added to the root group.");
+            assertTrue(levelTwo.getLayer(SceneLayer.SHIELDS).getChildren().contains(boss.getShieldImage()), "Boss shield image should be added to the shields layer.");
             assertFalse(boss.getShieldImage().isVisible(), "Boss shield should initially be invisible.");
         });
     }
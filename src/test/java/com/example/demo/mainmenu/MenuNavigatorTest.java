@@ -0,0 +1,81 @@
+package com.example.demo.mainmenu;
+
+import com.example.demo.controller.Controller;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(ApplicationExtension.class)
+public class MenuNavigatorTest {
+    private Stage stage;
+    private MenuNavigator navigator;
+
+    @Start
+    public void start(Stage stage) {
+        this.stage = stage;
+        stage.setWidth(1300);
+        stage.setHeight(750);
+        navigator = new MenuNavigator(stage, mock(Controller.class));
+    }
+
+    @Test
+    public void testPagesAreBuiltOnce(FxRobot robot) {
+        robot.interact(() -> {
+            navigator.showMainMenu();
+            Scene mainMenuScene = stage.getScene();
+
+            navigator.showStore();
+            Scene storeScene = stage.getScene();
+            assertNotSame(mainMenuScene, storeScene, "Each page should have its own scene");
+
+            navigator.showMainMenu();
+            assertSame(mainMenuScene, stage.getScene(), "Returning to the main menu should reuse its scene");
+
+            navigator.showStore();
+            assertSame(storeScene, stage.getScene(), "Returning to the store should reuse its scene");
+        });
+    }
+
+    @Test
+    public void testBackButtonReturnsToTheSameMainMenu(FxRobot robot) {
+        robot.interact(() -> {
+            navigator.showMainMenu();
+            Scene mainMenuScene = stage.getScene();
+
+            navigator.showInstructions();
+            StackPane backButton = (StackPane) stage.getScene().lookup("#backButton");
+            assertNotNull(backButton, "Back button should be present in the scene");
+            backButton.fireEvent(new MouseEvent(MouseEvent.MOUSE_CLICKED, 0, 0, 0, 0, MouseButton.PRIMARY, 1,
+                    true, true, true, true, true, true, true, true, true, true, null));
+
+            assertSame(mainMenuScene, stage.getScene(), "The back button should go through the navigator");
+        });
+    }
+
+    @Test
+    public void testStoreSelectionIsRefreshed(FxRobot robot) {
+        robot.interact(() -> {
+            navigator.showStore();
+            Label selectionMessage = (Label) stage.getScene().lookup("#selectionMessage");
+            String before = selectionMessage.getText();
+
+            navigator.showMainMenu();
+            navigator.showStore();
+
+            assertSame(selectionMessage, stage.getScene().lookup("#selectionMessage"));
+            assertEquals(before, selectionMessage.getText());
+            assertTrue(selectionMessage.getText().startsWith("You have selected plane"));
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.mainmenumanager;
 import org.junit.jupiter.api.*;
 
 import java.util.Map;
+import java.util.prefs.Preferences;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -77,6 +78,22 @@ public class FastestTimesManagerTest {
         assertEquals(250L, newInstance.getFastestTime("LEVEL_TWO"), "Fastest time for LEVEL_TWO should be 250L");
     }
 
+    @Test
+    void testTimesSavedInSecondsAreMigratedToMilliseconds() {
+        Preferences prefs = Preferences.userNodeForPackage(FastestTimesManager.class);
+        prefs.put("fastestTimes", "LEVEL_ONE=42;LEVEL_TWO=7;");
+
+        fastestTimesManager.loadFastestTimes();
+
+        assertEquals(42_000L, fastestTimesManager.getFastestTime("LEVEL_ONE"), "Seconds should be converted to milliseconds");
+        assertEquals(7_000L, fastestTimesManager.getFastestTime("LEVEL_TWO"));
+        assertNull(prefs.get("fastestTimes", null), "The old times should be removed once migrated");
+
+        // Loading again must not convert the times a second time
+        fastestTimesManager.loadFastestTimes();
+        assertEquals(42_000L, fastestTimesManager.getFastestTime("LEVEL_ONE"));
+    }
+
     @AfterAll
     void tearDown() {
         // Clear preferences after tests to avoid polluting state
@@ -3,10 +3,13 @@ package com.example.demo.plane;
 import com.example.demo.ActiveActorDestructible;
 import com.example.demo.projectile.EnemyProjectile;
 import javafx.application.Platform;
+import javafx.geometry.Bounds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.testfx.framework.junit5.ApplicationTest;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.testfx.util.WaitForAsyncUtils.waitForFxEvents;
 
@@ -100,4 +103,23 @@ public class EnemyPlaneTest extends ApplicationTest {
         waitForFxEvents(); // Ensure JavaFX updates are applied
         assertTrue(enemyPlane.getTranslateX() < initialX, "X position should decrease after updateActor");
     }
+
+    @Test
+    public void testWorldBoundsFollowTranslation() {
+        AtomicReference<Bounds> expected = new AtomicReference<>();
+        double[] actual = new double[2];
+        Platform.runLater(() -> {
+            enemyPlane.getWorldMinX(); // Read once so the cached bounds are valid before the move
+            enemyPlane.updatePosition();
+
+            expected.set(enemyPlane.getBoundsInParent());
+            actual[0] = enemyPlane.getWorldMinX();
+            actual[1] = enemyPlane.getWorldMaxY();
+        });
+        waitForFxEvents();
+
+        assertNotNull(expected.get(), "The FX task should have run");
+        assertEquals(expected.get().getMinX(), actual[0], 1e-9, "Cached bounds should follow translateX");
+        assertEquals(expected.get().getMaxY(), actual[1], 1e-9);
+    }
 }
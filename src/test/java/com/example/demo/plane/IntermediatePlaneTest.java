@@ -3,6 +3,7 @@ package com.example.demo.plane;
 import com.example.demo.ActiveActorDestructible;
 import com.example.demo.projectile.EnemyProjectile;
 import javafx.application.Platform;
+import javafx.geometry.Bounds;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.testfx.framework.junit5.ApplicationTest;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.testfx.util.WaitForAsyncUtils.waitForFxEvents;
 
@@ -121,5 +124,22 @@ public class IntermediatePlaneTest extends ApplicationTest {
         waitForFxEvents();
     }
 
+    @Test
+    public void testWorldBoundsFollowLayout() {
+        AtomicReference<Bounds> expected = new AtomicReference<>();
+        double[] actual = new double[2];
+        Platform.runLater(() -> {
+            intermediatePlane.getWorldMinX(); // Read once so the cached bounds are valid before the move
+            intermediatePlane.updatePosition();
+
+            expected.set(intermediatePlane.getBoundsInParent());
+            actual[0] = intermediatePlane.getWorldMinX();
+            actual[1] = intermediatePlane.getWorldWidth();
+        });
+        waitForFxEvents();
 
+        assertNotNull(expected.get(), "The FX task should have run");
+        assertEquals(expected.get().getMinX(), actual[0], 1e-9, "Cached bounds should follow layoutX");
+        assertEquals(expected.get().getWidth(), actual[1], 1e-9);
+    }
 }
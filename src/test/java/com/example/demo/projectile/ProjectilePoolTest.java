@@ -0,0 +1,82 @@
+package com.example.demo.projectile;
+
+import com.example.demo.ActiveActorDestructible;
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectilePoolTest {
+
+    private ProjectilePool<UserProjectile> pool;
+
+    @BeforeAll
+    public static void initializeJavaFX() throws InterruptedException {
+        // Initialize JavaFX runtime
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ProjectilePool<>(() -> new UserProjectile(0, 0), 4);
+    }
+
+    @Test
+    public void testAcquireCreatesWhenEmpty() {
+        UserProjectile projectile = pool.acquire(100.0, 200.0);
+
+        assertEquals(100.0, projectile.getLayoutX(), "Acquired projectile should start at the requested X");
+        assertEquals(200.0, projectile.getLayoutY(), "Acquired projectile should start at the requested Y");
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(1, pool.getInUseCount());
+    }
+
+    @Test
+    public void testReleasedProjectileIsReusedAndReset() {
+        UserProjectile first = pool.acquire(100.0, 200.0);
+        first.updateActor();
+        first.setDestroyedBy(ActiveActorDestructible.DestroyedBy.USER_PROJECTILE);
+        first.takeDamage();
+        pool.release(first);
+
+        UserProjectile second = pool.acquire(300.0, 400.0);
+
+        assertSame(first, second, "Released projectile should be reused");
+        assertFalse(second.isDestroyed(), "Reused projectile should no longer be destroyed");
+        assertEquals(ActiveActorDestructible.DestroyedBy.NONE, second.getDestroyedBy(), "Cause of destruction should be cleared");
+        assertEquals(300.0, second.getLayoutX(), "Reused projectile should move to the new X");
+        assertEquals(400.0, second.getLayoutY(), "Reused projectile should move to the new Y");
+        assertEquals(1, pool.getCreatedCount(), "No new projectile should be created in steady state");
+    }
+
+    @Test
+    public void testDoubleReleaseIsIgnored() {
+        UserProjectile projectile = pool.acquire(0, 0);
+        pool.release(projectile);
+        pool.release(projectile);
+
+        assertEquals(1, pool.getIdleCount(), "A projectile should only be pooled once");
+        assertEquals(1, pool.getReleasedCount());
+        assertEquals(0, pool.getInUseCount());
+    }
+
+    @Test
+    public void testIdleCountIsCapped() {
+        UserProjectile[] projectiles = new UserProjectile[6];
+        for (int i = 0; i < projectiles.length; i++) {
+            projectiles[i] = pool.acquire(0, 0);
+        }
+        for (UserProjectile projectile : projectiles) {
+            pool.release(projectile);
+        }
+
+        assertEquals(4, pool.getIdleCount(), "Idle projectiles beyond the cap should be dropped");
+        assertEquals(6, pool.getPeakInUseCount());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.projectile;
+
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectileStoreTest {
+
+    private ProjectileStore store;
+
+    @BeforeAll
+    public static void initializeJavaFX() throws InterruptedException {
+        // Initialize JavaFX runtime
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        store = new ProjectileStore();
+    }
+
+    @Test
+    public void testAdvanceMovesStoredPositionOnly() {
+        UserProjectile projectile = new UserProjectile(100.0, 200.0);
+        store.add(projectile);
+
+        store.advance();
+
+        int slot = store.slotOf(projectile);
+        assertEquals(115.0, store.getMinX(slot), "Stored position should move by the velocity");
+        assertEquals(100.0, projectile.getLayoutX(), "The node should not move until a frame is rendered");
+    }
+
+    @Test
+    public void testRenderInterpolatesNodePosition() {
+        EnemyProjectile projectile = new EnemyProjectile(300.0, 50.0);
+        store.add(projectile);
+        store.advance();
+
+        store.render(0.5);
+        assertEquals(295.0, projectile.getLayoutX(), "Half way between 300 and 290");
+
+        store.render(1.0);
+        assertEquals(290.0, projectile.getLayoutX());
+        assertEquals(50.0, projectile.getLayoutY());
+    }
+
+    @Test
+    public void testBoundsMatchTheNode() {
+        BossProjectile projectile = new BossProjectile(120.0);
+        store.add(projectile);
+        int slot = store.slotOf(projectile);
+
+        assertEquals(projectile.getBoundsInParent().getMinX(), store.getMinX(slot), 1e-9);
+        assertEquals(projectile.getBoundsInParent().getMinY(), store.getMinY(slot), 1e-9);
+        assertEquals(projectile.getBoundsInParent().getMaxX(), store.getMaxX(slot), 1e-9);
+        assertEquals(projectile.getBoundsInParent().getMaxY(), store.getMaxY(slot), 1e-9);
+    }
+
+    @Test
+    public void testDestroyedProjectilesAreDroppedOnNextAdvance() {
+        UserProjectile destroyed = new UserProjectile(0, 0);
+        UserProjectile survivor = new UserProjectile(10, 0);
+        store.add(destroyed);
+        store.add(survivor);
+
+        destroyed.destroy();
+        store.advance();
+
+        assertEquals(1, store.size());
+        assertEquals(-1, store.slotOf(destroyed), "Dropped projectiles should leave the store");
+        assertEquals(25.0, store.getMinX(store.slotOf(survivor)), "The survivor should keep its own state after compaction");
+    }
+
+    @Test
+    public void testAddingTwiceResetsTheEntry() {
+        UserProjectile projectile = new UserProjectile(0, 0);
+        store.add(projectile);
+        store.advance();
+
+        projectile.reset(500, 40);
+        store.add(projectile);
+
+        assertEquals(1, store.size(), "A projectile should only have one entry");
+        assertEquals(500.0, store.getMinX(store.slotOf(projectile)));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.renderer;
+
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanvasRendererTest {
+
+    private Group root;
+    private CanvasRenderer renderer;
+
+    @BeforeAll
+    public static void initializeJavaFX() throws InterruptedException {
+        // Initialize JavaFX runtime
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        root = new Group();
+        renderer = new CanvasRenderer(root, 1300, 750);
+    }
+
+    @Test
+    public void testOnlyTheCanvasIsAddedToTheScene() {
+        ImageView actor = new ImageView();
+        renderer.add(actor, RenderLayer.PLANES);
+
+        assertEquals(List.of(renderer.getCanvas()), root.getChildren(), "Actors should be drawn on the canvas, not added as nodes");
+        assertTrue(renderer.contains(actor));
+    }
+
+    @Test
+    public void testRemove() {
+        ImageView plane = new ImageView();
+        ImageView projectile = new ImageView();
+        renderer.add(plane, RenderLayer.PLANES);
+        renderer.add(projectile, RenderLayer.PROJECTILES);
+
+        renderer.removeAll(List.of(plane, projectile));
+
+        assertFalse(renderer.contains(plane));
+        assertFalse(renderer.contains(projectile));
+        assertDoesNotThrow(renderer::render);
+    }
+
+    @Test
+    public void testSceneGraphRendererAddsNodesToRoot() {
+        Group sceneRoot = new Group();
+        Renderer sceneGraphRenderer = RenderMode.SCENE_GRAPH.createRenderer(sceneRoot, 1300, 750);
+        ImageView actor = new ImageView();
+
+        sceneGraphRenderer.add(actor, RenderLayer.PLANES);
+        assertTrue(sceneRoot.getChildren().contains(actor));
+
+        sceneGraphRenderer.remove(actor);
+        assertFalse(sceneRoot.getChildren().contains(actor));
+    }
+
+    @Test
+    public void testSceneGraphRendererAddsNodesToTheirLayer() {
+        Map<RenderLayer, Group> layers = new EnumMap<>(RenderLayer.class);
+        for (RenderLayer layer : RenderLayer.values()) {
+            layers.put(layer, new Group());
+        }
+        Renderer sceneGraphRenderer = RenderMode.SCENE_GRAPH.createRenderer(layers, 1300, 750);
+        ImageView enemy = new ImageView();
+        ImageView shield = new ImageView();
+
+        sceneGraphRenderer.add(enemy, RenderLayer.PLANES);
+        sceneGraphRenderer.add(shield, RenderLayer.SHIELDS);
+        assertEquals(List.of(enemy), layers.get(RenderLayer.PLANES).getChildren());
+        assertEquals(List.of(shield), layers.get(RenderLayer.SHIELDS).getChildren());
+        assertTrue(sceneGraphRenderer.contains(shield));
+
+        sceneGraphRenderer.removeAll(List.of(enemy, shield));
+        assertTrue(layers.get(RenderLayer.PLANES).getChildren().isEmpty());
+        assertFalse(sceneGraphRenderer.contains(shield));
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.demo.renderer;
+
+import com.example.demo.assetmanager.ImageCache;
+import com.example.demo.gamemanager.Histogram;
+import com.example.demo.plane.EnemyPlane;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * Compares frame times of the scene graph and canvas renderers with 100, 1,000 and 5,000 moving sprites.
+ * Each case runs in a window for a warm-up period and is then measured; results are printed as
+ * p50/p99 of the time between frames and of the time spent moving and drawing the sprites.
+ * Run with {@code -Djavafx.animation.fullspeed=true -Dprism.vsync=false} so frame times are not capped by the display.
+ * Kept with the tests so it is not shipped with the game; run its main method from the test classpath.
+ */
+public class RendererBenchmark {
+
+    private static final int[] ENTITY_COUNTS = {100, 1_000, 5_000};
+    private static final int WARMUP_FRAMES = 60;
+    private static final int MEASURED_FRAMES = 300;
+    private static final double SCREEN_WIDTH = 1300;
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double MAX_SPEED = 8;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Stage stage;
+    private final Deque<Runnable> cases = new ArrayDeque<>();
+    private final Random random = new Random(42);
+
+    /**
+     * Constructs a new RendererBenchmark showing its cases on the given stage.
+     *
+     * @param stage the stage to draw on
+     */
+    public RendererBenchmark(Stage stage) {
+        this.stage = stage;
+        for (RenderMode mode : RenderMode.values()) {
+            for (int count : ENTITY_COUNTS) {
+                cases.add(() -> runCase(mode, count));
+            }
+        }
+    }
+
+    /**
+     * Runs every case one after another, then exits JavaFX.
+     */
+    public void start() {
+        stage.setTitle("Renderer Benchmark");
+        stage.show();
+        runNextCase();
+    }
+
+    /**
+     * Starts the next case, or exits once all cases have run.
+     */
+    private void runNextCase() {
+        Runnable next = cases.poll();
+        if (next == null) {
+            Platform.exit();
+            return;
+        }
+        next.run();
+    }
+
+    /**
+     * Shows a number of moving sprites with one renderer and measures its frame times.
+     *
+     * @param mode  the renderer to measure
+     * @param count the number of sprites
+     */
+    private void runCase(RenderMode mode, int count) {
+        Group root = new Group();
+        stage.setScene(new Scene(root, SCREEN_WIDTH, SCREEN_HEIGHT));
+        Renderer renderer = mode.createRenderer(root, SCREEN_WIDTH, SCREEN_HEIGHT);
+
+        Image sprite = ImageCache.getInstance().getImage(EnemyPlane.IMAGE_NAME, EnemyPlane.IMAGE_HEIGHT);
+        ImageView[] sprites = new ImageView[count];
+        double[] velocityX = new double[count];
+        double[] velocityY = new double[count];
+        for (int i = 0; i < count; i++) {
+            ImageView view = new ImageView(sprite);
+            view.setFitHeight(EnemyPlane.IMAGE_HEIGHT);
+            view.setPreserveRatio(true);
+            view.setLayoutX(random.nextDouble() * SCREEN_WIDTH);
+            view.setLayoutY(random.nextDouble() * SCREEN_HEIGHT);
+            velocityX[i] = (random.nextDouble() * 2 - 1) * MAX_SPEED;
+            velocityY[i] = (random.nextDouble() * 2 - 1) * MAX_SPEED;
+            sprites[i] = view;
+            renderer.add(view, RenderLayer.PLANES);
+        }
+
+        Histogram frameTimes = new Histogram();
+        Histogram updateTimes = new Histogram();
+        new AnimationTimer() {
+            private long lastFrame = -1;
+            private int frame;
+
+            @Override
+            public void handle(long now) {
+                if (lastFrame >= 0 && frame > WARMUP_FRAMES) {
+                    frameTimes.record(now - lastFrame);
+                }
+                lastFrame = now;
+                long start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    ImageView view = sprites[i];
+                    view.setLayoutX(wrap(view.getLayoutX() + velocityX[i], SCREEN_WIDTH));
+                    view.setLayoutY(wrap(view.getLayoutY() + velocityY[i], SCREEN_HEIGHT));
+                }
+                renderer.render();
+                renderer.present();
+                if (frame > WARMUP_FRAMES) {
+                    updateTimes.record(System.nanoTime() - start);
+                }
+                if (++frame > WARMUP_FRAMES + MEASURED_FRAMES) {
+                    stop();
+                    report(mode, count, frameTimes, updateTimes);
+                    runNextCase();
+                }
+            }
+        }.start();
+    }
+
+    /**
+     * Wraps a coordinate around the screen edge.
+     *
+     * @param value the coordinate
+     * @param limit the screen size along the axis
+     * @return the wrapped coordinate
+     */
+    private static double wrap(double value, double limit) {
+        if (value < 0) {
+            return value + limit;
+        }
+        return value > limit ? value - limit : value;
+    }
+
+    /**
+     * Prints the results of one case.
+     *
+     * @param mode        the measured renderer
+     * @param count       the number of sprites
+     * @param frameTimes  the time between frames, in nanoseconds
+     * @param updateTimes the time spent moving and drawing sprites, in nanoseconds
+     */
+    private static void report(RenderMode mode, int count, Histogram frameTimes, Histogram updateTimes) {
+        System.out.printf("%-12s %6d sprites: frame p50 %6.2f ms, p99 %6.2f ms | update p50 %6.2f ms, p99 %6.2f ms%n",
+                mode.getDisplayName(), count,
+                frameTimes.getPercentile(50) / NANOS_PER_MILLI, frameTimes.getPercentile(99) / NANOS_PER_MILLI,
+                updateTimes.getPercentile(50) / NANOS_PER_MILLI, updateTimes.getPercentile(99) / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        Platform.startup(() -> new RendererBenchmark(new Stage()).start());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.renderer;
+
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotRendererTest {
+
+    private Group root;
+    private SnapshotRenderer renderer;
+
+    @BeforeAll
+    public static void initializeJavaFX() throws InterruptedException {
+        // Initialize JavaFX runtime
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        root = new Group();
+        renderer = new SnapshotRenderer(root, 1300, 750);
+    }
+
+    private ImageView sprite() {
+        return new ImageView(new WritableImage(4, 4));
+    }
+
+    @Test
+    public void testOnlyTheCanvasIsAddedToTheScene() {
+        renderer.add(sprite(), RenderLayer.PLANES);
+
+        assertEquals(List.of(renderer.getCanvas()), root.getChildren(), "Actors should be drawn on the canvas, not added as nodes");
+    }
+
+    @Test
+    public void testSnapshotKeepsTheFrameItWasRenderedIn() {
+        ImageView first = sprite();
+        renderer.add(first, RenderLayer.PLANES);
+        renderer.render();
+
+        renderer.add(sprite(), RenderLayer.PLANES);
+
+        assertTrue(renderer.takeLatest(), "A rendered frame should be available for presenting");
+        assertEquals(1, renderer.getPresented().size(), "Actors added after rendering belong to the next frame");
+    }
+
+    @Test
+    public void testOnlyTheNewestFrameIsPresented() {
+        renderer.add(sprite(), RenderLayer.PLANES);
+        renderer.render();
+        renderer.add(sprite(), RenderLayer.PLANES);
+        renderer.render();
+
+        assertTrue(renderer.takeLatest());
+        assertEquals(2, renderer.getPresented().size(), "The older frame should have been replaced");
+        assertFalse(renderer.takeLatest(), "A frame should only be presented once");
+    }
+
+    @Test
+    public void testThreadedModeCreatesSnapshotRenderer() {
+        assertTrue(RenderMode.THREADED_CANVAS.isThreaded());
+        assertFalse(RenderMode.CANVAS.isThreaded());
+        assertInstanceOf(SnapshotRenderer.class, RenderMode.THREADED_CANVAS.createRenderer(new Group(), 1300, 750));
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.InputCommand;
+import com.example.demo.gamemanager.RandomService;
+import com.example.demo.level.LevelParent;
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessSimulationTest {
+
+    private static final List<String> LEVELS = List.of(
+            "com.example.demo.level.LevelOne",
+            "com.example.demo.level.LevelTwo",
+            "com.example.demo.level.LevelThree",
+            "com.example.demo.level.LevelFour");
+    private static final long MAX_TICKS = 2_000;
+    private static final long SEED = 20_241_118L;
+
+    @BeforeAll
+    public static void initializeJavaFX() throws InterruptedException {
+        // Initialize the JavaFX toolkit; on machines without a display the Monocle headless platform is used
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await();
+    }
+
+    @Test
+    public void testEveryLevelPlaysToAnEndWithRandomInput() throws InterruptedException {
+        runAndWait(() -> {
+            HeadlessSimulation simulation = new HeadlessSimulation(750, 1300, MAX_TICKS);
+            for (String level : LEVELS) {
+                SimulationResult result = simulation.run(level, new RandomInputSource(SEED, 0.1, 0.3), SEED);
+                assertEquals(level, result.getLevelClassName());
+                assertTrue(result.getTicks() > 0 && result.getTicks() <= MAX_TICKS, "Ticks out of range for " + level);
+                assertTrue(result.isFinished() || result.getTicks() == MAX_TICKS,
+                        level + " should end or reach the tick limit");
+                assertTrue(result.getUserHealth() >= 0, "Health should never be negative in " + level);
+                assertTrue(result.getKills() >= 0, "Kills should never be negative in " + level);
+                if (result.isWon()) {
+                    assertTrue(result.isFinished(), "A won game of " + level + " should be finished");
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testScriptedInputIsGivenOnItsTicks() throws InterruptedException {
+        runAndWait(() -> {
+            HeadlessSimulation simulation = new HeadlessSimulation(750, 1300, MAX_TICKS);
+            ScriptedInputSource idle = new ScriptedInputSource();
+            // LevelFour is left out: its allies fire for the player
+            for (String level : LEVELS.subList(0, 3)) {
+                SimulationResult result = simulation.run(level, idle, SEED);
+                assertFalse(result.isWon(), "A player who never fires should not win " + level);
+                assertEquals(0, result.getKills(), "A player who never fires should not kill in " + level);
+            }
+
+            ScriptedInputSource firing = new ScriptedInputSource();
+            for (long tick = 0; tick < MAX_TICKS; tick += 5) {
+                firing.at(tick, InputCommand.FIRE);
+            }
+            SimulationResult result = simulation.run("com.example.demo.level.LevelOne", firing, SEED);
+            assertTrue(result.getKills() > 0, "Firing throughout LevelOne should destroy an enemy");
+        });
+    }
+
+    @Test
+    public void testSameSeedAndInputPlayTheSameGame() throws InterruptedException {
+        runAndWait(() -> {
+            HeadlessSimulation simulation = new HeadlessSimulation(750, 1300, MAX_TICKS);
+            for (String level : LEVELS) {
+                SimulationResult first = simulation.run(level, new RandomInputSource(SEED, 0.1, 0.3), SEED);
+                SimulationResult second = simulation.run(level, new RandomInputSource(SEED, 0.1, 0.3), SEED);
+                assertEquals(first, second, "The same seed and input should play the same game of " + level);
+            }
+        });
+    }
+
+    @Test
+    public void testReplayPlaysTheRecordedRunAgain() throws InterruptedException {
+        runAndWait(() -> {
+            HeadlessSimulation simulation = new HeadlessSimulation(750, 1300, MAX_TICKS);
+            for (String levelClassName : LEVELS) {
+                // Record a run by giving the commands to the level, as the keyboard would
+                LevelParent level = HeadlessSimulation.createLevel(levelClassName, 750, 1300, true, new RandomService(SEED));
+                InputSource input = new RandomInputSource(SEED, 0.1, 0.3);
+                level.startHeadless();
+                while (!level.isGameOver() && level.getTickCount() < MAX_TICKS) {
+                    input.poll(level.getTickCount(), level::handleInput);
+                    level.step();
+                }
+                SimulationResult recorded = new SimulationResult(levelClassName, level.isGameWon(), level.isGameOver(),
+                        level.getTickCount(), level.getUser().getHealth(), level.getUser().getNumberOfKills());
+                Replay replay = level.getReplay();
+                level.stopGame();
+
+                SimulationResult replayed = simulation.replay(replay);
+                assertEquals(recorded.getTicks(), replayed.getTicks(), "The replay of " + levelClassName + " should last as long as the run");
+                assertEquals(recorded, replayed, "The replay of " + levelClassName + " should end like the run");
+            }
+        });
+    }
+
+    /**
+     * Runs a task on the JavaFX Application Thread and waits for it, rethrowing any assertion failure.
+     *
+     * @param action the task
+     */
+    private void runAndWait(Runnable action) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(60, TimeUnit.SECONDS), "FX task timed out");
+        if (failure.get() != null) {
+            fail(failure.get());
+        }
+    }
+}
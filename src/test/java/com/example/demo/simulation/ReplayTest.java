@@ -0,0 +1,84 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.InputCommand;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplayTest {
+
+    private Replay recordSample() {
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.record(0, InputCommand.MOVE_UP);
+        recorder.record(3, InputCommand.FIRE);
+        recorder.record(3, InputCommand.STOP);
+        recorder.record(100_000, InputCommand.MOVE_DOWN);
+        return recorder.toReplay("com.example.demo.level.LevelTwo", -42L, 3, 123_456);
+    }
+
+    private List<InputCommand> poll(InputSource source, long tick) {
+        List<InputCommand> commands = new ArrayList<>();
+        source.poll(tick, commands::add);
+        return commands;
+    }
+
+    @Test
+    public void testWriteThenReadGivesTheSameReplay() throws IOException {
+        Replay replay = recordSample();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+
+        Replay read = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals("com.example.demo.level.LevelTwo", read.getLevelClassName());
+        assertEquals(-42L, read.getSeed());
+        assertEquals(3, read.getPlaneNumber());
+        assertEquals(123_456, read.getEndTick());
+        assertEquals(4, read.getCommandCount());
+        for (int i = 0; i < replay.getCommandCount(); i++) {
+            assertEquals(replay.getTick(i), read.getTick(i));
+            assertEquals(replay.getCommand(i), read.getCommand(i));
+        }
+    }
+
+    @Test
+    public void testReadRejectsOtherFiles() {
+        byte[] notAReplay = "not a replay".getBytes();
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(notAReplay)));
+    }
+
+    @Test
+    public void testReadRejectsTruncatedReplays() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recordSample().write(out);
+        byte[] bytes = out.toByteArray();
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(truncated)));
+    }
+
+    @Test
+    public void testTicksMustNotDecrease() {
+        assertThrows(IllegalArgumentException.class, () -> new Replay("Level", 0, 1, 10,
+                new long[] {5, 4}, new InputCommand[] {InputCommand.FIRE, InputCommand.FIRE}));
+    }
+
+    @Test
+    public void testInputSourceGivesCommandsOnTheirTick() {
+        ReplayInputSource source = new ReplayInputSource(recordSample());
+
+        assertEquals(List.of(InputCommand.MOVE_UP), poll(source, 0));
+        assertTrue(poll(source, 2).isEmpty());
+        assertEquals(List.of(InputCommand.FIRE, InputCommand.STOP), poll(source, 3), "Commands should keep their order");
+        assertFalse(source.isFinished());
+        assertEquals(List.of(InputCommand.MOVE_DOWN), poll(source, 100_000));
+        assertTrue(source.isFinished());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.simulation;
+
+import com.example.demo.gamemanager.InputCommand;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScriptedInputSourceTest {
+
+    private List<InputCommand> poll(InputSource source, long tick) {
+        List<InputCommand> commands = new ArrayList<>();
+        source.poll(tick, commands::add);
+        return commands;
+    }
+
+    @Test
+    public void testCommandsAreGivenOnTheirTick() {
+        ScriptedInputSource source = new ScriptedInputSource()
+                .at(0, InputCommand.MOVE_UP)
+                .at(5, InputCommand.FIRE)
+                .at(5, InputCommand.STOP);
+
+        assertEquals(List.of(InputCommand.MOVE_UP), poll(source, 0));
+        assertTrue(poll(source, 1).isEmpty(), "No commands should be given between scripted ticks");
+        assertEquals(List.of(InputCommand.FIRE, InputCommand.STOP), poll(source, 5), "Commands should keep their order");
+    }
+
+    @Test
+    public void testParse() {
+        ScriptedInputSource source = ScriptedInputSource.parse("# warm up\n10 MOVE_DOWN\n\n12 FIRE\n");
+
+        assertEquals(List.of(InputCommand.MOVE_DOWN), poll(source, 10));
+        assertEquals(List.of(InputCommand.FIRE), poll(source, 12));
+    }
+
+    @Test
+    public void testParseRejectsBadLines() {
+        assertThrows(IllegalArgumentException.class, () -> ScriptedInputSource.parse("ten FIRE"));
+        assertThrows(IllegalArgumentException.class, () -> ScriptedInputSource.parse("10 JUMP"));
+        assertThrows(IllegalArgumentException.class, () -> ScriptedInputSource.parse("10"));
+    }
+
+    @Test
+    public void testRandomSourceIsRepeatable() {
+        List<InputCommand> first = new ArrayList<>();
+        List<InputCommand> second = new ArrayList<>();
+        InputSource a = new RandomInputSource(7, 0.5, 0.5);
+        InputSource b = new RandomInputSource(7, 0.5, 0.5);
+        for (long tick = 0; tick < 100; tick++) {
+            a.poll(tick, first::add);
+            b.poll(tick, second::add);
+        }
+        assertFalse(first.isEmpty());
+        assertEquals(first, second, "The same seed should give the same commands");
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.styles;
 
 import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +16,7 @@ public class FontManagerTest {
     @BeforeEach
     public void setUp() {
         fontManager = FontManager.getInstance(); // Get the singleton instance
+        fontManager.clearCache();
     }
 
     @Test
@@ -64,4 +66,29 @@ public class FontManagerTest {
             }
         }
     }
+
+    @Test
+    public void testRepeatedRequestsShareFont() {
+        Font first = fontManager.getFont("Sugar Bomb", 16);
+        Font second = fontManager.getFont("Sugar Bomb", 16);
+
+        assertSame(first, second, "Repeated requests should return the same font");
+        assertEquals(1, fontManager.getMissCount(), "Only the first request should resolve the font");
+        assertEquals(1, fontManager.getHitCount(), "The second request should be served from the cache");
+        assertEquals(1, fontManager.getCachedFontCount());
+    }
+
+    @Test
+    public void testSizeAndWeightAreCachedSeparately() {
+        Font regular = fontManager.getFont("Pixel Digivolve", 20);
+        Font larger = fontManager.getFont("Pixel Digivolve", 24);
+        Font bold = fontManager.getFont("Pixel Digivolve", FontWeight.BOLD, 20);
+
+        assertEquals(20, regular.getSize());
+        assertEquals(24, larger.getSize());
+        assertNotSame(regular, bold, "Different weights should be cached as different fonts");
+        assertSame(regular, fontManager.getFont("Pixel Digivolve", FontWeight.NORMAL, 20),
+                "The two-argument lookup should use the normal weight");
+        assertEquals(3, fontManager.getCachedFontCount());
+    }
 }